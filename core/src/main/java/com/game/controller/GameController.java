@@ -8,16 +8,35 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.game.model.entities.Collectible;
+import com.game.model.entities.CollisionLayer;
 import com.game.model.entities.Enemy;
+import com.game.model.entities.Entity;
 import com.game.model.entities.Player;
-import com.game.model.entities.Projectile;
 import com.game.model.factories.EntityFactory;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.factories.ProjectileType;
+import com.game.model.managers.AiScheduler;
+import com.game.model.managers.CollectibleMagnet;
 import com.game.model.managers.CollisionManager;
+import com.game.model.managers.DataReloader;
+import com.game.model.managers.EnemyActivity;
 import com.game.model.managers.GameState;
+import com.game.model.managers.LootCoalescer;
+import com.game.model.managers.ProjectileSystem;
+import com.game.model.managers.SaveManager;
+import com.game.model.managers.SpatialGrid;
+import com.game.model.managers.SpawnIndex;
+import com.game.model.managers.TimerWheel;
 import com.game.model.managers.WaveManager;
 import com.game.view.GameRenderer;
+import com.game.utils.GameRandom;
+import com.game.utils.Log;
+import com.game.utils.TelemetryWriter;
 
-import java.util.Random;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Contrôleur principal du jeu (CONTROLLER)
@@ -30,41 +49,84 @@ public class GameController {
     private GameState gameState;
     // Gestionnaire des collisions et obstacles
     private CollisionManager collisionManager;
+    // Frequence de mise a jour des ennemis selon leur distance au joueur
+    private AiScheduler aiScheduler;
     // Gestion des vagues d'ennemis
     private WaveManager waveManager;
+    // Positions de spawn libres (construit au chargement de la carte)
+    private SpawnIndex spawnIndex;
     // Rendu graphique du jeu
     private GameRenderer renderer;
+    // Objets a ramasser ranges par cellule, attires vers le joueur proche
+    private SpatialGrid collectibleGrid;
+    private CollectibleMagnet magnet;
+    private LootCoalescer lootCoalescer;
+    private static final float COLLECTIBLE_CELL_SIZE = 128f;
+    // Ennemis ranges par cellule (visee automatique, tirs a tete chercheuse)
+    private SpatialGrid enemyGrid;
+    private static final float ENEMY_CELL_SIZE = 64f;
+
+    // Dimensions de la map en pixels (lues depuis la carte chargee)
+    private float mapWidth;
+    private float mapHeight;
+
+    // Cooldown entre deux tirs (minuterie du GameState, NONE : pret a tirer)
+    private int shootCooldown = TimerWheel.NONE;
+    private static final float SHOOT_COOLDOWN_MAX = 0.5f;
 
-    // Dimensions de la map en pixels
-    private static final float MAP_WIDTH = 720f;
-    private static final float MAP_HEIGHT = 720f;
+    // Visee automatique sur l'ennemi le plus proche (touche T)
+    private boolean autoAim;
+    private static final float AUTO_AIM_RANGE = 300f;
 
-    // Cooldown entre deux tirs
-    private float shootCooldown;
-    private static final float SHOOT_COOLDOWN_MAX = 0.5f;
+    // Type tire par le joueur (resolu une fois)
+    private ProjectileType playerProjectile;
 
     // Textures partagees pour les entites
-    private Texture projectileTexture;
     private Texture coinTexture;
     private Texture expTexture;
 
     // Generateur aleatoire pour placements
-    private Random random;
+    private GameRandom random;
+
+    // Sauvegarde binaire de la partie
+    private SaveManager saveManager;
+    private float autosaveTimer;
+    private static final float AUTOSAVE_INTERVAL = 30f;
+
+    // Journal des metriques par tick (null si desactive)
+    private TelemetryWriter telemetry;
+
+    // Rechargement a chaud des JSON (null si desactive)
+    private DataReloader dataReloader;
 
     public GameController() {
+        this(false);
+    }
+
+    /**
+     * @param resume Reprendre la partie sauvegardée si elle existe
+     */
+    public GameController(boolean resume) {
         // Logs de demarrage
-        System.out.println("========================================");
-        System.out.println("INITIALISATION DU CONTRÔLEUR");
-        System.out.println("========================================");
+        Log.info("INITIALISATION DU CONTRÔLEUR");
 
         // Initialisations de base
-        random = new Random();
+        random = new GameRandom();
+        saveManager = new SaveManager();
 
-        // Creation des composants principaux
-        gameState = new GameState(MAP_WIDTH, MAP_HEIGHT);
+        // Creation des composants principaux (la carte fixe les dimensions)
+        renderer = new GameRenderer();
+        mapWidth = renderer.getMapWidth();
+        mapHeight = renderer.getMapHeight();
+        gameState = new GameState(mapWidth, mapHeight);
+        collectibleGrid = new SpatialGrid(mapWidth, mapHeight, COLLECTIBLE_CELL_SIZE);
+        magnet = new CollectibleMagnet(collectibleGrid);
+        lootCoalescer = new LootCoalescer(gameState, collectibleGrid, mapWidth, mapHeight);
+        enemyGrid = new SpatialGrid(mapWidth, mapHeight, ENEMY_CELL_SIZE);
         collisionManager = new CollisionManager();
+        aiScheduler = new AiScheduler();
         waveManager = new WaveManager();
-        renderer = new GameRenderer();
+        waveManager.setMapSize(mapWidth, mapHeight);
 
         // Chargements et setup initial
         loadTextures();
@@ -72,34 +134,34 @@ public class GameController {
         createPlayerInSafePosition();
 
         // Liaisons et data des ennemis
-        waveManager.setCollisionManager(collisionManager);
+        waveManager.setSpawnIndex(spawnIndex);
         EntityFactory.loadEnemyTypes();
 
-        // Demarrer la premiere vague
-        waveManager.startWave(1);
-        gameState.setCurrentWave(1);
-
         // Cooldown de tir initial
-        shootCooldown = 0;
+        shootCooldown = TimerWheel.NONE;
+
+        telemetry = TelemetryWriter.open();
+        dataReloader = DataReloader.start();
+
+        // Reprise de la sauvegarde, sinon premiere vague
+        if (!resume || !restoreSnapshot()) {
+            waveManager.startWave(1);
+            gameState.setCurrentWave(1);
+        }
 
-        System.out.println(" Contrôleur prêt !");
-        System.out.println("========================================");
+        Log.info("Contrôleur prêt !");
     }
 
     private void loadTextures() {
-        try {
-            // Texture du projectile
-            projectileTexture = new Texture("sprite/cannon.png");
-        } catch (Exception e) {
-            System.err.println(" Erreur chargement texture projectile");
-            projectileTexture = createColorTexture(255, 255, 0);
-        }
+        // Types de projectiles (textures partagees par type)
+        ProjectileFactory.loadProjectileTypes();
+        playerProjectile = ProjectileFactory.getType(ProjectileFactory.DEFAULT_TYPE);
 
         try {
             // Texture des pieces
             coinTexture = new Texture("sprite/coin.png");
         } catch (Exception e) {
-            System.err.println(" Erreur chargement texture coin");
+            Log.warn("Erreur chargement texture coin");
             coinTexture = createColorTexture(255, 215, 0);
         }
 
@@ -107,54 +169,43 @@ public class GameController {
             // Texture de l'XP (etoile)
             expTexture = new Texture("sprite/star.png");
         } catch (Exception e) {
-            System.err.println(" Erreur chargement texture XP");
+            Log.warn("Erreur chargement texture XP");
             expTexture = createColorTexture(0, 255, 255);
         }
     }
 
     private void loadMapCollisions() {
+        // Carte par chunks : obstacles charges avec les chunks autour du joueur
+        if (renderer.getChunkedMap() != null) {
+            renderer.getChunkedMap().preload(mapWidth / 2, mapHeight / 2);
+            collisionManager.setChunkedMap(renderer.getChunkedMap());
+
+            // Index des positions libres sur le voisinage precharge
+            Rectangle area = renderer.getChunkedMap().getActiveBounds(new Rectangle());
+            spawnIndex = SpawnIndex.build(collisionManager, area.x, area.y, area.width, area.height);
+            return;
+        }
+
         // Charger les obstacles depuis la map Tiled si disponible
         if (renderer.getMapLoader().getMap() != null) {
             collisionManager.loadObstaclesFromMap(renderer.getMapLoader().getMap());
         } else {
-            System.err.println(" Map non chargée, pas d'obstacles");
+            Log.warn("Map non chargée, pas d'obstacles");
         }
+
+        // Index des positions libres (spawns du joueur et des ennemis)
+        spawnIndex = SpawnIndex.build(collisionManager, 0, 0, mapWidth, mapHeight);
     }
 
     private void createPlayerInSafePosition() {
         // Placement du joueur dans une zone sans collision
-        System.out.println("========================================");
-        System.out.println(" CRÉATION DU JOUEUR");
-        System.out.println("========================================");
-
-        // Variables de recherche d'une position libre
-        float x = MAP_WIDTH / 2;
-        float y = MAP_HEIGHT / 2;
-        boolean foundSafeSpot = false;
-        int attempts = 0;
-        int maxAttempts = 100;
-
-        // Essayer plusieurs positions aleatoires
-        while (!foundSafeSpot && attempts < maxAttempts) {
-            x = 100 + random.nextFloat() * (MAP_WIDTH - 200);
-            y = 100 + random.nextFloat() * (MAP_HEIGHT - 200);
-
-            // Rectangle de test pour collision
-            Rectangle testRect = new Rectangle(x, y, 32, 32);
-
-            if (!collisionManager.isCollidingWithObstacles(testRect)) {
-                foundSafeSpot = true;
-                System.out.println(" Position sûre trouvée : (" + (int)x + ", " + (int)y + ") après " + attempts + " tentatives");
-            }
+        Log.info("CRÉATION DU JOUEUR");
 
-            attempts++;
-        }
-
-        // Si aucune position libre, garder la position actuelle
-        if (!foundSafeSpot) {
-            System.err.println(" Aucune position sûre trouvée après " + maxAttempts + " tentatives");
-            System.err.println("   Utilisation du centre de la map : (" + (int)x + ", " + (int)y + ")");
-        }
+        // Position libre tiree dans l'index (loin des bords)
+        Vector2 spawn = spawnIndex.pickInterior(random, new Vector2());
+        float x = spawn.x;
+        float y = spawn.y;
+        Log.info("Position sûre : ({}, {})", (int) x, (int) y);
 
         // Creation de l'entite joueur
         Player player = new Player(x, y, 32, 32);
@@ -165,14 +216,12 @@ public class GameController {
             Texture playerTexture = new Texture("sprite/player.png");
             player.setTexture(playerTexture);
         } catch (Exception e) {
-            System.err.println(" Texture joueur non trouvée");
+            Log.warn("Texture joueur non trouvée");
             player.setTexture(createColorTexture(0, 255, 0));
         }
 
         // Enregistrer le joueur dans l'etat
         gameState.setPlayer(player);
-
-        System.out.println("========================================");
     }
 
     public void update(float delta) {
@@ -180,9 +229,17 @@ public class GameController {
         // Si le joueur est absent ou mort, on stoppe l'update
         if (player == null || !player.isActive()) return;
 
+        long updateStart = System.nanoTime();
+
+        // Chargement des chunks de carte autour du joueur
+        renderer.updateStreaming(player.getPosition().x, player.getPosition().y);
+
+        // Minuteries echues (cooldown de tir, invincibilite)
+        gameState.getTimers().advance(delta);
+
         // Gestion des inputs joueur
         handlePlayerMovement(delta);
-        handleShooting(delta);
+        handleShooting();
         handleUpgrades();
 
         // Mise a jour des entites du jeu
@@ -194,15 +251,25 @@ public class GameController {
         // Collisions globales (joueur, ennemis, projectiles, loot)
         collisionManager.handleAllCollisions(gameState);
 
-        // Spawn eventuel d'un nouvel ennemi
-        Enemy newEnemy = waveManager.update(delta, player);
-        if (newEnemy != null) {
-            gameState.addEnemy(newEnemy);
-        }
+        // Apparitions prevues par la chronologie de la vague
+        waveManager.update(delta, gameState);
 
         // Nettoyage et progression de vague
         cleanupDeadEntities();
         checkWaveProgression();
+
+        // Sauvegarde automatique en arriere-plan
+        autosaveTimer += delta;
+        if (autosaveTimer >= AUTOSAVE_INTERVAL) {
+            autosaveTimer = 0;
+            autosave();
+        }
+
+        if (telemetry != null) {
+            telemetry.record(delta, System.nanoTime() - updateStart,
+                gameState.getEnemies().size(), gameState.getProjectiles().getActiveCount(),
+                gameState.getCollectibles().size(), collisionManager.getPairsTested());
+        }
     }
 
     private void handlePlayerMovement(float delta) {
@@ -245,12 +312,30 @@ public class GameController {
         keepPlayerInBounds();
     }
 
-    private void handleShooting(float delta) {
-        // Met a jour le cooldown de tir
-        shootCooldown -= delta;
+    private void handleShooting() {
+        TimerWheel timers = gameState.getTimers();
+        boolean ready = !timers.isPending(shootCooldown);
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.T)) {
+            autoAim = !autoAim;
+            Log.info("Visée automatique {}", autoAim ? "activée" : "désactivée");
+        }
+
+        // Visee automatique : tir vers l'ennemi le plus proche des qu'il est a portee
+        if (autoAim && ready) {
+            Player player = gameState.getPlayer();
+            float x = SpatialGrid.centerX(player);
+            float y = SpatialGrid.centerY(player);
+            Entity target = enemyGrid.nearest(x, y, AUTO_AIM_RANGE, CollisionLayer.ENEMY);
+            if (target != null) {
+                shootProjectile(new Vector2(SpatialGrid.centerX(target) - x, SpatialGrid.centerY(target) - y));
+                shootCooldown = timers.schedule(SHOOT_COOLDOWN_MAX, null, 0);
+                return;
+            }
+        }
 
         // Tir au clic gauche quand le cooldown est termine
-        if (Gdx.input.isButtonPressed(Input.Buttons.LEFT) && shootCooldown <= 0) {
+        if (Gdx.input.isButtonPressed(Input.Buttons.LEFT) && ready) {
             Vector3 mousePos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
             renderer.getCamera().unproject(mousePos);
 
@@ -261,7 +346,7 @@ public class GameController {
             );
 
             shootProjectile(direction);
-            shootCooldown = SHOOT_COOLDOWN_MAX;
+            shootCooldown = timers.schedule(SHOOT_COOLDOWN_MAX, null, 0);
         }
     }
 
@@ -285,18 +370,11 @@ public class GameController {
     private void shootProjectile(Vector2 direction) {
         Player player = gameState.getPlayer();
 
-        // Creer un projectile au centre du joueur
-        Projectile projectile = new Projectile(
-            player.getPosition().x + 16,
-            player.getPosition().y + 16,
-            8, 8
-        );
-        projectile.setTexture(projectileTexture);
-        projectile.setDamage(player.getDamage());
-        projectile.shoot(direction);
-
-        // Ajouter le projectile a l'etat du jeu
-        gameState.addProjectile(projectile);
+        // Salve du type du joueur, depuis son centre
+        gameState.fireProjectile(playerProjectile,
+            player.getPosition().x + player.getWidth() / 2f,
+            player.getPosition().y + player.getHeight() / 2f,
+            direction.x, direction.y, player.getDamage());
     }
 
     private void updatePlayer(float delta) {
@@ -304,14 +382,26 @@ public class GameController {
     }
 
     private void updateEnemies(float delta) {
-        for (Enemy enemy : gameState.getEnemies()) {
+        // Ennemis endormis proches du joueur reveilles ; seuls les eveilles sont mis a jour
+        EnemyActivity activity = gameState.getEnemyActivity();
+        activity.wakeNear(gameState.getPlayers(), enemyGrid);
+
+        // De la fin vers le debut : un ennemi endormi est remplace par le dernier
+        aiScheduler.beginTick(delta);
+        List<Enemy> awake = activity.getAwake();
+        for (int i = awake.size() - 1; i >= 0; i--) {
+            Enemy enemy = awake.get(i);
             if (!enemy.isActive()) continue;
 
+            // Ennemis eloignes : un tick sur plusieurs, avec le temps ecoule depuis
+            float step = aiScheduler.step(enemy, gameState.getPlayers());
+            if (step == 0) continue;
+
             float prevX = enemy.getPosition().x;
             float prevY = enemy.getPosition().y;
 
             // Mise a jour IA / mouvement
-            enemy.update(delta);
+            enemy.update(step);
 
             if (collisionManager.isCollidingWithObstacles(enemy.getBounds())) {
                 // Annule le mouvement en cas de collision
@@ -320,28 +410,30 @@ public class GameController {
 
             // Empeche l'ennemi de sortir de la map
             keepEnemyInBounds(enemy);
-        }
-    }
 
-    private void updateProjectiles(float delta) {
-        for (Projectile projectile : gameState.getProjectiles()) {
-            if (!projectile.isActive()) continue;
-
-            // Deplacement du projectile
-            projectile.update(delta);
+            // Grille des ennemis (seuls les changements de cellule coutent)
+            if (enemy.getGridHandle() < 0) {
+                enemyGrid.insert(enemy);
+            } else {
+                enemyGrid.update(enemy);
+            }
 
-            if (collisionManager.isCollidingWithObstacles(projectile.getBounds())) {
-                // Detruit le projectile si obstacle
-                projectile.setActive(false);
+            if (activity.shouldSleep(enemy, gameState.getPlayers())) {
+                activity.sleep(enemy);
             }
         }
     }
 
+    private void updateProjectiles(float delta) {
+        // Tirs a tete chercheuse reorientes vers l'ennemi le plus proche
+        gameState.getProjectiles().steer(enemyGrid, delta);
+        // Deplacement et fin de vie de tous les projectiles (obstacles : CollisionManager)
+        gameState.getProjectiles().update(delta);
+    }
+
     private void updateCollectibles(float delta) {
-        for (Collectible collectible : gameState.getCollectibles()) {
-            // Attraction vers le joueur si actif
-            if (collectible.isActive()) collectible.update(delta);
-        }
+        // Attraction des seuls objets proches du joueur (grille)
+        magnet.update(gameState, delta);
     }
 
     private void cleanupDeadEntities() {
@@ -350,27 +442,36 @@ public class GameController {
                 // Drop loot a la position de l'ennemi
                 dropLoot(enemy.getPosition().x, enemy.getPosition().y,
                     enemy.getCoinValue(), enemy.getExpValue());
+                enemyGrid.remove(enemy);
             }
         }
 
+        // Objets ramasses : retires de la grille
+        for (Collectible collectible : gameState.getCollectibles()) {
+            if (!collectible.isActive()) collectibleGrid.remove(collectible);
+        }
+
         // Supprimer les entites inactives des listes
         gameState.removeDeadEntities();
     }
 
     private void dropLoot(float x, float y, int coins, int exp) {
         // Generer les objets ramassables a la mort d'un ennemi
+        // (fusionnes avec ceux deja au sol si possible)
         if (coins > 0) {
-            Collectible coin = new Collectible(x, y, 16, 16, Collectible.Type.COIN, coins);
-            coin.setTexture(coinTexture);
-            coin.setTarget(gameState.getPlayer());
-            gameState.addCollectible(coin);
+            Collectible coin = lootCoalescer.drop(x, y, Collectible.Type.COIN, coins);
+            if (coin != null) {
+                coin.setTexture(coinTexture);
+                coin.setTarget(gameState.getPlayer());
+            }
         }
 
         if (exp > 0) {
-            Collectible xp = new Collectible(x + 20, y, 16, 16, Collectible.Type.EXPERIENCE, exp);
-            xp.setTexture(expTexture);
-            xp.setTarget(gameState.getPlayer());
-            gameState.addCollectible(xp);
+            Collectible xp = lootCoalescer.drop(x + 20, y, Collectible.Type.EXPERIENCE, exp);
+            if (xp != null) {
+                xp.setTexture(expTexture);
+                xp.setTarget(gameState.getPlayer());
+            }
         }
     }
 
@@ -393,10 +494,7 @@ public class GameController {
             waveManager.isWaveComplete() &&
             gameState.getEnemies().isEmpty()) {
 
-            System.out.println("========================================");
-            System.out.println("VAGUE " + (currentWave + 1) + " DÉBLOQUÉE !");
-            System.out.println("Niveau requis atteint : " + playerLevel);
-            System.out.println("========================================");
+            Log.info("VAGUE {} DÉBLOQUÉE ! (niveau requis atteint : {})", currentWave + 1, playerLevel);
 
             // Lancer la vague suivante
             waveManager.startWave(currentWave + 1);
@@ -407,15 +505,15 @@ public class GameController {
     private void keepPlayerInBounds() {
         Player player = gameState.getPlayer();
         // Limiter la position aux bords de la map
-        float x = Math.max(0, Math.min(player.getPosition().x, MAP_WIDTH - 32));
-        float y = Math.max(0, Math.min(player.getPosition().y, MAP_HEIGHT - 32));
+        float x = Math.max(0, Math.min(player.getPosition().x, mapWidth - 32));
+        float y = Math.max(0, Math.min(player.getPosition().y, mapHeight - 32));
         player.setPosition(x, y);
     }
 
     private void keepEnemyInBounds(Enemy enemy) {
         // Limiter la position aux bords de la map
-        float x = Math.max(0, Math.min(enemy.getPosition().x, MAP_WIDTH - 32));
-        float y = Math.max(0, Math.min(enemy.getPosition().y, MAP_HEIGHT - 32));
+        float x = Math.max(0, Math.min(enemy.getPosition().x, mapWidth - 32));
+        float y = Math.max(0, Math.min(enemy.getPosition().y, mapHeight - 32));
         enemy.setPosition(x, y);
     }
 
@@ -429,6 +527,177 @@ public class GameController {
         return texture;
     }
 
+    // ========== SAUVEGARDE ==========
+
+    /**
+     * Sauvegarde automatique : capture sur le thread de jeu, écriture
+     * disque en arrière-plan.
+     */
+    private void autosave() {
+        ByteBuffer snapshot = captureSnapshot();
+        if (snapshot != null) {
+            saveManager.saveAsync(snapshot);
+        }
+    }
+
+    /**
+     * Sauvegarde immédiate (retour au menu, mise en arrière-plan).
+     */
+    public void save() {
+        ByteBuffer snapshot = captureSnapshot();
+        if (snapshot != null) {
+            saveManager.saveNow(snapshot);
+            Log.info("Partie sauvegardée");
+        }
+    }
+
+    /**
+     * Supprime la sauvegarde (partie perdue).
+     */
+    public void deleteSave() {
+        saveManager.delete();
+    }
+
+    /**
+     * Copie l'état complet du jeu dans un buffer de sauvegarde.
+     *
+     * @return le buffer rempli, ou null si rien à sauvegarder
+     */
+    private ByteBuffer captureSnapshot() {
+        Player player = gameState.getPlayer();
+        if (player == null || !player.isActive()) return null;
+
+        ByteBuffer out = saveManager.beginSnapshot();
+        if (out == null) {
+            // Ecriture precedente encore en cours : sauvegarde suivante
+            Log.debug("Sauvegarde ignorée (écriture en cours)");
+            return null;
+        }
+
+        while (true) {
+            try {
+                writeSnapshot(out);
+                return out;
+            } catch (BufferOverflowException e) {
+                // Buffer trop petit : on double et on recommence
+                out = saveManager.grow(out);
+            }
+        }
+    }
+
+    private void writeSnapshot(ByteBuffer out) {
+        // Controleur et progression
+        out.putLong(random.getState());
+        out.putFloat(gameState.getTimers().remaining(shootCooldown));
+        out.putInt(gameState.getCurrentWave());
+        out.putInt(gameState.getScore());
+
+        gameState.getPlayer().writeState(out);
+        waveManager.writeState(out);
+
+        // Entites (seules les actives sont gardees)
+        out.putInt(countActive(gameState.getEnemies()));
+        for (Enemy enemy : gameState.getEnemies()) {
+            if (!enemy.isActive()) continue;
+            SaveManager.writeString(out, enemy.getTypeId());
+            enemy.writeState(out);
+        }
+
+        ProjectileSystem projectiles = gameState.getProjectiles();
+        out.putInt(projectiles.getActiveCount());
+        for (int i = 0; i < projectiles.count(); i++) {
+            if (!projectiles.isAlive(i)) continue;
+            SaveManager.writeString(out, projectiles.getType(i).getId());
+            out.putFloat(projectiles.getX(i));
+            out.putFloat(projectiles.getY(i));
+            out.putFloat(projectiles.getVelocityX(i));
+            out.putFloat(projectiles.getVelocityY(i));
+            out.putFloat(projectiles.getLifetime(i));
+            out.putInt(projectiles.getDamage(i));
+        }
+
+        out.putInt(countActive(gameState.getCollectibles()));
+        for (Collectible collectible : gameState.getCollectibles()) {
+            if (collectible.isActive()) collectible.writeState(out);
+        }
+    }
+
+    private static int countActive(List<? extends Entity> entities) {
+        int count = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            if (entities.get(i).isActive()) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Restaure la partie sauvegardée.
+     *
+     * @return true si la sauvegarde a été chargée
+     */
+    private boolean restoreSnapshot() {
+        long start = System.nanoTime();
+        ByteBuffer in = saveManager.load();
+        if (in == null) return false;
+
+        Player player = gameState.getPlayer();
+        try {
+            random.setState(in.getLong());
+            float cooldown = in.getFloat();
+            gameState.getTimers().cancel(shootCooldown);
+            shootCooldown = cooldown > 0 ? gameState.getTimers().schedule(cooldown, null, 0) : TimerWheel.NONE;
+            gameState.setCurrentWave(in.getInt());
+            gameState.setScore(in.getInt());
+
+            player.readState(in);
+            waveManager.readState(in);
+
+            int enemyCount = in.getInt();
+            for (int i = 0; i < enemyCount; i++) {
+                Enemy enemy = EntityFactory.createEnemy(SaveManager.readString(in), 0, 0, player);
+                enemy.readState(in);
+                gameState.addEnemy(enemy);
+            }
+
+            int projectileCount = in.getInt();
+            for (int i = 0; i < projectileCount; i++) {
+                ProjectileType type = ProjectileFactory.getType(SaveManager.readString(in));
+                gameState.addProjectile(type, in.getFloat(), in.getFloat(),
+                    in.getFloat(), in.getFloat(), in.getFloat(), in.getInt());
+            }
+
+            int collectibleCount = in.getInt();
+            for (int i = 0; i < collectibleCount; i++) {
+                Collectible collectible = new Collectible(0, 0, 16, 16, Collectible.Type.COIN, 0);
+                collectible.readState(in);
+                collectible.setTexture(collectible.getType() == Collectible.Type.COIN ? coinTexture : expTexture);
+                collectible.setTarget(player);
+                gameState.addCollectible(collectible);
+                collectibleGrid.insert(collectible);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Sauvegarde tronquee ou corrompue : nouvelle partie
+            Log.error("Sauvegarde illisible, nouvelle partie", e);
+            player.dispose();
+            gameState.reset();
+            collectibleGrid.clear();
+            enemyGrid.clear();
+            lootCoalescer.clear();
+            collisionManager.clearContacts();
+            createPlayerInSafePosition();
+            return false;
+        }
+
+        // Chunks autour de la position sauvegardee du joueur
+        if (renderer.getChunkedMap() != null) {
+            renderer.getChunkedMap().preload(player.getPosition().x, player.getPosition().y);
+        }
+
+        Log.info("Partie reprise : vague {}, {} ennemis ({} ms)", gameState.getCurrentWave(),
+            gameState.getEnemies().size(), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
     public void render() {
         renderer.render(gameState);
     }
@@ -438,10 +707,13 @@ public class GameController {
     }
 
     public void dispose() {
+        saveManager.dispose();
+        if (telemetry != null) telemetry.close();
+        if (dataReloader != null) dataReloader.stop();
         renderer.dispose();
         EntityFactory.dispose();
+        ProjectileFactory.dispose();
 
-        if (projectileTexture != null) projectileTexture.dispose();
         if (coinTexture != null) coinTexture.dispose();
         if (expTexture != null) expTexture.dispose();
     }
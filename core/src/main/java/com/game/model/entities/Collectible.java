@@ -1,13 +1,16 @@
 package com.game.model.entities;
 
-import com.badlogic.gdx.math.Vector2;
+import java.nio.ByteBuffer;
 
 /**
  * Classe représentant un objet à ramasser (pièces ou XP)
  * FUSION de Coin.java + Experience.java
  */
 public class Collectible extends Entity {
-    
+
+    /** Rayon d'attraction par défaut (distance entre les positions) */
+    public static final float ATTRACTION_RADIUS = 100f;
+
     public enum Type {
         COIN,
         EXPERIENCE
@@ -21,11 +24,12 @@ public class Collectible extends Entity {
 
     public Collectible(float x, float y, float width, float height, Type type, int value) {
         super(x, y, width, height);
+        setCollisionLayer(CollisionLayer.PICKUP, CollisionLayer.PLAYER);
         // Type et valeur associee a la collecte
         this.type = type;
         this.value = value;
         // Parametres d'attraction vers le joueur
-        this.attractionRadius = 100f;
+        this.attractionRadius = ATTRACTION_RADIUS;
         this.attractionSpeed = 150f;
     }
 
@@ -33,26 +37,30 @@ public class Collectible extends Entity {
     public void update(float delta) {
         // Aucun mouvement si inactif ou sans cible
         if (!active || target == null) return;
-        
-        // Distance actuelle au joueur
-        float distanceToPlayer = Vector2.dst(
-            position.x, position.y,
-            target.getPosition().x, target.getPosition().y
-        );
-        
+
+        attract(target, delta);
+    }
+
+    /**
+     * Rapproche l'objet d'un joueur s'il est dans le rayon d'attraction
+     * (sans allocation).
+     *
+     * @return true si l'objet a bougé
+     */
+    public boolean attract(Player player, float delta) {
+        float dx = player.getPosition().x - position.x;
+        float dy = player.getPosition().y - position.y;
+        float distanceSq = dx * dx + dy * dy;
+
         // Attire l'objet si le joueur est proche
-        if (distanceToPlayer < attractionRadius) {
-            Vector2 toPlayer = new Vector2(
-                target.getPosition().x - position.x,
-                target.getPosition().y - position.y
-            );
-            
-            if (toPlayer.len() > 0) {
-                // Vecteur normalise pour une vitesse constante
-                toPlayer.nor().scl(attractionSpeed);
-                position.add(toPlayer.x * delta, toPlayer.y * delta);
-            }
+        if (distanceSq >= attractionRadius * attractionRadius || distanceSq == 0) {
+            return false;
         }
+
+        // Vitesse constante vers le joueur
+        float scale = attractionSpeed * delta / (float) Math.sqrt(distanceSq);
+        position.add(dx * scale, dy * scale);
+        return true;
     }
 
     public void collect(Player player) {
@@ -72,10 +80,35 @@ public class Collectible extends Entity {
         active = false;
     }
 
+    /**
+     * Ajoute la valeur d'un autre objet fusionné dans celui-ci.
+     */
+    public void addValue(int amount) {
+        this.value += amount;
+    }
+
     public void setTarget(Player target) {
         this.target = target;
     }
 
+    @Override
+    public void writeState(ByteBuffer out) {
+        super.writeState(out);
+        out.put((byte) type.ordinal());
+        out.putInt(value);
+        out.putFloat(attractionRadius);
+        out.putFloat(attractionSpeed);
+    }
+
+    @Override
+    public void readState(ByteBuffer in) {
+        super.readState(in);
+        type = Type.values()[in.get()];
+        value = in.getInt();
+        attractionRadius = in.getFloat();
+        attractionSpeed = in.getFloat();
+    }
+
     public Type getType() {
         return type;
     }
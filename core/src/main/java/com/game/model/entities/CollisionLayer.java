@@ -0,0 +1,67 @@
+package com.game.model.entities;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * Couches de collision : un bit par catégorie.
+ *
+ * Chaque entité (ou type de projectile) porte sa couche et un masque des
+ * couches qu'elle accepte. Deux objets ne sont testés que si chacun
+ * accepte la couche de l'autre : une paire sans intérêt est rejetée par
+ * deux ET binaires, avant tout calcul de géométrie.
+ */
+public final class CollisionLayer {
+
+    public static final int PLAYER = 1;
+    public static final int ENEMY = 1 << 1;
+    public static final int PICKUP = 1 << 2;
+    public static final int PLAYER_PROJECTILE = 1 << 3;
+    public static final int ENEMY_PROJECTILE = 1 << 4;
+    public static final int OBSTACLE = 1 << 5;
+
+    /** Toutes les couches */
+    public static final int ALL = -1;
+
+    private static final String[] NAMES = {
+        "player", "enemy", "pickup", "playerProjectile", "enemyProjectile", "obstacle"
+    };
+
+    private CollisionLayer() {
+    }
+
+    /**
+     * Indique si deux objets doivent être testés l'un contre l'autre.
+     */
+    public static boolean interacts(int layerA, int maskA, int layerB, int maskB) {
+        return (maskA & layerB) != 0 && (maskB & layerA) != 0;
+    }
+
+    /**
+     * Couche désignée par son nom dans les fichiers de données.
+     *
+     * @return Le bit de la couche, ou 0 si le nom est inconnu
+     */
+    public static int parse(String name) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equalsIgnoreCase(name)) return 1 << i;
+        }
+        return 0;
+    }
+
+    /**
+     * Lit une couche ou un masque : un nom, ou un tableau de noms.
+     *
+     * @param fallback Valeur si le champ est absent
+     */
+    public static int read(JsonValue json, String field, int fallback) {
+        JsonValue value = json.get(field);
+        if (value == null) return fallback;
+        if (!value.isArray()) return parse(value.asString());
+
+        int bits = 0;
+        for (JsonValue name = value.child; name != null; name = name.next) {
+            bits |= parse(name.asString());
+        }
+        return bits;
+    }
+}
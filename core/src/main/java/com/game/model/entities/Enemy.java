@@ -1,6 +1,11 @@
 package com.game.model.entities;
 
 import com.badlogic.gdx.math.Vector2;
+import com.game.model.managers.EnemyActivity;
+import com.game.model.managers.SaveManager;
+import com.game.utils.Log;
+
+import java.nio.ByteBuffer;
 
 /**
  * Classe représentant un ennemi dans le jeu.
@@ -13,6 +18,7 @@ import com.badlogic.gdx.math.Vector2;
 public class Enemy extends Entity {
     
     private Player target;
+    private String typeId;
     private float speed;
     private int health;
     private int maxHealth;
@@ -20,6 +26,14 @@ public class Enemy extends Entity {
     private int coinValue;
     private int expValue;
     private String behaviorType;
+
+    // Partage eveilles / endormis du GameState, et place dans la liste des eveilles (-1 : endormi)
+    private EnemyActivity activity;
+    private int awakeIndex = -1;
+
+    // Niveau de detail de l'IA : prochain tick de mise a jour et date de la derniere (-1 : jamais)
+    private long nextAiTick;
+    private double lastAiTime = -1;
     
     //  SYSTÈME D'ÉVITEMENT D'OBSTACLES
     private Vector2 desiredDirection;
@@ -33,6 +47,7 @@ public class Enemy extends Entity {
 
     public Enemy(float x, float y, float width, float height) {
         super(x, y, width, height);
+        setCollisionLayer(CollisionLayer.ENEMY, CollisionLayer.PLAYER | CollisionLayer.PLAYER_PROJECTILE);
         // Valeurs par defaut de l'ennemi
         this.speed = 50f;
         this.maxHealth = 50;
@@ -58,7 +73,7 @@ public class Enemy extends Entity {
         }
 
         // Le comportement "idle" reste immobile
-        if ("idle".equalsIgnoreCase(behaviorType)) {
+        if (isIdle()) {
             return;
         }
         
@@ -171,7 +186,10 @@ public class Enemy extends Entity {
         if (health <= 0) {
             health = 0;
             active = false;
-            System.out.println(" Ennemi éliminé ! (Drop: " + coinValue + " pièces, " + expValue + " XP)");
+            if (Log.DEBUG) Log.debug("Ennemi éliminé ! (Drop: {} pièces, {} XP)", coinValue, expValue);
+        } else if (isSleeping()) {
+            // Blesse de loin : se reveille
+            activity.wake(this);
         }
     }
 
@@ -179,8 +197,45 @@ public class Enemy extends Entity {
         this.target = target;
     }
 
+    @Override
+    public void writeState(ByteBuffer out) {
+        super.writeState(out);
+        out.putFloat(speed);
+        out.putInt(health);
+        out.putInt(maxHealth);
+        out.putInt(damage);
+        out.putInt(coinValue);
+        out.putInt(expValue);
+        SaveManager.writeString(out, behaviorType);
+        out.putFloat(stuckTimer);
+        out.putFloat(lastDistance);
+        out.put((byte) directionAttempt);
+    }
+
+    @Override
+    public void readState(ByteBuffer in) {
+        super.readState(in);
+        speed = in.getFloat();
+        health = in.getInt();
+        maxHealth = in.getInt();
+        damage = in.getInt();
+        coinValue = in.getInt();
+        expValue = in.getInt();
+        setBehaviorType(SaveManager.readString(in));
+        stuckTimer = in.getFloat();
+        lastDistance = in.getFloat();
+        directionAttempt = in.get();
+    }
+
     // ========== GETTERS ==========
 
+    /**
+     * Retourne l'identifiant du type (config JSON) de l'ennemi.
+     */
+    public String getTypeId() {
+        return typeId;
+    }
+
     public float getSpeed() {
         return speed;
     }
@@ -213,8 +268,38 @@ public class Enemy extends Entity {
         return behaviorType;
     }
 
+    /** Comportement immobile : l'ennemi peut dormir en permanence */
+    public boolean isIdle() {
+        return "idle".equalsIgnoreCase(behaviorType);
+    }
+
+    /** Endormi : présent dans la partie mais plus mis à jour (voir EnemyActivity) */
+    public boolean isSleeping() {
+        return activity != null && awakeIndex < 0;
+    }
+
+    public EnemyActivity getActivity() {
+        return activity;
+    }
+
+    public int getAwakeIndex() {
+        return awakeIndex;
+    }
+
+    public long getNextAiTick() {
+        return nextAiTick;
+    }
+
+    public double getLastAiTime() {
+        return lastAiTime;
+    }
+
     // ========== SETTERS ==========
 
+    public void setTypeId(String typeId) {
+        this.typeId = typeId;
+    }
+
     public void setSpeed(float speed) {
         this.speed = speed;
     }
@@ -240,6 +325,22 @@ public class Enemy extends Entity {
         this.expValue = expValue;
     }
 
+    public void setActivity(EnemyActivity activity) {
+        this.activity = activity;
+    }
+
+    public void setAwakeIndex(int awakeIndex) {
+        this.awakeIndex = awakeIndex;
+    }
+
+    public void setNextAiTick(long nextAiTick) {
+        this.nextAiTick = nextAiTick;
+    }
+
+    public void setLastAiTime(double lastAiTime) {
+        this.lastAiTime = lastAiTime;
+    }
+
     public void setBehaviorType(String behaviorType) {
         // Garantit une valeur de comportement valide
         if (behaviorType == null || behaviorType.trim().isEmpty()) {
@@ -5,6 +5,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
+import java.nio.ByteBuffer;
+
 /**
  * Classe de base abstraite pour toutes les entités du jeu.
  * 
@@ -39,6 +41,19 @@ public abstract class Entity {
     /** Indique si l'entité est active (visible et en jeu) */
     protected boolean active;
 
+    /** Identifiant stable dans la partie (0 tant que l'entité n'est pas ajoutée au GameState) */
+    private int id;
+
+    /** Emplacement dans la grille spatiale (-1 si l'entité n'y est pas) */
+    private int gridHandle = -1;
+
+    /** Zone de collision du type (null : rectangle du sprite) */
+    private HitBox hitBox;
+
+    /** Couche de collision de l'entité et couches qu'elle accepte (voir CollisionLayer) */
+    private int collisionLayer;
+    private int collisionMask;
+
     /**
      * Crée une nouvelle entité.
      * 
@@ -76,8 +91,9 @@ public abstract class Entity {
     }
 
     /**
-     * Retourne le rectangle de collision de l'entité.
-     * Utilisé pour détecter les collisions avec d'autres entités.
+     * Retourne le rectangle du sprite de l'entité.
+     * Utilisé pour les collisions avec les obstacles ; entre entités,
+     * la zone de collision du type est donnée par getHitShape/getHitX...
      * 
      
      * 
@@ -88,6 +104,36 @@ public abstract class Entity {
         return new Rectangle(position.x, position.y, width, height);
     }
 
+    /**
+     * Écrit l'état de l'entité dans une sauvegarde binaire.
+     * Les sous-classes ajoutent leurs champs après ceux de la base.
+     * La texture n'est pas sauvegardée (réassignée au chargement).
+     *
+     * @param out Buffer de destination
+     */
+    public void writeState(ByteBuffer out) {
+        out.putFloat(position.x);
+        out.putFloat(position.y);
+        out.putFloat(velocity.x);
+        out.putFloat(velocity.y);
+        out.putFloat(width);
+        out.putFloat(height);
+        out.put((byte) (active ? 1 : 0));
+    }
+
+    /**
+     * Relit l'état écrit par {@link #writeState(ByteBuffer)}.
+     *
+     * @param in Buffer source
+     */
+    public void readState(ByteBuffer in) {
+        position.set(in.getFloat(), in.getFloat());
+        velocity.set(in.getFloat(), in.getFloat());
+        width = in.getFloat();
+        height = in.getFloat();
+        active = in.get() != 0;
+    }
+
     // ========== GETTERS ==========
 
     public Vector2 getPosition() {
@@ -114,6 +160,48 @@ public abstract class Entity {
         return active;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public int getGridHandle() {
+        return gridHandle;
+    }
+
+    public HitBox getHitBox() {
+        return hitBox;
+    }
+
+    /** Forme de la zone de collision (HitBox.RECTANGLE sans zone propre) */
+    public int getHitShape() {
+        return hitBox != null ? hitBox.getShape() : HitBox.RECTANGLE;
+    }
+
+    public int getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /** Coin bas-gauche du rectangle englobant la zone de collision */
+    public float getHitX() {
+        return hitBox != null ? position.x + hitBox.getOffsetX() : position.x;
+    }
+
+    public float getHitY() {
+        return hitBox != null ? position.y + hitBox.getOffsetY() : position.y;
+    }
+
+    public float getHitWidth() {
+        return hitBox != null ? hitBox.getWidth() : width;
+    }
+
+    public float getHitHeight() {
+        return hitBox != null ? hitBox.getHeight() : height;
+    }
+
     // ========== SETTERS ==========
 
     public void setPosition(float x, float y) {
@@ -132,6 +220,23 @@ public abstract class Entity {
         this.active = active;
     }
 
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setGridHandle(int gridHandle) {
+        this.gridHandle = gridHandle;
+    }
+
+    public void setHitBox(HitBox hitBox) {
+        this.hitBox = hitBox;
+    }
+
+    public void setCollisionLayer(int layer, int mask) {
+        this.collisionLayer = layer;
+        this.collisionMask = mask;
+    }
+
     /**
      * Libère les ressources (texture) utilisées par l'entité.
      */
@@ -0,0 +1,93 @@
+package com.game.model.entities;
+
+/**
+ * Zone de collision d'un type d'entité (immuable, partagée par toutes
+ * les entités du type).
+ *
+ * La forme est décrite par son rectangle englobant, placé par rapport
+ * au coin bas-gauche du sprite :
+ * - RECTANGLE : le rectangle lui-même
+ * - CIRCLE : cercle centré, de diamètre le plus petit côté
+ * - CAPSULE : segment sur le grand axe, arrondi du rayon du petit côté
+ *   (un sprite allongé comme la chauve-souris)
+ */
+public final class HitBox {
+
+    public static final int RECTANGLE = 0;
+    public static final int CIRCLE = 1;
+    public static final int CAPSULE = 2;
+
+    /** Nombre de formes (taille d'un côté de la table des paires) */
+    public static final int SHAPES = 3;
+
+    private final int shape;
+    private final float offsetX;
+    private final float offsetY;
+    private final float width;
+    private final float height;
+
+    public HitBox(int shape, float offsetX, float offsetY, float width, float height) {
+        // Cercle : carre englobant du diametre, au centre de la zone donnee
+        if (shape == CIRCLE && width != height) {
+            float diameter = Math.min(width, height);
+            offsetX += (width - diameter) / 2f;
+            offsetY += (height - diameter) / 2f;
+            width = diameter;
+            height = diameter;
+        }
+        this.shape = shape;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Zone centrée sur un sprite.
+     */
+    public static HitBox centered(int shape, float spriteWidth, float spriteHeight, float width, float height) {
+        return new HitBox(shape, (spriteWidth - width) / 2f, (spriteHeight - height) / 2f, width, height);
+    }
+
+    /**
+     * Forme désignée par "HitBoxType" dans les fichiers de données.
+     *
+     * @return La forme, ou -1 si le nom est inconnu
+     */
+    public static int parseShape(String name) {
+        switch (name.toLowerCase()) {
+            case "rectangle":
+            case "rect":
+                return RECTANGLE;
+            case "circle":
+                return CIRCLE;
+            case "capsule":
+                return CAPSULE;
+            default:
+                return -1;
+        }
+    }
+
+    // ========== GETTERS ==========
+
+    public int getShape() {
+        return shape;
+    }
+
+    /** Décalage depuis le coin bas-gauche du sprite */
+    public float getOffsetX() {
+        return offsetX;
+    }
+
+    public float getOffsetY() {
+        return offsetY;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+}
@@ -1,5 +1,10 @@
 package com.game.model.entities;
 
+import com.game.model.managers.TimerWheel;
+import com.game.utils.Log;
+
+import java.nio.ByteBuffer;
+
 /**
  * Classe représentant le joueur.
  */
@@ -19,8 +24,11 @@ public class Player extends Entity {
     private int speedLevel;
 
     //  SYSTÈME D'INVINCIBILITÉ TEMPORAIRE
+    // (fin programmee dans les minuteries du GameState : rien a decompter a chaque frame)
     private boolean invincible;
-    private float invincibilityTimer;
+    private TimerWheel timers;
+    private int invincibilityTimer = TimerWheel.NONE;
+    private final TimerWheel.Listener endInvincibility = data -> invincible = false;
     private static final float INVINCIBILITY_DURATION = 1.0f; // 1 seconde
 
     // RÉDUCTION DES DÉGÂTS
@@ -28,6 +36,8 @@ public class Player extends Entity {
 
     public Player(float x, float y, float width, float height) {
         super(x, y, width, height);
+        setCollisionLayer(CollisionLayer.PLAYER,
+            CollisionLayer.ENEMY | CollisionLayer.PICKUP | CollisionLayer.ENEMY_PROJECTILE);
         // Statistiques de base
         this.speed = 120f;
         this.maxHealth = 100;
@@ -44,28 +54,14 @@ public class Player extends Entity {
 
         // Invincibilité désactivée au départ
         this.invincible = false;
-        this.invincibilityTimer = 0;
-
-        System.out.println("===== JOUEUR CRÉÉ =====");
-        System.out.println("Vie: " + health + "/" + maxHealth);
-        System.out.println("Vitesse: " + speed);
-        System.out.println("Dégâts: " + damage);
-        System.out.println("Multiplicateur degats: " + (int)(DAMAGE_REDUCTION * 100) + "%");
-        System.out.println("=======================");
+
+        Log.info("JOUEUR CRÉÉ - Vie: {}/{} | Vitesse: {} | Dégâts: {} | Multiplicateur degats: {}%",
+            health, maxHealth, speed, damage, (int)(DAMAGE_REDUCTION * 100));
     }
 
     @Override
     public void update(float delta) {
-        //  Mettre à jour le timer d'invincibilité
-        // Decompte du temps d'invincibilite temporaire
-        if (invincibilityTimer > 0) {
-            invincibilityTimer -= delta;
-            if (invincibilityTimer <= 0) {
-                invincibilityTimer = 0;
-                invincible = false;
-                // System.out.println("✓ Invincibilité terminée");
-            }
-        }
+        // Fin de l'invincibilite temporaire : minuterie du GameState
     }
 
     /**
@@ -86,22 +82,22 @@ public class Player extends Entity {
         int reducedDamage = (int)(damage * DAMAGE_REDUCTION);
 
         health -= reducedDamage;
-        System.out.println(" Joueur touché ! -" + reducedDamage + " PV (Vie: " + health + "/" + maxHealth + ")");
+        if (Log.DEBUG) Log.debug("Joueur touché ! -{} PV (Vie: {}/{})", reducedDamage, health, maxHealth);
 
         //  Activer l'invincibilité temporaire
         invincible = true;
-        invincibilityTimer = INVINCIBILITY_DURATION;
+        invincibilityTimer = timers.schedule(INVINCIBILITY_DURATION, endInvincibility, 0);
 
         if (health <= 0) {
             health = 0;
             active = false;
-            System.out.println("========== GAME OVER ==========");
+            Log.info("========== GAME OVER ==========");
         }
     }
 
     public void addExperience(int exp) {
         experience += exp;
-        System.out.println(exp + " XP (Total: " + experience + "/" + experienceToNext + ")");
+        if (Log.DEBUG) Log.debug("{} XP (Total: {}/{})", exp, experience, experienceToNext);
 
         // Monte de niveau tant qu'il reste assez d'XP
         while (experience >= experienceToNext) {
@@ -118,23 +114,19 @@ public class Player extends Entity {
         maxHealth += 10;
         health = maxHealth;
 
-        System.out.println("=============================");
-        System.out.println(" LEVEL UP! Niveau " + level );
-        System.out.println("Vie max: " + maxHealth);
-        System.out.println("Prochain niveau: " + experienceToNext + " XP");
-        System.out.println("=============================");
+        Log.info("LEVEL UP! Niveau {} | Vie max: {} | Prochain niveau: {} XP", level, maxHealth, experienceToNext);
     }
 
     public void addCoins(int amount) {
         // Ajoute les pieces ramassees
         coins += amount;
-        System.out.println(  amount + " pièces (Total: " + coins + ")");
+        if (Log.DEBUG) Log.debug("{} pièces (Total: {})", amount, coins);
     }
 
     public void heal(int amount) {
         // Limite les soins au max
         health = Math.min(health + amount, maxHealth);
-        System.out.println(amount + " PV (Vie: " + health + "/" + maxHealth + ")");
+        if (Log.DEBUG) Log.debug("{} PV (Vie: {}/{})", amount, health, maxHealth);
     }
 
     /**
@@ -143,8 +135,51 @@ public class Player extends Entity {
      */
     public void setInvincible(boolean invincible) {
         this.invincible = invincible;
-        this.invincibilityTimer = 0;
-        System.out.println("Mode invincible permanent: " + (invincible ? "ACTIVÉ " : "DÉSACTIVÉ"));
+        cancelInvincibilityTimer();
+        Log.debug("Mode invincible permanent: {}", invincible ? "ACTIVÉ" : "DÉSACTIVÉ");
+    }
+
+    @Override
+    public void writeState(ByteBuffer out) {
+        super.writeState(out);
+        out.putFloat(speed);
+        out.putInt(health);
+        out.putInt(maxHealth);
+        out.putInt(level);
+        out.putInt(experience);
+        out.putInt(experienceToNext);
+        out.putInt(coins);
+        out.putInt(damage);
+        out.putInt(damageLevel);
+        out.putInt(speedLevel);
+        out.put((byte) (invincible ? 1 : 0));
+        out.putFloat(getInvincibilityTimer());
+    }
+
+    @Override
+    public void readState(ByteBuffer in) {
+        super.readState(in);
+        speed = in.getFloat();
+        health = in.getInt();
+        maxHealth = in.getInt();
+        level = in.getInt();
+        experience = in.getInt();
+        experienceToNext = in.getInt();
+        coins = in.getInt();
+        damage = in.getInt();
+        damageLevel = in.getInt();
+        speedLevel = in.getInt();
+        invincible = in.get() != 0;
+        float remaining = in.getFloat();
+        cancelInvincibilityTimer();
+        if (remaining > 0) {
+            invincibilityTimer = timers.schedule(remaining, endInvincibility, 0);
+        }
+    }
+
+    private void cancelInvincibilityTimer() {
+        if (timers != null) timers.cancel(invincibilityTimer);
+        invincibilityTimer = TimerWheel.NONE;
     }
 
     // ========== MÉTHODES D'AMÉLIORATION ==========
@@ -158,17 +193,11 @@ public class Player extends Entity {
             damageLevel++;
             damage += 10;
 
-            System.out.println("========================================");
-            System.out.println("AMÉLIORATION DÉGÂTS!");
-            System.out.println("Niveau: " + damageLevel);
-            System.out.println("Dégâts: " + damage);
-            System.out.println("Coût: " + cost + " coins");
-            System.out.println("Coins restants: " + coins);
-            System.out.println("========================================");
+            Log.info("AMÉLIORATION DÉGÂTS! Niveau: {} | Dégâts: {} | Coût: {} coins | Coins restants: {}",
+                damageLevel, damage, cost, coins);
             return true;
         } else {
-            System.out.println("Pas assez de coins pour améliorer les dégâts!");
-            System.out.println("   Requis: " + cost + " | Vous avez: " + coins);
+            Log.info("Pas assez de coins pour améliorer les dégâts! Requis: {} | Vous avez: {}", cost, coins);
             return false;
         }
     }
@@ -182,17 +211,11 @@ public class Player extends Entity {
             speedLevel++;
             speed += 20f;
 
-            System.out.println("========================================");
-            System.out.println("AMÉLIORATION VITESSE!");
-            System.out.println("Niveau: " + speedLevel);
-            System.out.println("Vitesse: " + speed);
-            System.out.println("Coût: " + cost + " coins");
-            System.out.println("Coins restants: " + coins);
-            System.out.println("========================================");
+            Log.info("AMÉLIORATION VITESSE! Niveau: {} | Vitesse: {} | Coût: {} coins | Coins restants: {}",
+                speedLevel, speed, cost, coins);
             return true;
         } else {
-            System.out.println("Pas assez de coins pour améliorer la vitesse!");
-            System.out.println("   Requis: " + cost + " | Vous avez: " + coins);
+            Log.info("Pas assez de coins pour améliorer la vitesse! Requis: {} | Vous avez: {}", cost, coins);
             return false;
         }
     }
@@ -202,7 +225,7 @@ public class Player extends Entity {
         int cost = getHealthCost();
 
         if (health >= maxHealth) {
-            System.out.println("Vie déjà au maximum!");
+            Log.info("Vie déjà au maximum!");
             return false;
         }
 
@@ -211,17 +234,11 @@ public class Player extends Entity {
             int healAmount = 30;
             health = Math.min(health + healAmount, maxHealth);
 
-            System.out.println("========================================");
-            System.out.println("VIE RESTAURÉE!");
-            System.out.println("+" + healAmount + " PV");
-            System.out.println("Vie: " + health + "/" + maxHealth);
-            System.out.println("Coût: " + cost + " coins");
-            System.out.println("Coins restants: " + coins);
-            System.out.println("========================================");
+            Log.info("VIE RESTAURÉE! +{} PV | Vie: {}/{} | Coût: {} coins | Coins restants: {}",
+                healAmount, health, maxHealth, cost, coins);
             return true;
         } else {
-            System.out.println("Pas assez de coins pour acheter de la vie!");
-            System.out.println("   Requis: " + cost + " | Vous avez: " + coins);
+            Log.info("Pas assez de coins pour acheter de la vie! Requis: {} | Vous avez: {}", cost, coins);
             return false;
         }
     }
@@ -290,7 +307,7 @@ public class Player extends Entity {
      * Retourne le temps d'invincibilité restant
      */
     public float getInvincibilityTimer() {
-        return invincibilityTimer;
+        return timers != null ? timers.remaining(invincibilityTimer) : 0f;
     }
 
     // ========== SETTERS ==========
@@ -298,4 +315,11 @@ public class Player extends Entity {
     public void setSpeed(float speed) {
         this.speed = speed;
     }
+
+    /**
+     * Minuteries de la partie (données par le GameState à l'ajout du joueur).
+     */
+    public void setTimers(TimerWheel timers) {
+        this.timers = timers;
+    }
 }
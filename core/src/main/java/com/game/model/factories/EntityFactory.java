@@ -6,10 +6,17 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.game.model.entities.CollisionLayer;
 import com.game.model.entities.Enemy;
+import com.game.model.entities.HitBox;
 import com.game.model.entities.Player;
+import com.game.utils.DataFiles;
+import com.game.utils.Log;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,7 +25,12 @@ import java.util.Map;
  */
 public class EntityFactory {
 
-    private static Map<String, EnemyConfig> enemyConfigs = new HashMap<>();
+    /**
+     * Types chargés. Jamais modifiée après publication : un rechargement
+     * construit une nouvelle table puis la remplace, ce qui permet de créer
+     * des ennemis depuis plusieurs threads (simulations en parallèle).
+     */
+    private static volatile Map<String, EnemyConfig> enemyConfigs = new HashMap<>();
 
     /**
      * Classe interne pour stocker la config d'un ennemi
@@ -30,34 +42,37 @@ public class EntityFactory {
         int health, damage;
         float speed;
         int coinValue, expValue;
+        HitBox hitBox;
+        int layer = CollisionLayer.ENEMY;
+        int mask = CollisionLayer.PLAYER | CollisionLayer.PLAYER_PROJECTILE;
     }
 
     /**
      * Charge tous les types d'ennemis depuis les fichiers JSON.
      */
-    public static void loadEnemyTypes() {
-        // Vide les configs precedentes
-        enemyConfigs.clear();
+    public static synchronized void loadEnemyTypes() {
+        // Nouvelle table, publiee une fois complete
+        Map<String, EnemyConfig> configs = new HashMap<>();
 
         int loadedFromDir = 0;
-        FileHandle enemyDir = Gdx.files.internal("data/enemies");
+        FileHandle enemyDir = DataFiles.internal("data/enemies");
         if (enemyDir.exists() && enemyDir.isDirectory()) {
             // Charge tous les json du dossier interne
             for (FileHandle file : enemyDir.list()) {
                 if (file.extension().equalsIgnoreCase("json")) {
-                    loadEnemyType(file);
+                    loadEnemyType(file, configs);
                     loadedFromDir++;
                 }
             }
         }
 
-        if (loadedFromDir == 0) {
+        if (loadedFromDir == 0 && Gdx.files != null) {
             FileHandle localEnemyDir = Gdx.files.local("resources/data/enemies");
             if (localEnemyDir.exists() && localEnemyDir.isDirectory()) {
                 // Fallback sur le dossier local
                 for (FileHandle file : localEnemyDir.list()) {
                     if (file.extension().equalsIgnoreCase("json")) {
-                        loadEnemyType(file);
+                        loadEnemyType(file, configs);
                         loadedFromDir++;
                     }
                 }
@@ -66,22 +81,33 @@ public class EntityFactory {
 
         if (loadedFromDir == 0) {
             // Dernier fallback: types par defaut
-            loadEnemyType("Normal");
-            loadEnemyType("Bat");
+            loadEnemyType("Normal", configs);
+            loadEnemyType("Bat", configs);
         }
 
-        System.out.println("Loaded " + enemyConfigs.size() + " enemy types");
+        enemyConfigs = configs;
+        Log.info("{} types d'ennemis chargés", configs.size());
+    }
+
+    /**
+     * Relit un seul fichier d'ennemi (rechargement à chaud) et publie une
+     * nouvelle table. Les ennemis déjà en jeu gardent leurs statistiques.
+     */
+    public static synchronized void reloadEnemyType(FileHandle file) {
+        Map<String, EnemyConfig> configs = new HashMap<>(enemyConfigs);
+        loadEnemyType(file, configs);
+        enemyConfigs = configs;
     }
 
     /**
      * Charge un type d'ennemi depuis JSON.
      */
-    private static void loadEnemyType(String type) {
+    private static void loadEnemyType(String type, Map<String, EnemyConfig> configs) {
         try {
             // Chargement via un id de type
             String path = "data/enemies/" + type + ".json";
             JsonReader reader = new JsonReader();
-            JsonValue json = reader.parse(Gdx.files.internal(path));
+            JsonValue json = reader.parse(DataFiles.internal(path));
 
             EnemyConfig config = new EnemyConfig();
             config.texturePath = json.getString("idlePath", "");
@@ -91,6 +117,9 @@ public class EntityFactory {
             config.health = json.getInt("maxHp", 50);
             config.damage = json.getInt("damage", 10);
             config.speed = json.getFloat("speed", 60);
+            config.hitBox = readHitBox(json, config, type);
+            config.layer = CollisionLayer.read(json, "layer", config.layer);
+            config.mask = CollisionLayer.read(json, "mask", config.mask);
 
             // Recuperer les valeurs de drop
             JsonValue drops = json.get("drops");
@@ -102,18 +131,17 @@ public class EntityFactory {
                 config.expValue = 10;
             }
 
-            enemyConfigs.put(type, config);
+            configs.put(type, config);
 
         } catch (Exception e) {
-            System.err.println(" Erreur chargement ennemi " + type);
-            e.printStackTrace();
+            Log.error("Erreur chargement ennemi {}", type, e);
         }
     }
 
     /**
      * Charge un type d'ennemi depuis un fichier JSON.
      */
-    private static void loadEnemyType(FileHandle file) {
+    private static void loadEnemyType(FileHandle file, Map<String, EnemyConfig> configs) {
         try {
             JsonReader reader = new JsonReader();
             JsonValue json = reader.parse(file);
@@ -127,6 +155,9 @@ public class EntityFactory {
             config.health = json.getInt("maxHp", 50);
             config.damage = json.getInt("damage", 10);
             config.speed = json.getFloat("speed", 60);
+            config.hitBox = readHitBox(json, config, type);
+            config.layer = CollisionLayer.read(json, "layer", config.layer);
+            config.mask = CollisionLayer.read(json, "mask", config.mask);
 
             JsonValue drops = json.get("drops");
             if (drops != null) {
@@ -137,11 +168,33 @@ public class EntityFactory {
                 config.expValue = 10;
             }
 
-            enemyConfigs.put(type, config);
+            configs.put(type, config);
         } catch (Exception e) {
-            System.err.println("Failed to load enemy: " + file.path());
-            e.printStackTrace();
+            Log.error("Erreur chargement ennemi {}", file.path(), e);
+        }
+    }
+
+    /**
+     * Lit la zone de collision ("HitBoxType" et "hitbox" {width, height},
+     * centrée sur le sprite).
+     *
+     * @return null pour un rectangle de la taille du sprite
+     */
+    private static HitBox readHitBox(JsonValue json, EnemyConfig config, String type) {
+        String name = json.getString("HitBoxType", "rectangle");
+        int shape = HitBox.parseShape(name);
+        if (shape < 0) {
+            Log.warn("Forme de collision {} inconnue pour {}, rectangle utilisé", name, type);
+            shape = HitBox.RECTANGLE;
         }
+
+        JsonValue hitbox = json.get("hitbox");
+        float width = hitbox != null ? hitbox.getFloat("width", config.width) : config.width;
+        float height = hitbox != null ? hitbox.getFloat("height", config.height) : config.height;
+        if (shape == HitBox.RECTANGLE && width == config.width && height == config.height) {
+            return null;
+        }
+        return HitBox.centered(shape, config.width, config.height, width, height);
     }
 
     /**
@@ -152,7 +205,7 @@ public class EntityFactory {
 
         // Fallback si le type est inconnu
         if (config == null) {
-            System.err.println(" Type d'ennemi inconnu : " + type);
+            Log.warn("Type d'ennemi inconnu : {}", type);
             config = new EnemyConfig();
             config.width = 32;
             config.height = 32;
@@ -175,6 +228,14 @@ public class EntityFactory {
         enemy.setExpValue(config.expValue);
         enemy.setTarget(target);
         enemy.setBehaviorType(config.aiType);
+        enemy.setTypeId(type);
+        enemy.setHitBox(config.hitBox);
+        enemy.setCollisionLayer(config.layer, config.mask);
+
+        // Serveur sans fenetre : pas de texture
+        if (DataFiles.isHeadless()) {
+            return enemy;
+        }
 
         // Charger texture
         try {
@@ -190,13 +251,29 @@ public class EntityFactory {
                 enemy.setTexture(createColorTexture(255, 0, 0));
             }
         } catch (Exception e) {
-            System.err.println(" Texture introuvable pour " + type);
+            Log.warn("Texture introuvable pour {}", type);
             enemy.setTexture(createColorTexture(255, 0, 0));
         }
 
         return enemy;
     }
 
+    /**
+     * Indique si des types d'ennemis ont déjà été chargés.
+     */
+    public static boolean hasEnemyTypes() {
+        return !enemyConfigs.isEmpty();
+    }
+
+    /**
+     * Retourne les types d'ennemis chargés, triés par nom.
+     */
+    public static List<String> getEnemyTypeNames() {
+        List<String> names = new ArrayList<>(enemyConfigs.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
     /**
      * Crée une texture d'une couleur unie (fallback).
      */
@@ -212,7 +289,7 @@ public class EntityFactory {
     /**
      * Libère toutes les ressources.
      */
-    public static void dispose() {
-        enemyConfigs.clear();
+    public static synchronized void dispose() {
+        enemyConfigs = new HashMap<>();
     }
 }
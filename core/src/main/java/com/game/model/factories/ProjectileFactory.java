@@ -0,0 +1,227 @@
+package com.game.model.factories;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.game.model.entities.CollisionLayer;
+import com.game.model.entities.HitBox;
+import com.game.utils.DataFiles;
+import com.game.utils.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table des types de projectiles, chargée depuis data/Projectile
+ * (pendant de la table des ennemis d'EntityFactory).
+ *
+ * Les textures sont chargées une seule fois par chemin et partagées entre
+ * les types et entre tous les projectiles. Les projectiles eux-mêmes
+ * sont rangés dans le ProjectileSystem du GameState.
+ */
+public final class ProjectileFactory {
+
+    /** Type tiré par le joueur */
+    public static final String DEFAULT_TYPE = "Bullet";
+
+    /**
+     * Types chargés, triés par nom (l'indice d'un type est sa position).
+     * Jamais modifiées après publication, comme la table des ennemis.
+     */
+    private static volatile List<ProjectileType> types = Collections.emptyList();
+    private static volatile Map<String, ProjectileType> typesById = Collections.emptyMap();
+
+    /** Textures déjà chargées, par chemin */
+    private static final Map<String, Texture> textures = new HashMap<>();
+
+    private ProjectileFactory() {
+    }
+
+    /**
+     * Charge tous les types de projectiles depuis les fichiers JSON.
+     */
+    public static synchronized void loadProjectileTypes() {
+        List<JsonValue> jsons = new ArrayList<>();
+        FileHandle dir = DataFiles.internal("data/Projectile");
+        if (dir.exists() && dir.isDirectory()) {
+            for (FileHandle file : dir.list()) {
+                if (!file.extension().equalsIgnoreCase("json")) continue;
+                try {
+                    JsonValue json = new JsonReader().parse(file);
+                    if (json.getString("type", null) == null) {
+                        json.addChild("type", new JsonValue(file.nameWithoutExtension()));
+                    }
+                    jsons.add(json);
+                } catch (Exception e) {
+                    Log.error("Erreur chargement projectile {}", file.path(), e);
+                }
+            }
+        }
+
+        // Ordre stable (indices identiques sur le serveur et les clients)
+        jsons.sort((a, b) -> a.getString("type").compareTo(b.getString("type")));
+
+        List<ProjectileType> loaded = new ArrayList<>();
+        Map<String, ProjectileType> byId = new HashMap<>();
+        for (JsonValue json : jsons) {
+            String id = json.getString("type");
+            if (byId.containsKey(id)) {
+                Log.warn("Type de projectile en double : {}", id);
+                continue;
+            }
+            ProjectileType type = parse(loaded.size(), id, json);
+            loaded.add(type);
+            byId.put(id, type);
+        }
+
+        // Sans fichier : balle par defaut (ancien projectile code en dur)
+        if (!byId.containsKey(DEFAULT_TYPE)) {
+            ProjectileType type = new ProjectileType(loaded.size(), DEFAULT_TYPE,
+                8, 8, new HitBox(HitBox.RECTANGLE, 0, 0, 8, 8),
+                CollisionLayer.PLAYER_PROJECTILE, CollisionLayer.ENEMY | CollisionLayer.OBSTACLE, 400f, 3f, 1, 0f, 0f, 0f, 0f, 0f, loadTexture(""));
+            loaded.add(type);
+            byId.put(DEFAULT_TYPE, type);
+        }
+
+        typesById = byId;
+        types = Collections.unmodifiableList(loaded);
+        Log.info("{} types de projectiles chargés", loaded.size());
+    }
+
+    private static ProjectileType parse(int index, String id, JsonValue json) {
+        float width = json.getFloat("width", 8);
+        float height = json.getFloat("height", 8);
+
+        String hitBoxType = json.getString("HitBoxType", "rectangle");
+        int shape = HitBox.parseShape(hitBoxType);
+        if (shape < 0) {
+            Log.warn("Forme de collision {} inconnue pour {}, rectangle utilisé", hitBoxType, id);
+            shape = HitBox.RECTANGLE;
+        }
+        // Zone de collision centree sur le sprite
+        JsonValue hitbox = json.get("hitbox");
+        float hitboxWidth = hitbox != null ? hitbox.getFloat("width", width) : width;
+        float hitboxHeight = hitbox != null ? hitbox.getFloat("height", height) : height;
+
+        // Tir du joueur par defaut ; un tir ennemi touche les joueurs
+        int layer = CollisionLayer.read(json, "layer", CollisionLayer.PLAYER_PROJECTILE);
+        int targets = layer == CollisionLayer.ENEMY_PROJECTILE ? CollisionLayer.PLAYER : CollisionLayer.ENEMY;
+        int mask = CollisionLayer.read(json, "mask", targets | CollisionLayer.OBSTACLE);
+
+        // Tete chercheuse : "homing": { "turnRate": degres/s, "range": pixels }
+        JsonValue homing = json.get("homing");
+        float turnRate = homing != null ? homing.getFloat("turnRate", 180f) : 0f;
+        float homingRange = homing != null ? homing.getFloat("range", 250f) : 0f;
+
+        // Explosion a l'impact : "splash": { "radius": pixels, "edgeDamage": fraction au bord }
+        JsonValue splash = json.get("splash");
+        float splashRadius = splash != null ? splash.getFloat("radius", 0f) : 0f;
+        float splashEdge = splash != null ? splash.getFloat("edgeDamage", 0.25f) : 0f;
+
+        return new ProjectileType(index, id, width, height,
+            HitBox.centered(shape, width, height, hitboxWidth, hitboxHeight), layer, mask,
+            json.getFloat("speed", 400f), json.getFloat("lifetime", 3f),
+            json.getInt("count", 1), json.getFloat("spread", 0f),
+            turnRate, homingRange, splashRadius, splashEdge, loadTexture(json.getString("path", "")));
+    }
+
+    /**
+     * Texture partagée pour un chemin (null sans fenêtre).
+     */
+    private static Texture loadTexture(String path) {
+        // Serveur sans fenetre : pas de texture
+        if (DataFiles.isHeadless()) {
+            return null;
+        }
+
+        // Retire le prefixe pour l'acces interne
+        if (path.startsWith("assets/")) {
+            path = path.substring("assets/".length());
+        }
+
+        Texture texture = textures.get(path);
+        if (texture != null) {
+            return texture;
+        }
+
+        try {
+            if (path.isEmpty() || !Gdx.files.internal(path).exists()) {
+                if (!path.isEmpty()) Log.warn("Texture de projectile introuvable : {}", path);
+                texture = createColorTexture(255, 255, 0);
+            } else {
+                texture = new Texture(Gdx.files.internal(path));
+            }
+        } catch (Exception e) {
+            Log.warn("Erreur chargement texture projectile {}", path);
+            texture = createColorTexture(255, 255, 0);
+        }
+        textures.put(path, texture);
+        return texture;
+    }
+
+    /**
+     * Retourne un type par son nom (à résoudre une fois, pas à chaque tir).
+     *
+     * @return Le type, ou le type par défaut s'il est inconnu
+     */
+    public static ProjectileType getType(String id) {
+        ProjectileType type = typesById.get(id);
+        if (type == null) {
+            Log.warn("Type de projectile inconnu : {}", id);
+            type = typesById.get(DEFAULT_TYPE);
+        }
+        return type;
+    }
+
+    /**
+     * Retourne un type par son indice, ou null s'il n'existe pas.
+     */
+    public static ProjectileType getType(int index) {
+        List<ProjectileType> current = types;
+        return index >= 0 && index < current.size() ? current.get(index) : null;
+    }
+
+    /**
+     * Indique si des types de projectiles ont déjà été chargés.
+     */
+    public static boolean hasProjectileTypes() {
+        return !types.isEmpty();
+    }
+
+    /**
+     * Retourne tous les types chargés, triés par nom.
+     */
+    public static List<ProjectileType> getTypes() {
+        return types;
+    }
+
+    /**
+     * Crée une texture d'une couleur unie (fallback).
+     */
+    private static Texture createColorTexture(int r, int g, int b) {
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(r / 255f, g / 255f, b / 255f, 1);
+        pixmap.fill();
+        Texture texture = new Texture(pixmap);
+        pixmap.dispose();
+        return texture;
+    }
+
+    /**
+     * Libère les textures partagées et vide la table.
+     */
+    public static synchronized void dispose() {
+        for (Texture texture : textures.values()) {
+            texture.dispose();
+        }
+        textures.clear();
+        types = Collections.emptyList();
+        typesById = Collections.emptyMap();
+    }
+}
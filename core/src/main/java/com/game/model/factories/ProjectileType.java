@@ -0,0 +1,137 @@
+package com.game.model.factories;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.game.model.entities.HitBox;
+
+/**
+ * Type de projectile lu depuis data/Projectile (immuable).
+ *
+ * Résolu une seule fois (au chargement ou à l'équipement d'une arme) :
+ * au moment du tir, plus aucune recherche par nom.
+ */
+public final class ProjectileType {
+
+    private final int index;
+    private final String id;
+    private final float width;
+    private final float height;
+    private final HitBox hitBox;
+    private final int collisionLayer;
+    private final int collisionMask;
+    private final float speed;
+    private final float lifetime;
+    private final int shotCount;
+    private final float spread;
+    private final float turnRate;
+    private final float homingRange;
+    private final float splashRadius;
+    private final float splashEdge;
+    private final Texture texture;
+
+    ProjectileType(int index, String id, float width, float height,
+                   HitBox hitBox, int collisionLayer, int collisionMask,
+                   float speed, float lifetime, int shotCount, float spread,
+                   float turnRate, float homingRange, float splashRadius, float splashEdge,
+                   Texture texture) {
+        this.index = index;
+        this.id = id;
+        this.width = width;
+        this.height = height;
+        this.hitBox = hitBox;
+        this.collisionLayer = collisionLayer;
+        this.collisionMask = collisionMask;
+        this.speed = speed;
+        this.lifetime = lifetime;
+        this.shotCount = Math.max(1, shotCount);
+        this.spread = spread;
+        this.turnRate = Math.max(0f, turnRate);
+        this.homingRange = homingRange;
+        this.splashRadius = Math.max(0f, splashRadius);
+        this.splashEdge = Math.max(0f, Math.min(1f, splashEdge));
+        this.texture = texture;
+    }
+
+    // ========== GETTERS ==========
+
+    /** Position dans la table des types (triée par nom) */
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    /** Zone de collision, placée par rapport au coin du sprite */
+    public HitBox getHitBox() {
+        return hitBox;
+    }
+
+    /** Couche de collision (CollisionLayer) et couches touchées */
+    public int getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    public float getLifetime() {
+        return lifetime;
+    }
+
+    /** Projectiles tirés à chaque tir (salve) */
+    public int getShotCount() {
+        return shotCount;
+    }
+
+    /** Angle couvert par une salve (degrés) */
+    public float getSpread() {
+        return spread;
+    }
+
+    /** Rotation maximale d'un tir à tête chercheuse (degrés par seconde, 0 : tir droit) */
+    public float getTurnRate() {
+        return turnRate;
+    }
+
+    /** Distance à laquelle un tir à tête chercheuse repère sa cible */
+    public float getHomingRange() {
+        return homingRange;
+    }
+
+    public boolean isHoming() {
+        return turnRate > 0 && homingRange > 0;
+    }
+
+    /** Rayon de l'explosion à l'impact (0 : dégâts à la seule cible touchée) */
+    public float getSplashRadius() {
+        return splashRadius;
+    }
+
+    /** Fraction des dégâts au bord de l'explosion (plein dégât au centre) */
+    public float getSplashEdge() {
+        return splashEdge;
+    }
+
+    public boolean isExplosive() {
+        return splashRadius > 0;
+    }
+
+    /** Texture partagée par tous les projectiles du type (null sans fenêtre) */
+    public Texture getTexture() {
+        return texture;
+    }
+}
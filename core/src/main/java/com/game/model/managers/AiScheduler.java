@@ -0,0 +1,102 @@
+package com.game.model.managers;
+
+import com.game.model.entities.Enemy;
+import com.game.model.entities.Player;
+
+import java.util.List;
+
+/**
+ * Niveau de détail de l'IA des ennemis selon la distance aux joueurs.
+ *
+ * Un ennemi proche d'un joueur est mis à jour à chaque tick ; plus loin,
+ * un tick sur deux, puis un sur quatre, avec le temps écoulé depuis sa
+ * dernière mise à jour (il parcourt la même distance, en moins de pas).
+ * Les ennemis d'une même bande sont répartis entre les ticks selon leur
+ * identifiant : le coût de l'IA reste à peu près constant d'un tick à
+ * l'autre, même avec des milliers d'ennemis éloignés.
+ *
+ * La bande est recalculée à chaque mise à jour de l'ennemi. Un ennemi
+ * sauté ne coûte qu'une comparaison.
+ */
+public class AiScheduler {
+
+    /** Toutes les IA à chaque tick (game.ai.fullrate) */
+    public static final boolean FULL_RATE = Boolean.getBoolean("game.ai.fullrate");
+
+    /** En deçà, mise à jour à chaque tick */
+    private static final float NEAR_RADIUS = 640f;
+    /** En deçà, un tick sur MID_PERIOD ; au-delà, un sur FAR_PERIOD */
+    private static final float MID_RADIUS = 1280f;
+    private static final int MID_PERIOD = 2;
+    private static final int FAR_PERIOD = 4;
+
+    private long tick;
+    private double time;
+    private float delta;
+
+    // Ennemis mis a jour / sautes au dernier tick (telemetrie)
+    private int updated;
+    private int skipped;
+
+    /**
+     * Début d'un tick de simulation.
+     */
+    public void beginTick(float delta) {
+        tick++;
+        time += delta;
+        this.delta = delta;
+        updated = 0;
+        skipped = 0;
+    }
+
+    /**
+     * Indique si un ennemi est mis à jour ce tick, et avec quel délai.
+     *
+     * @param players Joueurs de la partie (la bande suit le plus proche actif)
+     * @return Temps à simuler pour l'ennemi, ou 0 s'il est sauté ce tick
+     */
+    public float step(Enemy enemy, List<Player> players) {
+        if (tick < enemy.getNextAiTick()) {
+            skipped++;
+            return 0f;
+        }
+        updated++;
+
+        // Premiere mise a jour (ou apres un sommeil) : un seul tick
+        double last = enemy.getLastAiTime();
+        float elapsed = last < 0 ? delta : (float) (time - last);
+        enemy.setLastAiTime(time);
+
+        int period = FULL_RATE ? 1 : periodFor(enemy, players);
+        // Prochain tick de la phase de l'ennemi (phases reparties par identifiant)
+        enemy.setNextAiTick(tick + period - Math.floorMod(tick + enemy.getId(), period));
+        return elapsed;
+    }
+
+    private static int periodFor(Enemy enemy, List<Player> players) {
+        float x = SpatialGrid.centerX(enemy);
+        float y = SpatialGrid.centerY(enemy);
+        float nearestSq = Float.MAX_VALUE;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isActive()) continue;
+            float dx = SpatialGrid.centerX(player) - x;
+            float dy = SpatialGrid.centerY(player) - y;
+            nearestSq = Math.min(nearestSq, dx * dx + dy * dy);
+        }
+        if (nearestSq <= NEAR_RADIUS * NEAR_RADIUS) return 1;
+        return nearestSq <= MID_RADIUS * MID_RADIUS ? MID_PERIOD : FAR_PERIOD;
+    }
+
+    // ========== GETTERS ==========
+
+    /** Ennemis mis à jour au dernier tick */
+    public int getUpdated() {
+        return updated;
+    }
+
+    /** Ennemis sautés au dernier tick */
+    public int getSkipped() {
+        return skipped;
+    }
+}
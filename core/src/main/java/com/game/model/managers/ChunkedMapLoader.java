@@ -0,0 +1,654 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.XmlReader;
+import com.game.utils.DataFiles;
+import com.game.utils.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Chargeur de cartes découpées en chunks (grandes cartes / monde ouvert).
+ *
+ * Format sur disque (dossier de la carte) :
+ * - world.json : dimensions, taille des tuiles, taille des chunks, tileset
+ * - chunks/X_Y.json : tuiles et obstacles d'une région
+ *
+ * Seuls les chunks autour du point suivi (joueur) sont gardés en mémoire.
+ * Les chunks sont lus sur un thread dédié puis intégrés au thread de jeu
+ * dans {@link #update(float, float)}. Les chunks trop éloignés sont libérés.
+ *
+ * Un chunk de la carte qui n'est pas (encore) en mémoire est considéré
+ * comme plein : rien ne se déplace ni ne voit au travers tant qu'il n'est
+ * pas chargé. La simulation reste ainsi cantonnée au voisinage chargé, et
+ * un joueur rapide attend la fin du chargement au lieu d'entrer dans un
+ * mur. Hors des limites de la carte, tout est libre (comme avec le .tmx).
+ */
+public class ChunkedMapLoader {
+
+    /** Nom du fichier de description de la carte */
+    public static final String WORLD_FILE = "world.json";
+
+    /** Sous-dossier contenant les fichiers de chunks */
+    private static final String CHUNK_DIR = "chunks";
+
+    /** Identifiant de tuile sans les bits de retournement de Tiled */
+    private static final long GID_MASK = 0x1fffffffL;
+
+    // Description de la carte
+    private String mapDir;
+    private int tileWidth;
+    private int tileHeight;
+    private int widthInTiles;
+    private int heightInTiles;
+    private int chunkSize;
+    private int chunksX;
+    private int chunksY;
+
+    // Tileset partage par tous les chunks
+    private int firstGid;
+    private Texture tileset;
+    private TextureRegion[] tileRegions;
+
+    // Rendu
+    private SpriteBatch batch;
+    private OrthographicCamera camera;
+
+    // Chunks en memoire (thread de jeu uniquement)
+    private final Map<Long, MapChunk> loadedChunks;
+    private final Set<Long> pendingChunks;
+
+    // Chunks lus par le thread de chargement, en attente d'integration
+    private final ConcurrentLinkedQueue<MapChunk> readyChunks;
+    private ExecutorService loaderThread;
+
+    /** Rayon (en chunks) du voisinage actif autour du point suivi */
+    private int activeRadius;
+
+    // Chunk central courant
+    private int centerChunkX;
+    private int centerChunkY;
+
+    public ChunkedMapLoader() {
+        this.loadedChunks = new HashMap<>();
+        this.pendingChunks = new HashSet<>();
+        this.readyChunks = new ConcurrentLinkedQueue<>();
+        this.activeRadius = 1;
+        this.centerChunkX = Integer.MIN_VALUE;
+        this.centerChunkY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Charge la description d'une carte (world.json). Les chunks eux-mêmes
+     * sont chargés à la demande.
+     *
+     * @return true si la carte est utilisable
+     */
+    public boolean loadMap(String worldPath) {
+        try {
+            FileHandle worldFile = Gdx.files.internal(worldPath);
+            JsonValue json = new JsonReader().parse(worldFile);
+
+            mapDir = worldFile.parent().path();
+            tileWidth = json.getInt("tileWidth", 16);
+            tileHeight = json.getInt("tileHeight", 16);
+            widthInTiles = json.getInt("widthInTiles");
+            heightInTiles = json.getInt("heightInTiles");
+            chunkSize = json.getInt("chunkSize", 32);
+            activeRadius = json.getInt("activeRadius", 1);
+
+            chunksX = (widthInTiles + chunkSize - 1) / chunkSize;
+            chunksY = (heightInTiles + chunkSize - 1) / chunkSize;
+
+            // Decoupe du tileset en regions (une par identifiant)
+            JsonValue tilesetJson = json.get("tileset");
+            firstGid = tilesetJson.getInt("firstGid", 1);
+            tileset = new Texture(Gdx.files.internal(tilesetJson.getString("path")));
+            TextureRegion[][] grid = TextureRegion.split(tileset, tileWidth, tileHeight);
+            int columns = grid.length > 0 ? grid[0].length : 0;
+            tileRegions = new TextureRegion[grid.length * columns];
+            for (int row = 0; row < grid.length; row++) {
+                for (int col = 0; col < columns; col++) {
+                    tileRegions[row * columns + col] = grid[row][col];
+                }
+            }
+
+            batch = new SpriteBatch();
+            loaderThread = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chunk-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            Log.info("Carte par chunks chargée : {} ({}x{} chunks de {} tuiles)",
+                worldPath, chunksX, chunksY, chunkSize);
+            return true;
+        } catch (Exception e) {
+            Log.error("Erreur chargement carte par chunks : {}", worldPath, e);
+            return false;
+        }
+    }
+
+    /**
+     * Charge immédiatement (sur le thread appelant) le voisinage d'un point.
+     * A utiliser au démarrage, avant de placer le joueur.
+     */
+    public void preload(float focusX, float focusY) {
+        int cx = toChunkX(focusX);
+        int cy = toChunkY(focusY);
+
+        for (int y = cy - activeRadius; y <= cy + activeRadius; y++) {
+            for (int x = cx - activeRadius; x <= cx + activeRadius; x++) {
+                if (isInsideMap(x, y) && !loadedChunks.containsKey(MapChunk.key(x, y))) {
+                    MapChunk chunk = readChunk(x, y);
+                    loadedChunks.put(chunk.getKey(), chunk);
+                }
+            }
+        }
+
+        centerChunkX = cx;
+        centerChunkY = cy;
+    }
+
+    /**
+     * Met à jour le voisinage actif autour du point suivi :
+     * intègre les chunks prêts, demande les manquants, libère les éloignés.
+     */
+    public void update(float focusX, float focusY) {
+        // Integrer les chunks lus en arriere-plan
+        MapChunk ready;
+        while ((ready = readyChunks.poll()) != null) {
+            pendingChunks.remove(ready.getKey());
+            if (isNearCenter(ready.getChunkX(), ready.getChunkY(), activeRadius + 1)) {
+                loadedChunks.put(ready.getKey(), ready);
+            }
+        }
+
+        int cx = toChunkX(focusX);
+        int cy = toChunkY(focusY);
+        if (cx == centerChunkX && cy == centerChunkY) {
+            return;
+        }
+        centerChunkX = cx;
+        centerChunkY = cy;
+
+        // Demander les chunks manquants du voisinage
+        for (int y = cy - activeRadius; y <= cy + activeRadius; y++) {
+            for (int x = cx - activeRadius; x <= cx + activeRadius; x++) {
+                long key = MapChunk.key(x, y);
+                if (isInsideMap(x, y) && !loadedChunks.containsKey(key) && pendingChunks.add(key)) {
+                    requestChunk(x, y);
+                }
+            }
+        }
+
+        // Liberer les chunks hors du voisinage (marge d'un chunk pour eviter les allers-retours)
+        Iterator<MapChunk> it = loadedChunks.values().iterator();
+        while (it.hasNext()) {
+            MapChunk chunk = it.next();
+            if (!isNearCenter(chunk.getChunkX(), chunk.getChunkY(), activeRadius + 1)) {
+                it.remove();
+            }
+        }
+    }
+
+    private void requestChunk(final int x, final int y) {
+        loaderThread.execute(() -> readyChunks.add(readChunk(x, y)));
+    }
+
+    /**
+     * Lit un fichier de chunk. Un fichier absent donne un chunk vide.
+     */
+    private MapChunk readChunk(int x, int y) {
+        MapChunk chunk = new MapChunk(x, y, chunkSize);
+        FileHandle file = Gdx.files.internal(mapDir + "/" + CHUNK_DIR + "/" + x + "_" + y + ".json");
+
+        if (!file.exists()) {
+            return chunk;
+        }
+
+        try {
+            JsonValue json = new JsonReader().parse(file);
+
+            JsonValue tiles = json.get("tiles");
+            if (tiles != null) {
+                int[] ids = tiles.asIntArray();
+                int count = Math.min(ids.length, chunkSize * chunkSize);
+                for (int i = 0; i < count; i++) {
+                    chunk.setTile(i % chunkSize, i / chunkSize, ids[i]);
+                }
+            }
+
+            JsonValue obstacles = json.get("obstacles");
+            if (obstacles != null) {
+                for (JsonValue obstacle : obstacles) {
+                    float[] r = obstacle.asFloatArray();
+                    chunk.getObstacles().add(new Rectangle(r[0], r[1], r[2], r[3]));
+                }
+            }
+        } catch (Exception e) {
+            Log.error("Erreur lecture chunk {}", file.path(), e);
+        }
+
+        chunk.buildObstacleGrid(tileWidth, tileHeight);
+        return chunk;
+    }
+
+    /**
+     * Configure la vue de la caméra pour le rendu.
+     */
+    public void setView(OrthographicCamera camera) {
+        this.camera = camera;
+    }
+
+    /**
+     * Affiche les tuiles des chunks chargés visibles par la caméra.
+     */
+    public void render() {
+        if (camera == null || batch == null) {
+            return;
+        }
+
+        // Zone visible en tuiles
+        float halfW = camera.viewportWidth * camera.zoom / 2f;
+        float halfH = camera.viewportHeight * camera.zoom / 2f;
+        int minTileX = Math.max(0, (int) ((camera.position.x - halfW) / tileWidth));
+        int minTileY = Math.max(0, (int) ((camera.position.y - halfH) / tileHeight));
+        int maxTileX = Math.min(widthInTiles - 1, (int) ((camera.position.x + halfW) / tileWidth));
+        int maxTileY = Math.min(heightInTiles - 1, (int) ((camera.position.y + halfH) / tileHeight));
+
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+
+        for (int cy = minTileY / chunkSize; cy <= maxTileY / chunkSize; cy++) {
+            for (int cx = minTileX / chunkSize; cx <= maxTileX / chunkSize; cx++) {
+                MapChunk chunk = loadedChunks.get(MapChunk.key(cx, cy));
+                if (chunk != null) {
+                    renderChunk(chunk, minTileX, minTileY, maxTileX, maxTileY);
+                }
+            }
+        }
+
+        batch.end();
+    }
+
+    private void renderChunk(MapChunk chunk, int minTileX, int minTileY, int maxTileX, int maxTileY) {
+        int originX = chunk.getChunkX() * chunkSize;
+        int originY = chunk.getChunkY() * chunkSize;
+
+        int fromX = Math.max(minTileX, originX) - originX;
+        int fromY = Math.max(minTileY, originY) - originY;
+        int toX = Math.min(maxTileX, originX + chunkSize - 1) - originX;
+        int toY = Math.min(maxTileY, originY + chunkSize - 1) - originY;
+
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+                int index = chunk.getTile(x, y) - firstGid;
+                if (index >= 0 && index < tileRegions.length) {
+                    batch.draw(tileRegions[index],
+                        (originX + x) * tileWidth, (originY + y) * tileHeight,
+                        tileWidth, tileHeight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Vérifie si un rectangle touche un obstacle des chunks chargés, ou un
+     * chunk de la carte pas encore chargé.
+     */
+    public boolean isCollidingWithObstacles(Rectangle bounds) {
+        int minX = toChunkX(bounds.x);
+        int minY = toChunkY(bounds.y);
+        int maxX = toChunkX(bounds.x + bounds.width);
+        int maxY = toChunkY(bounds.y + bounds.height);
+
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                MapChunk chunk = loadedChunks.get(MapChunk.key(cx, cy));
+                if (chunk == null) {
+                    // Zone non chargee : bloquee
+                    if (isInsideMap(cx, cy)) return true;
+                    continue;
+                }
+
+                for (Rectangle obstacle : chunk.getObstacles()) {
+                    if (bounds.overlaps(obstacle)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Premier obstacle des chunks chargés touché par un rayon. Les chunks
+     * traversés sont parcourus dans l'ordre (DDA sur la grille des
+     * chunks), puis les tuiles de chacun. Un chunk non chargé arrête le
+     * rayon à son bord (obstacle null dans le résultat).
+     *
+     * @param dirX Direction du rayon (normalisée)
+     * @return Distance du point touché, ou -1 si rien n'est touché
+     */
+    public float raycast(float originX, float originY, float dirX, float dirY, float maxDistance, RaycastHit hit) {
+        float chunkWidth = tileWidth * chunkSize;
+        float chunkHeight = tileHeight * chunkSize;
+
+        // Restreindre le rayon a la grille des chunks
+        float from = 0;
+        float to = maxDistance;
+        if (dirX != 0) {
+            float t1 = -originX / dirX;
+            float t2 = (chunksX * chunkWidth - originX) / dirX;
+            from = Math.max(from, Math.min(t1, t2));
+            to = Math.min(to, Math.max(t1, t2));
+        }
+        if (dirY != 0) {
+            float t1 = -originY / dirY;
+            float t2 = (chunksY * chunkHeight - originY) / dirY;
+            from = Math.max(from, Math.min(t1, t2));
+            to = Math.min(to, Math.max(t1, t2));
+        }
+        if (from > to) {
+            return -1;
+        }
+
+        int cx = Math.max(0, Math.min(chunksX - 1, toChunkX(originX + dirX * from)));
+        int cy = Math.max(0, Math.min(chunksY - 1, toChunkY(originY + dirY * from)));
+        int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+        float deltaX = stepX != 0 ? chunkWidth / Math.abs(dirX) : Float.POSITIVE_INFINITY;
+        float deltaY = stepY != 0 ? chunkHeight / Math.abs(dirY) : Float.POSITIVE_INFINITY;
+        float nextX = stepX > 0 ? ((cx + 1) * chunkWidth - originX) / dirX
+            : stepX < 0 ? (cx * chunkWidth - originX) / dirX : Float.POSITIVE_INFINITY;
+        float nextY = stepY > 0 ? ((cy + 1) * chunkHeight - originY) / dirY
+            : stepY < 0 ? (cy * chunkHeight - originY) / dirY : Float.POSITIVE_INFINITY;
+
+        float best = -1;
+        float enter = from;
+        while (enter <= to && (best < 0 || enter <= best)) {
+            MapChunk chunk = loadedChunks.get(MapChunk.key(cx, cy));
+            if (chunk == null) {
+                // Zone non chargee : le rayon s'arrete a son bord
+                best = enter;
+                if (hit != null) {
+                    hit.set(originX + dirX * enter, originY + dirY * enter, enter, null);
+                }
+                break;
+            }
+            ObstacleGrid grid = chunk.getObstacleGrid();
+            if (grid != null) {
+                float t = grid.cast(originX, originY, dirX, dirY, from, best < 0 ? to : best, hit);
+                if (t >= 0 && (best < 0 || t < best)) best = t;
+            }
+
+            // Chunk suivant
+            if (nextX < nextY) {
+                enter = nextX;
+                nextX += deltaX;
+                cx += stepX;
+                if (cx < 0 || cx >= chunksX) break;
+            } else {
+                enter = nextY;
+                nextY += deltaY;
+                cy += stepY;
+                if (cy < 0 || cy >= chunksY || stepY == 0) break;
+            }
+        }
+        return best;
+    }
+
+    private int toChunkX(float worldX) {
+        return (int) Math.floor(worldX / (tileWidth * chunkSize));
+    }
+
+    private int toChunkY(float worldY) {
+        return (int) Math.floor(worldY / (tileHeight * chunkSize));
+    }
+
+    private boolean isInsideMap(int chunkX, int chunkY) {
+        return chunkX >= 0 && chunkY >= 0 && chunkX < chunksX && chunkY < chunksY;
+    }
+
+    private boolean isNearCenter(int chunkX, int chunkY, int radius) {
+        return Math.abs(chunkX - centerChunkX) <= radius && Math.abs(chunkY - centerChunkY) <= radius;
+    }
+
+    /**
+     * Convertit une carte Tiled (premier calque de tuiles + obstacles) au
+     * format par chunks. Outil de préparation des grandes cartes.
+     *
+     * @param map Carte Tiled déjà chargée
+     * @param obstacles Obstacles extraits de la carte (en pixels)
+     * @param tilesetPath Chemin interne de l'image du tileset
+     * @param chunkSize Taille d'un chunk en tuiles
+     * @param outDir Dossier de sortie (world.json + chunks/)
+     */
+    public static void exportFromTiled(TiledMap map, List<Rectangle> obstacles, String tilesetPath,
+                                       int chunkSize, FileHandle outDir) {
+        TiledMapTileLayer tileLayer = null;
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer) {
+                tileLayer = (TiledMapTileLayer) layer;
+                break;
+            }
+        }
+        if (tileLayer == null) {
+            Log.warn("Aucun calque de tuiles à exporter");
+            return;
+        }
+
+        int width = tileLayer.getWidth();
+        int height = tileLayer.getHeight();
+        int[] gids = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                gids[y * width + x] = (cell != null && cell.getTile() != null) ? cell.getTile().getId() : 0;
+            }
+        }
+
+        writeChunks(gids, width, height, tileLayer.getTileWidth(), tileLayer.getTileHeight(),
+            obstacles, tilesetPath, 1, chunkSize, outDir);
+    }
+
+    /**
+     * Convertit un fichier .tmx au format par chunks, sans TmxMapLoader :
+     * utilisable sans fenêtre (pas de textures). Lit le premier calque de
+     * tuiles (encodage csv) et le premier tileset ; world.json et chunks/
+     * sont écrits dans le dossier de la carte.
+     *
+     * @param mapDir Dossier interne de la carte (ex. "maps/map1")
+     * @param tmxName Nom du fichier .tmx dans ce dossier
+     * @param obstacles Obstacles extraits de la carte (en pixels)
+     * @param chunkSize Taille d'un chunk en tuiles
+     * @return false si la carte n'a pas pu être lue
+     */
+    public static boolean exportFromTmx(String mapDir, String tmxName, List<Rectangle> obstacles, int chunkSize) {
+        FileHandle tmxFile = DataFiles.internal(mapDir + "/" + tmxName);
+        try {
+            XmlReader reader = new XmlReader();
+            XmlReader.Element map = reader.parse(tmxFile);
+            int tileW = map.getIntAttribute("tilewidth", 16);
+            int tileH = map.getIntAttribute("tileheight", 16);
+
+            // Tileset : integre a la carte ou dans un .tsx voisin
+            XmlReader.Element tileset = map.getChildByName("tileset");
+            if (tileset == null) {
+                Log.warn("Aucun tileset dans {}", tmxFile.path());
+                return false;
+            }
+            int firstGid = tileset.getIntAttribute("firstgid", 1);
+            String tilesetDir = mapDir;
+            String source = tileset.getAttribute("source", null);
+            if (source != null) {
+                tileset = reader.parse(DataFiles.internal(mapDir + "/" + source));
+                int slash = source.lastIndexOf('/');
+                if (slash >= 0) tilesetDir = mapDir + "/" + source.substring(0, slash);
+            }
+            XmlReader.Element image = tileset.getChildByName("image");
+            if (image == null) {
+                Log.warn("Tileset sans image dans {}", tmxFile.path());
+                return false;
+            }
+            String tilesetPath = tilesetDir + "/" + image.getAttribute("source");
+
+            XmlReader.Element layer = map.getChildByName("layer");
+            XmlReader.Element data = layer != null ? layer.getChildByName("data") : null;
+            if (data == null || !"csv".equals(data.getAttribute("encoding", ""))) {
+                Log.warn("Aucun calque de tuiles csv dans {}", tmxFile.path());
+                return false;
+            }
+            int width = layer.getIntAttribute("width");
+            int height = layer.getIntAttribute("height");
+            String[] cells = data.getText().trim().split("\\s*,\\s*");
+
+            // Tiled range les lignes du haut vers le bas, les chunks du bas vers le haut
+            int[] gids = new int[width * height];
+            for (int i = 0; i < Math.min(cells.length, gids.length); i++) {
+                int row = height - 1 - i / width;
+                // Bits hauts : retournements de la tuile (non geres au rendu)
+                gids[row * width + i % width] = (int) (Long.parseLong(cells[i]) & GID_MASK);
+            }
+
+            writeChunks(gids, width, height, tileW, tileH, obstacles, tilesetPath, firstGid,
+                chunkSize, DataFiles.internal(mapDir));
+            return true;
+        } catch (Exception e) {
+            Log.error("Erreur export de la carte {}", tmxFile.path(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Écrit world.json et un fichier par chunk.
+     *
+     * @param gids Identifiants des tuiles, ligne par ligne depuis le bas-gauche
+     */
+    private static void writeChunks(int[] gids, int width, int height, int tileW, int tileH,
+                                    List<Rectangle> obstacles, String tilesetPath, int firstGid,
+                                    int chunkSize, FileHandle outDir) {
+        int countX = (width + chunkSize - 1) / chunkSize;
+        int countY = (height + chunkSize - 1) / chunkSize;
+
+        outDir.child(WORLD_FILE).writeString(
+            "{\n" +
+            "  \"tileWidth\": " + tileW + ",\n" +
+            "  \"tileHeight\": " + tileH + ",\n" +
+            "  \"widthInTiles\": " + width + ",\n" +
+            "  \"heightInTiles\": " + height + ",\n" +
+            "  \"chunkSize\": " + chunkSize + ",\n" +
+            "  \"tileset\": { \"path\": \"" + tilesetPath + "\", \"firstGid\": " + firstGid + " }\n" +
+            "}\n", false, "UTF-8");
+
+        for (int cy = 0; cy < countY; cy++) {
+            for (int cx = 0; cx < countX; cx++) {
+                StringBuilder json = new StringBuilder();
+                json.append("{\"x\":").append(cx).append(",\"y\":").append(cy).append(",\"tiles\":[");
+
+                for (int y = 0; y < chunkSize; y++) {
+                    for (int x = 0; x < chunkSize; x++) {
+                        int tileX = cx * chunkSize + x;
+                        int tileY = cy * chunkSize + y;
+                        int gid = (tileX < width && tileY < height) ? gids[tileY * width + tileX] : 0;
+                        if (x > 0 || y > 0) json.append(',');
+                        json.append(gid);
+                    }
+                }
+
+                // Un obstacle est copie dans chaque chunk qu'il chevauche
+                Rectangle area = new Rectangle(cx * chunkSize * tileW, cy * chunkSize * tileH,
+                    chunkSize * tileW, chunkSize * tileH);
+                List<Rectangle> inChunk = new ArrayList<>();
+                for (Rectangle obstacle : obstacles) {
+                    if (area.overlaps(obstacle)) inChunk.add(obstacle);
+                }
+
+                json.append("],\"obstacles\":[");
+                for (int i = 0; i < inChunk.size(); i++) {
+                    Rectangle r = inChunk.get(i);
+                    if (i > 0) json.append(',');
+                    json.append('[').append(r.x).append(',').append(r.y).append(',')
+                        .append(r.width).append(',').append(r.height).append(']');
+                }
+                json.append("]}\n");
+
+                outDir.child(CHUNK_DIR).child(cx + "_" + cy + ".json").writeString(json.toString(), false, "UTF-8");
+            }
+        }
+
+        Log.info("Carte exportée : {}x{} chunks dans {}", countX, countY, outDir.path());
+    }
+
+    // ========== GETTERS ==========
+
+    public float getWidthInPixels() {
+        return widthInTiles * tileWidth;
+    }
+
+    public float getHeightInPixels() {
+        return heightInTiles * tileHeight;
+    }
+
+    /**
+     * Retourne la zone (en pixels) du voisinage actif autour du chunk central.
+     */
+    public Rectangle getActiveBounds(Rectangle out) {
+        int chunkW = tileWidth * chunkSize;
+        int chunkH = tileHeight * chunkSize;
+        int minX = Math.max(0, centerChunkX - activeRadius);
+        int minY = Math.max(0, centerChunkY - activeRadius);
+        int maxX = Math.min(chunksX - 1, centerChunkX + activeRadius);
+        int maxY = Math.min(chunksY - 1, centerChunkY + activeRadius);
+
+        out.set(minX * chunkW, minY * chunkH, (maxX - minX + 1) * chunkW, (maxY - minY + 1) * chunkH);
+        // Ne pas depasser les bords de la carte
+        out.width = Math.min(out.width, getWidthInPixels() - out.x);
+        out.height = Math.min(out.height, getHeightInPixels() - out.y);
+        return out;
+    }
+
+    public int getLoadedChunkCount() {
+        return loadedChunks.size();
+    }
+
+    public void setActiveRadius(int activeRadius) {
+        this.activeRadius = Math.max(0, activeRadius);
+    }
+
+    /**
+     * Libère les ressources de la carte et arrête le thread de chargement.
+     */
+    public void dispose() {
+        if (loaderThread != null) {
+            loaderThread.shutdownNow();
+        }
+        loadedChunks.clear();
+        pendingChunks.clear();
+        readyChunks.clear();
+
+        if (batch != null) batch.dispose();
+        if (tileset != null) tileset.dispose();
+    }
+}
@@ -0,0 +1,65 @@
+package com.game.model.managers;
+
+import com.game.model.entities.Collectible;
+import com.game.model.entities.Entity;
+import com.game.model.entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Attraction des objets à ramasser vers les joueurs.
+ *
+ * Au lieu de calculer la distance au joueur pour chaque objet à chaque
+ * frame, seules les cellules de la grille proches d'un joueur sont lues :
+ * les objets loin de tous les joueurs ne coûtent rien. Les objets
+ * attirés changent de cellule au fil de leur déplacement.
+ */
+public class CollectibleMagnet {
+
+    private final SpatialGrid grid;
+
+    // Resultat des recherches (reutilise, pas d'allocation par frame)
+    private final List<Entity> nearby = new ArrayList<>();
+
+    /**
+     * @param grid Grille contenant les objets à ramasser (elle peut aussi
+     *             contenir d'autres entités, ignorées ici)
+     */
+    public CollectibleMagnet(SpatialGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Attire les objets proches de chaque joueur actif. Avec plusieurs
+     * joueurs, un objet n'est attiré que par le plus proche.
+     */
+    public void update(GameState state, float delta) {
+        List<Player> players = state.getPlayers();
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            if (!player.isActive()) continue;
+
+            // Marge : la distance d'attraction se mesure entre les positions,
+            // la grille range les entites par leur centre
+            float radius = Collectible.ATTRACTION_RADIUS + player.getWidth();
+            nearby.clear();
+            grid.query(SpatialGrid.centerX(player), SpatialGrid.centerY(player), radius, nearby);
+
+            for (int i = 0; i < nearby.size(); i++) {
+                Entity entity = nearby.get(i);
+                if (!(entity instanceof Collectible) || !entity.isActive()) continue;
+
+                Collectible collectible = (Collectible) entity;
+                if (players.size() > 1
+                    && state.getNearestPlayer(collectible.getPosition().x, collectible.getPosition().y) != player) {
+                    continue;
+                }
+                if (collectible.attract(player, delta)) {
+                    grid.update(collectible);
+                }
+            }
+        }
+        nearby.clear();
+    }
+}
@@ -1,17 +1,30 @@
 package com.game.model.managers;
 
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.XmlReader;
 import com.game.model.entities.Collectible;
+import com.game.model.entities.CollisionLayer;
 import com.game.model.entities.Enemy;
+import com.game.model.entities.HitBox;
 import com.game.model.entities.Player;
-import com.game.model.entities.Projectile;
+import com.game.utils.Log;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Gestionnaire des collisions
@@ -21,16 +34,73 @@ import java.util.List;
  * - Cherche TOUS les calques avec "Object Layer" dans le nom
  * - Extrait TOUS les rectangles trouvés
  * - Si aucun trouvé → Crée obstacles de test
+ *
+ * Les collisions entre entités sont cherchées en parallèle (lecture
+ * seule) puis appliquées sur le fil appelant, dans un ordre fixe.
+ * Chaque paire est testée selon la forme de ses zones de collision
+ * (rectangle, cercle, capsule : voir ShapeOverlap).
+ *
+ * Un projectile explosif qui touche un ennemi ou un obstacle explose :
+ * les dégâts de zone de toutes les explosions du tick sont cumulés puis
+ * appliqués une fois par ennemi (voir SplashDamage).
  */
 public class CollisionManager {
 
     private List<Rectangle> obstacles;
     private boolean obstaclesLoaded;
+    private ChunkedMapLoader chunkedMap;
     private static final int PLAYER_HIT_DAMAGE = 10;
 
+    // Grille d'occupation pour les lancers de rayons (construite a la demande, null a reconstruire)
+    private volatile ObstacleGrid obstacleGrid;
+    private float tileWidth = 16;
+    private float tileHeight = 16;
+
+    // Paires d'entites testees pendant le dernier handleAllCollisions (telemetrie)
+    private int pairsTested;
+
+    /** Fils de la recherche des paires (game.collision.threads, par défaut un par cœur) */
+    private static final int THREADS = Math.max(1,
+        Integer.getInteger("game.collision.threads", Runtime.getRuntime().availableProcessors()));
+
+    /** En dessous (ennemis + objets + projectiles), la recherche reste sur le fil appelant */
+    private static final int PARALLEL_THRESHOLD = 2048;
+
+    private static ExecutorService pool;
+
+    // Un chercheur de paires par fil, avec ses tampons (reutilises, pas d'allocation par frame)
+    private final PairFinder[] finders;
+    private final Future<?>[] pending;
+    private int usedFinders;
+
+    // Joueurs actifs au debut du passage : indice dans la liste, forme et zone (x, y, largeur, hauteur)
+    private final IntArray activePlayers = new IntArray();
+    private int[] playerIds = new int[4];
+    private int[] playerShapes = new int[4];
+    private int[] playerLayers = new int[4];
+    private int[] playerMasks = new int[4];
+    private float[] playerBounds = new float[16];
+
+    // Contacts joueur-ennemi persistants d'un tick a l'autre
+    private final ContactCache contacts = new ContactCache();
+
+    // Explosions des projectiles du tick, appliquees en une fois apres les coups directs
+    private final SplashDamage splash = new SplashDamage();
+    private int splashHits;
+
+    // Listes du passage en cours (lues par les fils)
+    private List<Enemy> passEnemies;
+    private List<Collectible> passCollectibles;
+    private ProjectileSystem passProjectiles;
+
     public CollisionManager() {
         this.obstacles = new ArrayList<>();
         this.obstaclesLoaded = false;
+        this.finders = new PairFinder[THREADS];
+        for (int w = 0; w < THREADS; w++) {
+            finders[w] = new PairFinder();
+        }
+        this.pending = new Future<?>[THREADS];
     }
 
     /**
@@ -40,23 +110,24 @@ public class CollisionManager {
         // Reset de la liste avant chargement
         obstacles.clear();
         obstaclesLoaded = false;
+        obstacleGrid = null;
 
         if (map == null) {
-            System.err.println(" Carte null !");
+            Log.warn("Carte null !");
             createTestObstacles();
             return;
         }
 
-        System.out.println("========================================");
-        System.out.println("  ANALYSE DE LA MAP TILED");
-        System.out.println("========================================");
+        Log.info("ANALYSE DE LA MAP TILED");
+        tileWidth = map.getProperties().get("tilewidth", 16, Integer.class);
+        tileHeight = map.getProperties().get("tileheight", 16, Integer.class);
 
         // Lister TOUS les calques disponibles
-        System.out.println(" Calques disponibles :");
+        Log.debug("Calques disponibles :");
         for (MapLayer layer : map.getLayers()) {
             int objectCount = layer.getObjects().getCount();
             String type = layer.getClass().getSimpleName();
-            System.out.println("   • " + layer.getName() + " (" + type + ", " + objectCount + " objets)");
+            Log.debug("   • {} ({}, {} objets)", layer.getName(), type, objectCount);
         }
 
         //   Chercher TOUS les calques avec des objets
@@ -68,13 +139,13 @@ public class CollisionManager {
             MapLayer layer = map.getLayers().get(name);
             if (layer != null && layer.getObjects().getCount() > 0) {
                 candidateLayers.add(layer);
-                System.out.println("✓ Calque prioritaire trouvé : '" + name + "'");
+                Log.info("Calque prioritaire trouvé : '{}'", name);
             }
         }
 
         // Priorité 2 : TOUS les calques avec "Object" dans le nom
         if (candidateLayers.isEmpty()) {
-            System.out.println("  Aucun calque prioritaire, recherche dans TOUS les calques d'objets...");
+            Log.debug("Aucun calque prioritaire, recherche dans TOUS les calques d'objets...");
 
             for (MapLayer layer : map.getLayers()) {
                 String layerName = layer.getName();
@@ -85,19 +156,19 @@ public class CollisionManager {
                     (layerName.toLowerCase().contains("object") ||
                         layerName.toLowerCase().contains("layer"))) {
                     candidateLayers.add(layer);
-                    System.out.println("   → Calque candidat : '" + layerName + "' (" + objectCount + " objets)");
+                    Log.info("Calque candidat : '{}' ({} objets)", layerName, objectCount);
                 }
             }
         }
 
         // Si toujours rien, prendre le PREMIER calque avec des objets
         if (candidateLayers.isEmpty()) {
-            System.out.println("  Toujours aucun calque, recherche du PREMIER calque avec objets...");
+            Log.debug("Toujours aucun calque, recherche du PREMIER calque avec objets...");
 
             for (MapLayer layer : map.getLayers()) {
                 if (layer.getObjects().getCount() > 0) {
                     candidateLayers.add(layer);
-                    System.out.println("   → Utilisation de : '" + layer.getName() + "'");
+                    Log.info("Utilisation de : '{}'", layer.getName());
                     break;
                 }
             }
@@ -105,23 +176,20 @@ public class CollisionManager {
 
         // Si AUCUN calque trouvé → Obstacles de test
         if (candidateLayers.isEmpty()) {
-            System.err.println(" AUCUN calque d'objets trouvé dans la map !");
-            System.err.println("   → Création d'obstacles de test");
+            Log.warn("AUCUN calque d'objets trouvé dans la map ! Création d'obstacles de test");
             createTestObstacles();
             return;
         }
 
         // EXTRAIRE LES RECTANGLES DE TOUS LES CALQUES CANDIDATS
-        System.out.println("========================================");
-        System.out.println(" EXTRACTION DES OBSTACLES");
-        System.out.println("========================================");
+        Log.debug("EXTRACTION DES OBSTACLES");
 
         int totalRectangles = 0;
 
         for (MapLayer layer : candidateLayers) {
             int rectanglesInLayer = 0;
 
-            System.out.println("Calque : '" + layer.getName() + "'");
+            Log.debug("Calque : '{}'", layer.getName());
 
             for (MapObject object : layer.getObjects()) {
                 if (object instanceof RectangleMapObject) {
@@ -131,33 +199,91 @@ public class CollisionManager {
                     totalRectangles++;
 
                     // Debug : Afficher les 3 premiers obstacles de chaque calque
-                    if (rectanglesInLayer <= 3) {
-                        System.out.println("   ✓ Obstacle " + rectanglesInLayer + ": " +
-                            "x=" + (int)rect.x + " y=" + (int)rect.y +
-                            " w=" + (int)rect.width + " h=" + (int)rect.height);
+                    if (Log.DEBUG && rectanglesInLayer <= 3) {
+                        Log.debug("   Obstacle {}: x={} y={} w={} h={}", rectanglesInLayer,
+                            (int) rect.x, (int) rect.y, (int) rect.width, (int) rect.height);
                     }
                 }
             }
 
-            if (rectanglesInLayer > 3) {
-                System.out.println("   ... et " + (rectanglesInLayer - 3) + " autres");
+            if (Log.DEBUG && rectanglesInLayer > 3) {
+                Log.debug("   ... et {} autres", rectanglesInLayer - 3);
             }
 
-            System.out.println("   → Total : " + rectanglesInLayer + " rectangles");
+            Log.debug("   → Total : {} rectangles", rectanglesInLayer);
         }
 
         if (totalRectangles == 0) {
-            System.err.println(" Aucun rectangle trouvé dans les calques !");
-            System.err.println("   (Les objets doivent être de type RECTANGLE, pas polygone)");
-            System.err.println("   → Création d'obstacles de test");
+            Log.warn("Aucun rectangle trouvé dans les calques (les objets doivent être de type RECTANGLE, pas polygone)");
+            Log.warn("Création d'obstacles de test");
+            createTestObstacles();
+            return;
+        }
+
+        obstaclesLoaded = true;
+        Log.info("{} obstacles chargés depuis Tiled", totalRectangles);
+    }
+
+    /**
+     * Charge les obstacles directement depuis le fichier .tmx, sans
+     * TmxMapLoader (qui charge aussi les textures des tuiles).
+     * Utilisé par le serveur dédié, sans fenêtre ni contexte OpenGL.
+     *
+     * Tous les rectangles des calques d'objets sont retenus.
+     */
+    public void loadObstaclesFromTmx(FileHandle tmxFile) {
+        obstacles.clear();
+        obstaclesLoaded = false;
+        obstacleGrid = null;
+
+        try {
+            XmlReader.Element map = new XmlReader().parse(tmxFile);
+            float mapHeight = map.getIntAttribute("height", 0) * map.getIntAttribute("tileheight", 0);
+            tileWidth = map.getIntAttribute("tilewidth", 16);
+            tileHeight = map.getIntAttribute("tileheight", 16);
+
+            for (XmlReader.Element group : map.getChildrenByName("objectgroup")) {
+                for (XmlReader.Element object : group.getChildrenByName("object")) {
+                    // Ellipses, polygones, points : pas des rectangles
+                    if (!isRectangle(object)) continue;
+
+                    float width = object.getFloatAttribute("width", 0);
+                    float height = object.getFloatAttribute("height", 0);
+                    float x = object.getFloatAttribute("x", 0);
+                    // Tiled a l'axe Y vers le bas, LibGDX vers le haut
+                    float y = mapHeight - object.getFloatAttribute("y", 0) - height;
+                    obstacles.add(new Rectangle(x, y, width, height));
+                }
+            }
+        } catch (Exception e) {
+            Log.error("Erreur lecture obstacles {}", tmxFile.path(), e);
+        }
+
+        if (obstacles.isEmpty()) {
             createTestObstacles();
             return;
         }
 
         obstaclesLoaded = true;
-        System.out.println("========================================");
-        System.out.println( totalRectangles + " obstacles chargés depuis Tiled");
-        System.out.println("========================================");
+        Log.info("{} obstacles chargés depuis {}", obstacles.size(), tmxFile.name());
+    }
+
+    private static boolean isRectangle(XmlReader.Element object) {
+        String[] shapes = {"ellipse", "point", "polygon", "polyline", "text"};
+        for (String shape : shapes) {
+            if (object.getChildByName(shape) != null) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Utilise les obstacles d'une carte par chunks (chargés à la demande)
+     */
+    public void setChunkedMap(ChunkedMapLoader chunkedMap) {
+        this.chunkedMap = chunkedMap;
+        this.obstacles.clear();
+        this.obstacleGrid = null;
+        this.obstaclesLoaded = chunkedMap != null;
     }
 
     /**
@@ -165,10 +291,9 @@ public class CollisionManager {
      */
     private void createTestObstacles() {
         obstacles.clear();
+        obstacleGrid = null;
 
-        System.out.println("========================================");
-        System.out.println(" CRÉATION D'OBSTACLES DE TEST");
-        System.out.println("========================================");
+        Log.info("CRÉATION D'OBSTACLES DE TEST");
 
         // Bordures de la map (720x720)
         obstacles.add(new Rectangle(0, 0, 720, 20));           // Bas
@@ -181,15 +306,18 @@ public class CollisionManager {
         obstacles.add(new Rectangle(200, 340, 320, 40));       // Horizontal
 
         obstaclesLoaded = true;
-        System.out.println(obstacles.size() + " obstacles de test créés");
-        System.out.println("   (4 bordures + 2 murs centraux en croix)");
-        System.out.println("========================================");
+        Log.info("{} obstacles de test créés (4 bordures + 2 murs centraux en croix)", obstacles.size());
     }
 
     /**
      * Vérifie si un rectangle entre en collision avec un obstacle.
      */
     public boolean isCollidingWithObstacles(Rectangle bounds) {
+        // Carte par chunks : seuls les obstacles des chunks proches sont testes
+        if (chunkedMap != null) {
+            return chunkedMap.isCollidingWithObstacles(bounds);
+        }
+
         // Aucun test si pas d'obstacles
         if (!obstaclesLoaded || obstacles.isEmpty()) {
             return false;
@@ -203,95 +331,513 @@ public class CollisionManager {
         return false;
     }
 
+    // ========== LANCERS DE RAYONS ==========
+
+    /**
+     * Premier obstacle sur un rayon (ligne de vue, tirs instantanés).
+     * Parcourt les tuiles traversées une à une : le coût dépend de la
+     * longueur du rayon, pas du nombre d'obstacles. Lecture seule,
+     * utilisable depuis plusieurs fils.
+     *
+     * @param dirX Direction du rayon (pas forcément normalisée)
+     * @param maxDistance Longueur maximale du rayon
+     * @param hit Point, distance et obstacle touchés (peut être null)
+     * @return true si un obstacle est touché
+     */
+    public boolean raycast(float originX, float originY, float dirX, float dirY,
+                           float maxDistance, RaycastHit hit) {
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length == 0 || maxDistance < 0) {
+            return false;
+        }
+        dirX /= length;
+        dirY /= length;
+
+        if (chunkedMap != null) {
+            return chunkedMap.raycast(originX, originY, dirX, dirY, maxDistance, hit) >= 0;
+        }
+        if (!obstaclesLoaded || obstacles.isEmpty()) {
+            return false;
+        }
+        return obstacleGrid().cast(originX, originY, dirX, dirY, 0, maxDistance, hit) >= 0;
+    }
+
+    /**
+     * Premier obstacle sur le segment [(x1, y1), (x2, y2)].
+     */
+    public boolean segmentCast(float x1, float y1, float x2, float y2, RaycastHit hit) {
+        float dx = x2 - x1;
+        float dy = y2 - y1;
+        return raycast(x1, y1, dx, dy, (float) Math.sqrt(dx * dx + dy * dy), hit);
+    }
+
+    /**
+     * Indique si aucun obstacle ne sépare deux points.
+     */
+    public boolean hasLineOfSight(float x1, float y1, float x2, float y2) {
+        return !segmentCast(x1, y1, x2, y2, null);
+    }
+
+    private ObstacleGrid obstacleGrid() {
+        ObstacleGrid grid = obstacleGrid;
+        if (grid == null) {
+            synchronized (this) {
+                grid = obstacleGrid;
+                if (grid == null) {
+                    grid = ObstacleGrid.covering(obstacles, tileWidth, tileHeight);
+                    obstacleGrid = grid;
+                }
+            }
+        }
+        return grid;
+    }
+
     public boolean checkCollision(Rectangle a, Rectangle b) {
         return a.overlaps(b);
     }
 
-    public void handlePlayerEnemyCollisions(Player player, List<Enemy> enemies) {
-        if (!player.isActive()) {
+    /**
+     * Toutes les collisions d'un tick, en deux étapes :
+     * - recherche des paires : lecture seule, répartie entre les fils
+     *   par plages d'ennemis, d'objets et de projectiles, chaque fil
+     *   écrivant dans ses propres tampons
+     * - résolution : sur le fil appelant, dans l'ordre des listes (joueur,
+     *   puis ennemi, puis identifiant de projectile), quel que soit le
+     *   nombre de fils : le résultat est reproductible
+     *
+     * Mêmes règles qu'un test direct : chaque ennemi chevauché blesse le
+     * joueur, un objet va au premier joueur actif qui le touche, un
+     * projectile touche le premier ennemi actif de la liste qui le
+     * chevauche puis disparaît, et disparaît aussi contre un obstacle.
+     * Un projectile explosif blesse à la place tous les ennemis de son
+     * rayon, après les coups directs du tick.
+     * Seules les paires dont les couches s'acceptent sont testées (voir
+     * CollisionLayer) : un tir ennemi passe par la même grille et touche
+     * les joueurs, sans boucle supplémentaire.
+     */
+    public void handleAllCollisions(GameState state) {
+        pairsTested = 0;
+
+        // Joueurs actifs (un seul en solo, plusieurs en cooperation)
+        List<Player> players = state.getPlayers();
+        activePlayers.clear();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isActive()) continue;
+            addPlayerHitBox(activePlayers.size, player);
+            activePlayers.add(i);
+        }
+
+        if (activePlayers.size == 0) {
+            // Plus aucun joueur : tous les contacts se terminent
+            contacts.beginTick();
+            contacts.endTick();
             return;
         }
 
-        // Rectangle de collision du joueur
-        Rectangle playerBounds = player.getBounds();
+        findPairs(state.getEnemies(), state.getCollectibles(), state.getProjectiles());
+        resolvePlayers(players, state.getEnemies(), state.getCollectibles());
+        resolveProjectiles(players, state.getEnemies(), state.getProjectiles());
+    }
 
-        for (Enemy enemy : enemies) {
-            if (!enemy.isActive()) {
-                continue;
+    /**
+     * Projectiles seuls (contre ennemis et obstacles), sans joueur.
+     */
+    public void handleProjectileCollisions(ProjectileSystem projectiles, List<Enemy> enemies) {
+        pairsTested = 0;
+        activePlayers.clear();
+        findPairs(enemies, Collections.emptyList(), projectiles);
+        resolveProjectiles(Collections.emptyList(), enemies, projectiles);
+    }
+
+    // ========== RECHERCHE DES PAIRES ==========
+
+    private void addPlayerHitBox(int slot, Player player) {
+        if (playerShapes.length <= slot) {
+            playerShapes = Arrays.copyOf(playerShapes, playerShapes.length * 2);
+            playerIds = Arrays.copyOf(playerIds, playerShapes.length);
+            playerLayers = Arrays.copyOf(playerLayers, playerShapes.length);
+            playerMasks = Arrays.copyOf(playerMasks, playerShapes.length);
+            playerBounds = Arrays.copyOf(playerBounds, playerShapes.length * 4);
+        }
+        playerIds[slot] = player.getId();
+        playerShapes[slot] = player.getHitShape();
+        playerLayers[slot] = player.getCollisionLayer();
+        playerMasks[slot] = player.getCollisionMask();
+        playerBounds[slot * 4] = player.getHitX();
+        playerBounds[slot * 4 + 1] = player.getHitY();
+        playerBounds[slot * 4 + 2] = player.getHitWidth();
+        playerBounds[slot * 4 + 3] = player.getHitHeight();
+    }
+
+    /**
+     * Découpe le travail entre les fils et attend la fin de la recherche.
+     * Petites scènes : un seul découpage, sur le fil appelant.
+     */
+    private void findPairs(List<Enemy> enemies, List<Collectible> collectibles, ProjectileSystem projectiles) {
+        // La grille des projectiles est construite ici : les fils ne font que la lire
+        projectiles.prepareQueries();
+        passEnemies = enemies;
+        passCollectibles = collectibles;
+        passProjectiles = projectiles;
+
+        int work = enemies.size() + collectibles.size() + projectiles.count();
+        usedFinders = work >= PARALLEL_THRESHOLD ? finders.length : 1;
+        for (int w = 0; w < usedFinders; w++) {
+            PairFinder finder = finders[w];
+            finder.enemyFrom = split(enemies.size(), w, usedFinders);
+            finder.enemyTo = split(enemies.size(), w + 1, usedFinders);
+            finder.collectibleFrom = split(collectibles.size(), w, usedFinders);
+            finder.collectibleTo = split(collectibles.size(), w + 1, usedFinders);
+            finder.projectileFrom = split(projectiles.count(), w, usedFinders);
+            finder.projectileTo = split(projectiles.count(), w + 1, usedFinders);
+            finder.withPlayers = w == 0;
+        }
+
+        if (usedFinders == 1) {
+            finders[0].run();
+        } else {
+            ExecutorService executor = pool();
+            for (int w = 1; w < usedFinders; w++) {
+                pending[w] = executor.submit(finders[w]);
             }
+            finders[0].run();
+            awaitFinders();
+        }
+
+        for (int w = 0; w < usedFinders; w++) {
+            pairsTested += finders[w].pairsTested;
+        }
+        passEnemies = null;
+        passCollectibles = null;
+        passProjectiles = null;
+    }
 
-            if (checkCollision(playerBounds, enemy.getBounds())) {
-                player.takeDamage(PLAYER_HIT_DAMAGE);
+    private void awaitFinders() {
+        try {
+            for (int w = 1; w < usedFinders; w++) {
+                pending[w].get();
+                pending[w] = null;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Recherche des collisions interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erreur pendant la recherche des collisions", e.getCause());
         }
     }
 
-    public void handleProjectileEnemyCollisions(List<Projectile> projectiles, List<Enemy> enemies) {
-        for (Projectile projectile : projectiles) {
-            if (!projectile.isActive()) {
-                continue;
+    private static int split(int size, int part, int parts) {
+        return (int) ((long) size * part / parts);
+    }
+
+    /**
+     * Zone du joueur d'un emplacement contre un ennemi. Les rectangles
+     * englobants sont comparés d'abord ; pour des formes rondes, un
+     * contact du tick précédent dont aucune zone n'a bougé est reconduit
+     * sans refaire le test de forme.
+     */
+    private boolean touchesEnemy(int slot, int enemyId, int layer, int mask,
+                                 int shape, float x, float y, float width, float height) {
+        if (!CollisionLayer.interacts(playerLayers[slot], playerMasks[slot], layer, mask)) {
+            return false;
+        }
+        int at = slot * 4;
+        float px = playerBounds[at];
+        float py = playerBounds[at + 1];
+        if (!(px < x + width && px + playerBounds[at + 2] > x
+            && py < y + height && py + playerBounds[at + 3] > y)) {
+            return false;
+        }
+        if ((shape | playerShapes[slot]) == HitBox.RECTANGLE
+            || contacts.isUnchanged(ContactCache.key(playerIds[slot], enemyId), px, py, x, y)) {
+            return true;
+        }
+        return ShapeOverlap.overlaps(playerShapes[slot], px, py, playerBounds[at + 2], playerBounds[at + 3],
+            shape, x, y, width, height);
+    }
+
+    /**
+     * Zone du joueur d'un emplacement contre une entité (couches
+     * comparées avant la géométrie).
+     */
+    private boolean touchesPlayer(int slot, int layer, int mask,
+                                  int shape, float x, float y, float width, float height) {
+        if (!CollisionLayer.interacts(playerLayers[slot], playerMasks[slot], layer, mask)) {
+            return false;
+        }
+        int at = slot * 4;
+        return ShapeOverlap.overlaps(playerShapes[slot], playerBounds[at], playerBounds[at + 1],
+            playerBounds[at + 2], playerBounds[at + 3], shape, x, y, width, height);
+    }
+
+    /**
+     * Recherche des paires sur une plage de chaque liste. Ne modifie
+     * aucune entité : tout est écrit dans les tampons du fil.
+     */
+    private final class PairFinder implements Runnable {
+        // (emplacement du joueur, indice de l'ennemi)
+        final IntArray playerEnemy = new IntArray();
+        // (emplacement du joueur, indice de l'objet)
+        final IntArray playerCollectible = new IntArray();
+        // Par ennemi touche : indice, nombre de projectiles, puis leurs indices (croissants)
+        final IntArray projectileEnemy = new IntArray();
+        // Meme format par joueur touche (emplacement du joueur), rempli par le premier fil
+        final IntArray projectilePlayer = new IntArray();
+        // Projectiles qui touchent un obstacle
+        final IntArray projectileObstacle = new IntArray();
+        final Rectangle bounds = new Rectangle();
+
+        int enemyFrom, enemyTo;
+        int collectibleFrom, collectibleTo;
+        int projectileFrom, projectileTo;
+        boolean withPlayers;
+        int pairsTested;
+
+        @Override
+        public void run() {
+            playerEnemy.clear();
+            playerCollectible.clear();
+            projectileEnemy.clear();
+            projectilePlayer.clear();
+            projectileObstacle.clear();
+            pairsTested = 0;
+
+            int players = activePlayers.size;
+            ProjectileSystem projectiles = passProjectiles;
+
+            // Tirs ennemis sur les joueurs (quelques joueurs : un seul fil)
+            if (withPlayers) {
+                for (int p = 0; p < players; p++) {
+                    int at = p * 4;
+                    findProjectiles(projectiles, projectilePlayer, p, playerLayers[p], playerMasks[p],
+                        playerShapes[p], playerBounds[at], playerBounds[at + 1],
+                        playerBounds[at + 2], playerBounds[at + 3]);
+                }
             }
 
-            // Rectangle de collision du projectile
-            Rectangle projectileBounds = projectile.getBounds();
+            List<Enemy> enemies = passEnemies;
+            for (int e = enemyFrom; e < enemyTo; e++) {
+                Enemy enemy = enemies.get(e);
+                if (!enemy.isActive()) continue;
+
+                int layer = enemy.getCollisionLayer();
+                int mask = enemy.getCollisionMask();
+                int shape = enemy.getHitShape();
+                float ex = enemy.getHitX();
+                float ey = enemy.getHitY();
+                float ew = enemy.getHitWidth();
+                float eh = enemy.getHitHeight();
+                for (int p = 0; p < players; p++) {
+                    pairsTested++;
+                    if (touchesEnemy(p, enemy.getId(), layer, mask, shape, ex, ey, ew, eh)) {
+                        playerEnemy.add(p, e);
+                    }
+                }
+                findProjectiles(projectiles, projectileEnemy, e, layer, mask, shape, ex, ey, ew, eh);
+            }
 
-            for (Enemy enemy : enemies) {
-                if (!enemy.isActive()) {
-                    continue;
+            List<Collectible> collectibles = passCollectibles;
+            for (int c = collectibleFrom; c < collectibleTo; c++) {
+                Collectible collectible = collectibles.get(c);
+                if (!collectible.isActive()) continue;
+
+                int layer = collectible.getCollisionLayer();
+                int mask = collectible.getCollisionMask();
+                int shape = collectible.getHitShape();
+                float cx = collectible.getHitX();
+                float cy = collectible.getHitY();
+                float cw = collectible.getHitWidth();
+                float ch = collectible.getHitHeight();
+                for (int p = 0; p < players; p++) {
+                    pairsTested++;
+                    if (touchesPlayer(p, layer, mask, shape, cx, cy, cw, ch)) {
+                        playerCollectible.add(p, c);
+                    }
                 }
+            }
 
-                if (checkCollision(projectileBounds, enemy.getBounds())) {
-                    enemy.takeDamage(projectile.getDamage());
-                    projectile.setActive(false);
-                    break;
+            for (int i = projectileFrom; i < projectileTo; i++) {
+                if (!projectiles.isAlive(i)) continue;
+                if ((projectiles.getCollisionMask(i) & CollisionLayer.OBSTACLE) == 0) continue;
+
+                bounds.set(projectiles.getHitboxX(i), projectiles.getHitboxY(i),
+                    projectiles.getHitboxWidth(i), projectiles.getHitboxHeight(i));
+                if (isCollidingWithObstacles(bounds)) {
+                    projectileObstacle.add(i);
                 }
             }
         }
-    }
 
-    public void handlePlayerCollectibleCollisions(Player player, List<Collectible> collectibles) {
-        if (!player.isActive()) {
-            return;
+        /**
+         * Projectiles qui touchent une entité, écrits dans {@code hits}
+         * après un entête (indice de l'entité, nombre de projectiles).
+         * La grille écarte les couches sans intérêt et compare les
+         * rectangles englobants ; la forme exacte est testée ensuite.
+         */
+        private void findProjectiles(ProjectileSystem projectiles, IntArray hits, int body,
+                                     int layer, int mask, int shape,
+                                     float x, float y, float width, float height) {
+            // Les projectiles sont ajoutes directement apres l'entete
+            int header = hits.size;
+            hits.add(body, 0);
+            pairsTested += projectiles.queryOverlaps(x, y, width, height, layer, mask, hits);
+
+            int[] items = hits.items;
+            int kept = header + 2;
+            for (int k = header + 2; k < hits.size; k++) {
+                int i = items[k];
+                int projectileShape = projectiles.getHitboxShape(i);
+                // Deux rectangles : le test de la grille suffit
+                if ((shape | projectileShape) == HitBox.RECTANGLE
+                    || ShapeOverlap.overlaps(shape, x, y, width, height, projectileShape,
+                        projectiles.getHitboxX(i), projectiles.getHitboxY(i),
+                        projectiles.getHitboxWidth(i), projectiles.getHitboxHeight(i))) {
+                    items[kept++] = i;
+                }
+            }
+
+            if (kept == header + 2) {
+                hits.size = header;
+            } else {
+                hits.size = kept;
+                items[header + 1] = kept - header - 2;
+            }
         }
+    }
 
-        // Rectangle de collision du joueur
-        Rectangle playerBounds = player.getBounds();
+    // ========== RESOLUTION ==========
 
-        for (Collectible collectible : collectibles) {
-            if (!collectible.isActive()) {
-                continue;
+    /**
+     * Contacts des joueurs, joueur par joueur : d'abord les ennemis, puis
+     * les objets (un joueur tué par les contacts ne ramasse rien).
+     *
+     * Un contact qui commence blesse le joueur ; un contact qui continue
+     * ne le blesse qu'une fois son invincibilité terminée (même résultat
+     * que des dégâts à chaque tick, sans les appels inutiles).
+     */
+    private void resolvePlayers(List<Player> players, List<Enemy> enemies, List<Collectible> collectibles) {
+        contacts.beginTick();
+        for (int p = 0; p < activePlayers.size; p++) {
+            Player player = players.get(activePlayers.get(p));
+            float px = playerBounds[p * 4];
+            float py = playerBounds[p * 4 + 1];
+
+            for (int w = 0; w < usedFinders; w++) {
+                IntArray pairs = finders[w].playerEnemy;
+                for (int k = 0; k < pairs.size; k += 2) {
+                    if (pairs.items[k] != p) continue;
+
+                    Enemy enemy = enemies.get(pairs.items[k + 1]);
+                    boolean begins = contacts.touch(ContactCache.key(playerIds[p], enemy.getId()),
+                        px, py, enemy.getHitX(), enemy.getHitY());
+                    if (begins || !player.isInvincible()) {
+                        player.takeDamage(PLAYER_HIT_DAMAGE);
+                    }
+                }
             }
 
-            if (checkCollision(playerBounds, collectible.getBounds())) {
-                collectible.collect(player);
+            if (!player.isActive()) continue;
+
+            for (int w = 0; w < usedFinders; w++) {
+                IntArray pairs = finders[w].playerCollectible;
+                for (int k = 0; k < pairs.size; k += 2) {
+                    if (pairs.items[k] != p) continue;
+
+                    // Deja ramasse par un joueur precedent
+                    Collectible collectible = collectibles.get(pairs.items[k + 1]);
+                    if (collectible.isActive()) {
+                        collectible.collect(player);
+                    }
+                }
             }
         }
+        contacts.endTick();
     }
 
-    public void handleProjectileObstacleCollisions(List<Projectile> projectiles) {
-        for (Projectile projectile : projectiles) {
-            if (!projectile.isActive()) {
-                continue;
+    /**
+     * Projectiles : ennemis par indice croissant, puis joueurs, puis
+     * obstacles. Un projectile déjà retiré par une cible précédente est
+     * ignoré.
+     */
+    private void resolveProjectiles(List<Player> players, List<Enemy> enemies, ProjectileSystem projectiles) {
+        splashHits = 0;
+        for (int w = 0; w < usedFinders; w++) {
+            IntArray hits = finders[w].projectileEnemy;
+            int k = 0;
+            while (k < hits.size) {
+                Enemy enemy = enemies.get(hits.items[k]);
+                int found = hits.items[k + 1];
+                k += 2;
+                for (int h = 0; h < found && enemy.isActive(); h++) {
+                    int index = hits.items[k + h];
+                    if (!projectiles.isAlive(index)) continue;
+                    // Explosif : l'ennemi touche est blesse par l'explosion comme ses voisins
+                    if (!explode(projectiles, index)) {
+                        enemy.takeDamage(projectiles.getDamage(index));
+                    }
+                    projectiles.kill(index);
+                }
+                k += found;
             }
+        }
 
-            // Desactiver le projectile si il touche un obstacle
-            if (isCollidingWithObstacles(projectile.getBounds())) {
-                projectile.setActive(false);
+        // Tirs ennemis sur les joueurs (trouves par le premier fil)
+        IntArray playerHits = finders[0].projectilePlayer;
+        int p = 0;
+        while (p < playerHits.size) {
+            Player player = players.get(activePlayers.get(playerHits.items[p]));
+            int found = playerHits.items[p + 1];
+            p += 2;
+            for (int h = 0; h < found && player.isActive(); h++) {
+                int index = playerHits.items[p + h];
+                if (!projectiles.isAlive(index)) continue;
+                player.takeDamage(projectiles.getDamage(index));
+                projectiles.kill(index);
             }
+            p += found;
         }
+
+        for (int w = 0; w < usedFinders; w++) {
+            IntArray blocked = finders[w].projectileObstacle;
+            for (int k = 0; k < blocked.size; k++) {
+                int index = blocked.items[k];
+                if (!projectiles.isAlive(index)) continue;
+                explode(projectiles, index);
+                projectiles.kill(index);
+            }
+        }
+
+        splashHits = splash.apply(enemies);
     }
 
-    public void handleAllCollisions(GameState state) {
-        Player player = state.getPlayer();
+    /**
+     * Enregistre l'explosion d'un projectile explosif, centrée sur lui.
+     *
+     * @return false si le projectile n'est pas explosif
+     */
+    private boolean explode(ProjectileSystem projectiles, int index) {
+        float radius = projectiles.getSplashRadius(index);
+        if (radius <= 0) return false;
+        splash.add(projectiles.getCenterX(index), projectiles.getCenterY(index), radius,
+            projectiles.getDamage(index), projectiles.getSplashEdge(index), projectiles.getCollisionMask(index));
+        return true;
+    }
 
-        if (player == null || !player.isActive()) {
-            return;
+    /**
+     * Fils de recherche partagés par tous les gestionnaires (créés au
+     * premier passage parallèle).
+     */
+    private static synchronized ExecutorService pool() {
+        if (pool == null) {
+            AtomicInteger next = new AtomicInteger();
+            pool = Executors.newFixedThreadPool(THREADS - 1, runnable -> {
+                Thread thread = new Thread(runnable, "collision-" + next.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         }
-
-        handlePlayerEnemyCollisions(player, state.getEnemies());
-        handleProjectileEnemyCollisions(state.getProjectiles(), state.getEnemies());
-        handlePlayerCollectibleCollisions(player, state.getCollectibles());
-        handleProjectileObstacleCollisions(state.getProjectiles());
+        return pool;
     }
 
     public List<Rectangle> getObstacles() {
@@ -301,4 +847,47 @@ public class CollisionManager {
     public boolean areObstaclesLoaded() {
         return obstaclesLoaded;
     }
+
+    /**
+     * Contacts joueur-ennemi commencés au dernier passage
+     * (clés : identifiant du joueur << 32 | identifiant de l'ennemi).
+     */
+    public LongArray getContactsBegun() {
+        return contacts.begun;
+    }
+
+    /**
+     * Contacts joueur-ennemi terminés au dernier passage (mêmes clés).
+     */
+    public LongArray getContactsEnded() {
+        return contacts.ended;
+    }
+
+    /**
+     * Nombre de contacts joueur-ennemi en cours.
+     */
+    public int getContactCount() {
+        return contacts.size();
+    }
+
+    /**
+     * Oublie les contacts en cours (nouvelle partie ou partie rechargée).
+     */
+    public void clearContacts() {
+        contacts.clear();
+    }
+
+    /**
+     * Nombre d'ennemis blessés par des explosions lors du dernier passage.
+     */
+    public int getSplashHits() {
+        return splashHits;
+    }
+
+    /**
+     * Nombre de paires d'entités testées lors du dernier passage.
+     */
+    public int getPairsTested() {
+        return pairsTested;
+    }
 }
@@ -0,0 +1,119 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Contacts joueur-ennemi d'un tick à l'autre.
+ *
+ * Un ennemi qui touche le joueur le touche en général pendant de
+ * nombreux ticks : le contact est gardé, avec la position des deux zones
+ * au dernier test, sous la clé (identifiant du joueur, identifiant de
+ * l'ennemi). Chaque tick produit les contacts qui commencent, ceux qui
+ * continuent et ceux qui se terminent.
+ *
+ * Si aucune des deux zones n'a bougé depuis le dernier test, le contact
+ * est reconduit sans refaire le test de forme.
+ *
+ * Lecture seule pendant la recherche des paires (plusieurs fils),
+ * modifié seulement pendant la résolution.
+ */
+final class ContactCache {
+
+    /** Contact en cours (réutilisé une fois terminé) */
+    private static final class Contact {
+        float playerX, playerY;
+        float enemyX, enemyY;
+        int stamp;
+    }
+
+    private final LongMap<Contact> contacts = new LongMap<>();
+    private final Array<Contact> free = new Array<>();
+
+    /** Contacts commencés et terminés pendant le dernier tick (clés) */
+    final LongArray begun = new LongArray();
+    final LongArray ended = new LongArray();
+
+    private int stamp;
+
+    /**
+     * Clé d'une paire : identifiant du joueur sur les 32 bits hauts.
+     */
+    static long key(int playerId, int enemyId) {
+        return ((long) playerId << 32) | (enemyId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Indique si la paire se touchait au tick précédent et qu'aucune des
+     * deux zones n'a bougé depuis (le test de forme peut être évité).
+     */
+    boolean isUnchanged(long key, float playerX, float playerY, float enemyX, float enemyY) {
+        Contact contact = contacts.get(key);
+        return contact != null
+            && contact.playerX == playerX && contact.playerY == playerY
+            && contact.enemyX == enemyX && contact.enemyY == enemyY;
+    }
+
+    /**
+     * Début de la résolution d'un tick.
+     */
+    void beginTick() {
+        stamp++;
+        begun.clear();
+        ended.clear();
+    }
+
+    /**
+     * Enregistre une paire qui se touche pendant ce tick.
+     *
+     * @return true si le contact commence, false s'il continue
+     */
+    boolean touch(long key, float playerX, float playerY, float enemyX, float enemyY) {
+        Contact contact = contacts.get(key);
+        boolean begins = contact == null;
+        if (begins) {
+            contact = free.isEmpty() ? new Contact() : free.pop();
+            contacts.put(key, contact);
+            begun.add(key);
+        }
+        contact.playerX = playerX;
+        contact.playerY = playerY;
+        contact.enemyX = enemyX;
+        contact.enemyY = enemyY;
+        contact.stamp = stamp;
+        return begins;
+    }
+
+    /**
+     * Fin de la résolution : les paires qui ne se touchent plus sont
+     * retirées.
+     */
+    void endTick() {
+        LongMap.Entries<Contact> entries = contacts.entries();
+        while (entries.hasNext()) {
+            LongMap.Entry<Contact> entry = entries.next();
+            if (entry.value.stamp != stamp) {
+                ended.add(entry.key);
+                free.add(entry.value);
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Oublie tous les contacts (nouvelle partie).
+     */
+    void clear() {
+        for (Contact contact : contacts.values()) {
+            free.add(contact);
+        }
+        contacts.clear();
+        begun.clear();
+        ended.clear();
+    }
+
+    int size() {
+        return contacts.size;
+    }
+}
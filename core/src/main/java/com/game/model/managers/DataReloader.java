@@ -0,0 +1,158 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.game.model.factories.EntityFactory;
+import com.game.utils.DataFiles;
+import com.game.utils.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rechargement à chaud des données du jeu pendant les réglages.
+ *
+ * - Activé au démarrage : -Dgame.hotreload=true
+ * - Surveille data/enemies et data/waves (WatchService, sans scrutation)
+ * - Un thread dédié relit les fichiers modifiés et publie les nouvelles
+ *   tables d'un seul coup (EntityFactory, WaveManager) : la boucle de jeu
+ *   ne lit jamais une table à moitié remplie et n'attend jamais le disque
+ *
+ * Les nouveaux ennemis utilisent les nouvelles statistiques, une vague
+ * modifiée s'applique à son prochain démarrage. Un fichier illisible
+ * (enregistrement en cours, JSON invalide) est ignoré : l'ancienne
+ * version reste en place jusqu'à la sauvegarde suivante.
+ */
+public final class DataReloader {
+
+    /** Rechargement actif pour cette exécution */
+    public static final boolean ENABLED = Boolean.getBoolean("game.hotreload");
+
+    /** Dossiers surveillés (relatifs au dossier assets) */
+    private static final String[] WATCHED_DIRS = {"data/enemies", "data/waves"};
+
+    /** Attente sans nouvel événement avant de relire (un éditeur écrit en plusieurs fois) */
+    private static final long DEBOUNCE_MS = 100;
+
+    private final WatchService watcher;
+    private final Map<WatchKey, String> directories;
+    private final Thread thread;
+    private volatile boolean running;
+
+    private DataReloader(WatchService watcher, Map<WatchKey, String> directories) {
+        this.watcher = watcher;
+        this.directories = directories;
+        this.running = true;
+        this.thread = new Thread(this::run, "data-reloader");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Démarre la surveillance si elle est activée.
+     *
+     * @return Le rechargeur, ou null s'il est désactivé ou impossible
+     *         (données hors du disque, dans un jar par exemple)
+     */
+    public static DataReloader start() {
+        if (!ENABLED) return null;
+
+        try {
+            WatchService watcher = FileSystems.getDefault().newWatchService();
+            Map<WatchKey, String> directories = new HashMap<>();
+            for (String dir : WATCHED_DIRS) {
+                File file = DataFiles.internal(dir).file();
+                if (!file.isDirectory()) {
+                    Log.warn("Rechargement à chaud : dossier introuvable {}", file.getPath());
+                    continue;
+                }
+                WatchKey key = file.toPath().register(watcher,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.put(key, dir);
+            }
+
+            if (directories.isEmpty()) {
+                watcher.close();
+                return null;
+            }
+            Log.info("Rechargement à chaud actif ({} dossiers)", directories.size());
+            return new DataReloader(watcher, directories);
+        } catch (IOException | UnsupportedOperationException e) {
+            Log.error("Rechargement à chaud impossible", e);
+            return null;
+        }
+    }
+
+    private void run() {
+        Set<String> pending = new LinkedHashSet<>();
+        try {
+            while (running) {
+                // Attente bloquante, puis regroupement des evenements rapproches
+                WatchKey key = pending.isEmpty()
+                    ? watcher.take()
+                    : watcher.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    for (String path : pending) {
+                        reload(path);
+                    }
+                    pending.clear();
+                    continue;
+                }
+
+                String dir = directories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) continue;
+
+                    String name = ((Path) event.context()).getFileName().toString();
+                    if (name.endsWith(".json")) {
+                        pending.add(dir + "/" + name);
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Arret demande
+        }
+    }
+
+    private void reload(String path) {
+        long start = System.nanoTime();
+        FileHandle file = DataFiles.internal(path);
+        if (!file.exists()) return;
+
+        if (path.startsWith("data/enemies/")) {
+            EntityFactory.reloadEnemyType(file);
+        } else if (path.startsWith("data/waves/")) {
+            if (!WaveManager.reloadWave(file)) return;
+        } else {
+            return;
+        }
+
+        Log.info("Rechargé à chaud : {} ({} µs)", path, (System.nanoTime() - start) / 1000);
+    }
+
+    /**
+     * Arrête la surveillance.
+     */
+    public void stop() {
+        running = false;
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            Log.debug("Fermeture surveillance : {}", e.getMessage());
+        }
+        thread.interrupt();
+    }
+}
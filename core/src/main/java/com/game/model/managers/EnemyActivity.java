@@ -0,0 +1,175 @@
+package com.game.model.managers;
+
+import com.game.model.entities.CollisionLayer;
+import com.game.model.entities.Enemy;
+import com.game.model.entities.Entity;
+import com.game.model.entities.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partage des ennemis entre éveillés et endormis.
+ *
+ * Seuls les ennemis éveillés sont mis à jour (IA, obstacles, bords de
+ * carte) ; un ennemi endormi reste dans la liste du GameState, donc
+ * touchable par les tirs et les joueurs, mais ne coûte plus rien par
+ * tick. S'endorment les ennemis immobiles ("idle") et ceux qui sont loin
+ * de tous les joueurs ; un ennemi se réveille quand un joueur s'approche
+ * (recherche dans la grille autour des joueurs) ou quand il est blessé.
+ *
+ * La liste des éveillés n'est pas triée : un retrait échange l'ennemi
+ * avec le dernier (O(1)). Les boucles qui endorment des ennemis la
+ * parcourent donc de la fin vers le début.
+ */
+public class EnemyActivity {
+
+    /** Distance à tous les joueurs au-delà de laquelle un ennemi s'endort (game.enemy.sleepRadius, 0 : jamais) */
+    public static final int SLEEP_RADIUS = Integer.getInteger("game.enemy.sleepRadius", 1200);
+
+    /** Un ennemi endormi se réveille un peu plus près (pas d'aller-retour au bord) */
+    private static final float WAKE_RATIO = 0.8f;
+
+    private final List<Enemy> awake = new ArrayList<>();
+    private int sleeping;
+
+    // Resultats des recherches de reveil (reutilises)
+    private final List<Entity> nearby = new ArrayList<>();
+
+    /**
+     * Ajoute un nouvel ennemi, éveillé (il s'endort à sa première mise à
+     * jour si rien ne l'occupe).
+     */
+    void add(Enemy enemy) {
+        enemy.setActivity(this);
+        link(enemy);
+    }
+
+    /**
+     * Retire un ennemi mort.
+     */
+    void remove(Enemy enemy) {
+        if (enemy.getAwakeIndex() >= 0) {
+            unlink(enemy);
+        } else {
+            sleeping--;
+        }
+        enemy.setActivity(null);
+    }
+
+    /**
+     * Endort un ennemi éveillé.
+     */
+    public void sleep(Enemy enemy) {
+        if (enemy.getAwakeIndex() < 0) return;
+        unlink(enemy);
+        enemy.getVelocity().set(0, 0);
+        // Au reveil, l'IA reprend comme pour un nouvel ennemi (pas de rattrapage du sommeil)
+        enemy.setNextAiTick(0);
+        enemy.setLastAiTime(-1);
+        sleeping++;
+    }
+
+    /**
+     * Réveille un ennemi endormi.
+     */
+    public void wake(Enemy enemy) {
+        if (enemy.getAwakeIndex() >= 0 || enemy.getActivity() != this) return;
+        link(enemy);
+        sleeping--;
+    }
+
+    /**
+     * Indique si un ennemi éveillé peut s'endormir : immobile par nature,
+     * ou plus loin que {@link #SLEEP_RADIUS} de tous les joueurs actifs.
+     */
+    public boolean shouldSleep(Enemy enemy, List<Player> players) {
+        if (enemy.isIdle()) return true;
+        if (SLEEP_RADIUS <= 0) return false;
+
+        float x = SpatialGrid.centerX(enemy);
+        float y = SpatialGrid.centerY(enemy);
+        float radiusSq = (float) SLEEP_RADIUS * SLEEP_RADIUS;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isActive()) continue;
+            float dx = SpatialGrid.centerX(player) - x;
+            float dy = SpatialGrid.centerY(player) - y;
+            if (dx * dx + dy * dy <= radiusSq) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Réveille les ennemis endormis proches des joueurs actifs. Seules
+     * les cellules de la grille autour des joueurs sont lues.
+     *
+     * @param grid Grille contenant les ennemis (éveillés ou non)
+     * @return Nombre d'ennemis réveillés
+     */
+    public int wakeNear(List<Player> players, SpatialGrid grid) {
+        if (sleeping == 0 || SLEEP_RADIUS <= 0) return 0;
+
+        int woken = 0;
+        float radius = SLEEP_RADIUS * WAKE_RATIO;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isActive()) continue;
+
+            nearby.clear();
+            grid.query(SpatialGrid.centerX(player), SpatialGrid.centerY(player), radius,
+                CollisionLayer.ENEMY, nearby);
+            for (int k = 0; k < nearby.size(); k++) {
+                Entity entity = nearby.get(k);
+                if (!(entity instanceof Enemy)) continue;
+                Enemy enemy = (Enemy) entity;
+                if (enemy.isActive() && enemy.isSleeping() && !enemy.isIdle()) {
+                    wake(enemy);
+                    woken++;
+                }
+            }
+        }
+        nearby.clear();
+        return woken;
+    }
+
+    /**
+     * Oublie tous les ennemis (nouvelle partie).
+     */
+    void clear() {
+        for (int i = 0; i < awake.size(); i++) {
+            awake.get(i).setAwakeIndex(-1);
+        }
+        awake.clear();
+        sleeping = 0;
+    }
+
+    // ========== INTERNE ==========
+
+    private void link(Enemy enemy) {
+        enemy.setAwakeIndex(awake.size());
+        awake.add(enemy);
+    }
+
+    private void unlink(Enemy enemy) {
+        // Le dernier prend la place du retire
+        int index = enemy.getAwakeIndex();
+        Enemy last = awake.remove(awake.size() - 1);
+        if (last != enemy) {
+            awake.set(index, last);
+            last.setAwakeIndex(index);
+        }
+        enemy.setAwakeIndex(-1);
+    }
+
+    // ========== GETTERS ==========
+
+    /** Ennemis éveillés (ordre quelconque) */
+    public List<Enemy> getAwake() {
+        return awake;
+    }
+
+    public int getSleepingCount() {
+        return sleeping;
+    }
+}
@@ -2,8 +2,10 @@ package com.game.model.managers;
 
 import com.game.model.entities.Collectible;
 import com.game.model.entities.Enemy;
+import com.game.model.entities.Entity;
 import com.game.model.entities.Player;
-import com.game.model.entities.Projectile;
+import com.game.model.factories.ProjectileType;
+import com.game.utils.Log;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -28,17 +30,29 @@ public class GameState {
     
     // ===== ENTITÉS =====
     
-    /** Le joueur */
+    /** Le joueur local (premier joueur de la partie) */
     private Player player;
+
+    /** Tous les joueurs de la partie (plusieurs en coopération) */
+    private List<Player> players;
     
     /** Liste des ennemis actifs */
     private List<Enemy> enemies;
+
+    /** Ennemis éveillés (mis à jour) et endormis (seulement présents) */
+    private final EnemyActivity enemyActivity = new EnemyActivity();
     
-    /** Liste des projectiles actifs */
-    private List<Projectile> projectiles;
+    /** Projectiles en jeu (tableaux de primitives, pas d'objet par tir) */
+    private ProjectileSystem projectiles;
     
     /** Liste des objets à ramasser actifs */
     private List<Collectible> collectibles;
+
+    /** Minuteries de la partie (invincibilité, cooldowns), avancées une fois par tick */
+    private final TimerWheel timers = new TimerWheel(TIMER_RESOLUTION);
+
+    /** Précision des minuteries (secondes) */
+    private static final float TIMER_RESOLUTION = 1f / 120f;
     
     // ===== PROGRESSION =====
     
@@ -47,6 +61,9 @@ public class GameState {
     
     /** Score du joueur (basé sur les pièces) */
     private int score;
+
+    /** Prochain identifiant d'entité (croissant, jamais réutilisé) */
+    private int nextEntityId = 1;
     
     // ===== DIMENSIONS DE LA CARTE =====
     
@@ -68,8 +85,9 @@ public class GameState {
         
         // Initialiser les listes
         // Listes d'entites actives
+        this.players = new ArrayList<>();
         this.enemies = new ArrayList<>();
-        this.projectiles = new ArrayList<>();
+        this.projectiles = new ProjectileSystem(mapWidth, mapHeight);
         this.collectibles = new ArrayList<>();
         
         // Initialiser les valeurs
@@ -77,7 +95,7 @@ public class GameState {
         this.currentWave = 0;
         this.score = 0;
         
-        System.out.println(" GameState créé (Map: " + mapWidth + "x" + mapHeight + ")");
+        Log.info("GameState créé (Map: {}x{})", mapWidth, mapHeight);
     }
 
     /**
@@ -86,8 +104,64 @@ public class GameState {
      * @param player Le joueur
      */
     public void setPlayer(Player player) {
+        players.remove(this.player);
         this.player = player;
-        System.out.println(" Joueur ajouté au GameState");
+        if (player != null) {
+            assignId(player);
+            player.setTimers(timers);
+            players.add(0, player);
+        }
+        Log.debug("Joueur ajouté au GameState");
+    }
+
+    /**
+     * Ajoute un joueur à la partie (coopération).
+     * Le premier joueur ajouté devient le joueur principal.
+     *
+     * @param player Le joueur
+     */
+    public void addPlayer(Player player) {
+        assignId(player);
+        player.setTimers(timers);
+        players.add(player);
+        if (this.player == null) {
+            this.player = player;
+        }
+    }
+
+    /**
+     * Retire un joueur de la partie (déconnexion).
+     *
+     * @param player Le joueur
+     */
+    public void removePlayer(Player player) {
+        players.remove(player);
+        if (this.player == player) {
+            this.player = players.isEmpty() ? null : players.get(0);
+        }
+    }
+
+    /**
+     * Retourne le joueur actif le plus proche d'un point.
+     *
+     * @return le joueur, ou null si aucun joueur n'est actif
+     */
+    public Player getNearestPlayer(float x, float y) {
+        Player nearest = null;
+        float bestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < players.size(); i++) {
+            Player candidate = players.get(i);
+            if (!candidate.isActive()) continue;
+
+            float dx = candidate.getPosition().x - x;
+            float dy = candidate.getPosition().y - y;
+            float distance = dx * dx + dy * dy;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                nearest = candidate;
+            }
+        }
+        return nearest;
     }
 
     /**
@@ -96,16 +170,34 @@ public class GameState {
      * @param enemy L'ennemi à ajouter
      */
     public void addEnemy(Enemy enemy) {
+        assignId(enemy);
         enemies.add(enemy);
+        enemyActivity.add(enemy);
     }
 
     /**
-     * Ajoute un projectile au jeu.
+     * Tire une salve de projectiles depuis un point.
      * 
-     * @param projectile Le projectile à ajouter
+     * @param type Type des projectiles
+     * @param centerX Point de départ (centre du sprite)
+     * @param centerY Point de départ (centre du sprite)
+     * @param dirX Direction du tir (normalisée ici)
+     * @param dirY Direction du tir (normalisée ici)
+     * @param damage Dégâts de chaque projectile
      */
-    public void addProjectile(Projectile projectile) {
-        projectiles.add(projectile);
+    public void fireProjectile(ProjectileType type, float centerX, float centerY, float dirX, float dirY, int damage) {
+        nextEntityId += projectiles.fire(nextEntityId, type, centerX, centerY, dirX, dirY, damage);
+    }
+
+    /**
+     * Ajoute un projectile déjà en vol (reprise d'une sauvegarde).
+     * 
+     * @param x Coin bas-gauche du sprite
+     * @param y Coin bas-gauche du sprite
+     * @param lifetime Durée de vie restante
+     */
+    public void addProjectile(ProjectileType type, float x, float y, float vx, float vy, float lifetime, int damage) {
+        projectiles.add(nextEntityId++, type, x, y, vx, vy, lifetime, damage);
     }
 
     /**
@@ -114,15 +206,25 @@ public class GameState {
      * @param collectible L'objet à ramasser à ajouter
      */
     public void addCollectible(Collectible collectible) {
+        assignId(collectible);
         collectibles.add(collectible);
     }
 
+    /**
+     * Donne un identifiant à une nouvelle entité.
+     * Les listes restent ainsi triées par identifiant croissant.
+     */
+    private void assignId(Entity entity) {
+        if (entity.getId() == 0) {
+            entity.setId(nextEntityId++);
+        }
+    }
+
     /**
      * Supprime toutes les entités inactives (mortes).
      * 
      * Cette méthode nettoie les listes en enlevant :
      * - Les ennemis éliminés
-     * - Les projectiles qui ont touché quelque chose ou expiré
      * - Les collectibles ramassés
      */
     public void removeDeadEntities() {
@@ -132,12 +234,11 @@ public class GameState {
             Enemy enemy = enemyIt.next();
             if (!enemy.isActive()) {
                 enemyIt.remove();
+                enemyActivity.remove(enemy);
             }
         }
         
-        // Supprimer les projectiles inactifs
-        // Retirer les projectiles inactifs
-        projectiles.removeIf(p -> !p.isActive());
+        // Projectiles inactifs : retires par ProjectileSystem.update
         
         // Supprimer les collectibles ramassés
         // Retirer les collectibles inactifs
@@ -152,12 +253,14 @@ public class GameState {
     public void reset() {
         // Vide les collections et remet les compteurs a zero
         enemies.clear();
+        enemyActivity.clear();
         projectiles.clear();
         collectibles.clear();
+        timers.clear();
         currentWave = 0;
         score = 0;
         
-        System.out.println("GameState réinitialisé");
+        Log.info("GameState réinitialisé");
     }
 
     /**
@@ -165,7 +268,7 @@ public class GameState {
      */
     public void nextWave() {
         currentWave++;
-        System.out.println("Passage à la vague " + currentWave);
+        if (Log.INFO) Log.info("Passage à la vague {}", currentWave);
     }
 
     /**
@@ -183,14 +286,31 @@ public class GameState {
         return player;
     }
 
+    public List<Player> getPlayers() {
+        return players;
+    }
+
     public List<Enemy> getEnemies() {
         return enemies;
     }
 
-    public List<Projectile> getProjectiles() {
+    public EnemyActivity getEnemyActivity() {
+        return enemyActivity;
+    }
+
+    /** Ennemis à mettre à jour ce tick (les endormis sont écartés) */
+    public List<Enemy> getAwakeEnemies() {
+        return enemyActivity.getAwake();
+    }
+
+    public ProjectileSystem getProjectiles() {
         return projectiles;
     }
 
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
     public List<Collectible> getCollectibles() {
         return collectibles;
     }
@@ -216,4 +336,8 @@ public class GameState {
     public void setCurrentWave(int wave) {
         this.currentWave = wave;
     }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
 }
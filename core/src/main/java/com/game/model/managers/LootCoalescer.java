@@ -0,0 +1,127 @@
+package com.game.model.managers;
+
+import com.game.model.entities.Collectible;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Regroupement des objets lâchés par les ennemis.
+ *
+ * La carte est découpée en petites cellules ; chaque cellule retient le
+ * dernier objet de chaque type qui y est tombé. Un nouvel objet du même
+ * type dans la même cellule s'ajoute à la valeur de celui-ci au lieu de
+ * créer une entité. Au-delà de MAX_LIVE objets, tout nouvel objet rejoint
+ * l'objet de même type le plus proche.
+ *
+ * La valeur totale est toujours conservée : les joueurs gagnent autant,
+ * en ramassant moins d'objets.
+ */
+public class LootCoalescer {
+
+    /** Côté d'une cellule de regroupement en pixels */
+    private static final float CELL_SIZE = 48f;
+
+    /** Nombre maximal d'objets présents en même temps */
+    public static final int MAX_LIVE = 200;
+
+    private final GameState state;
+    private final SpatialGrid grid;
+    private final int cols;
+    private final int rows;
+
+    /** Dernier objet tombé par type et par cellule (peut être ramassé depuis) */
+    private final Collectible[][] buckets;
+
+    private int merged;
+
+    /**
+     * @param grid Grille où ranger les nouveaux objets (attraction)
+     */
+    public LootCoalescer(GameState state, SpatialGrid grid, float mapWidth, float mapHeight) {
+        this.state = state;
+        this.grid = grid;
+        this.cols = Math.max(1, (int) Math.ceil(mapWidth / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(mapHeight / CELL_SIZE));
+        this.buckets = new Collectible[Collectible.Type.values().length][cols * rows];
+    }
+
+    /**
+     * Lâche un objet : fusionné avec un objet existant si possible,
+     * sinon créé, ajouté au GameState et à la grille.
+     *
+     * @return Le nouvel objet (texture et cible à définir par l'appelant),
+     *         ou null s'il a été fusionné
+     */
+    public Collectible drop(float x, float y, Collectible.Type type, int value) {
+        Collectible[] cells = buckets[type.ordinal()];
+        int cell = cellOf(x, y);
+
+        // 1. Meme type deja present dans la cellule
+        Collectible existing = cells[cell];
+        if (existing != null && existing.isActive()) {
+            existing.addValue(value);
+            merged++;
+            return null;
+        }
+
+        // 2. Trop d'objets : rejoint le plus proche du meme type
+        if (state.getCollectibles().size() >= MAX_LIVE) {
+            Collectible nearest = nearest(x, y, type);
+            if (nearest != null) {
+                nearest.addValue(value);
+                merged++;
+                return null;
+            }
+        }
+
+        // 3. Nouvel objet
+        Collectible collectible = new Collectible(x, y, 16, 16, type, value);
+        state.addCollectible(collectible);
+        grid.insert(collectible);
+        cells[cell] = collectible;
+        return collectible;
+    }
+
+    /**
+     * Oublie les objets retenus (nouvelle partie).
+     */
+    public void clear() {
+        for (Collectible[] cells : buckets) {
+            Arrays.fill(cells, null);
+        }
+    }
+
+    // Liste bornee par MAX_LIVE : parcours lineaire suffisant
+    private Collectible nearest(float x, float y, Collectible.Type type) {
+        List<Collectible> collectibles = state.getCollectibles();
+        Collectible nearest = null;
+        float nearestDistSq = Float.MAX_VALUE;
+        for (int i = 0; i < collectibles.size(); i++) {
+            Collectible collectible = collectibles.get(i);
+            if (!collectible.isActive() || collectible.getType() != type) continue;
+
+            float dx = collectible.getPosition().x - x;
+            float dy = collectible.getPosition().y - y;
+            float distSq = dx * dx + dy * dy;
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = collectible;
+            }
+        }
+        return nearest;
+    }
+
+    private int cellOf(float x, float y) {
+        int col = Math.max(0, Math.min((int) (x / CELL_SIZE), cols - 1));
+        int row = Math.max(0, Math.min((int) (y / CELL_SIZE), rows - 1));
+        return row * cols + col;
+    }
+
+    // ========== GETTERS ==========
+
+    /** Nombre d'objets fusionnés depuis le début de la partie */
+    public int getMerged() {
+        return merged;
+    }
+}
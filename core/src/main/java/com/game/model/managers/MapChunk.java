@@ -0,0 +1,97 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Région carrée d'une carte découpée en chunks.
+ *
+ * Un chunk contient les tuiles (identifiants globaux Tiled) et les obstacles
+ * qui le touchent. Il est lu sur le thread de chargement puis remis au thread
+ * de jeu : une fois publié, il n'est plus modifié.
+ */
+public class MapChunk {
+
+    /** Coordonnées du chunk dans la grille de chunks */
+    private final int chunkX;
+    private final int chunkY;
+
+    /** Taille du chunk en tuiles (côté) */
+    private final int size;
+
+    /** Identifiants de tuiles, ligne par ligne depuis le bas-gauche (0 = vide) */
+    private final int[] tiles;
+
+    /** Obstacles (en pixels monde) qui chevauchent ce chunk */
+    private final List<Rectangle> obstacles;
+
+    /** Grille d'occupation des obstacles (lancers de rayons), null si aucun */
+    private ObstacleGrid obstacleGrid;
+
+    public MapChunk(int chunkX, int chunkY, int size) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.size = size;
+        this.tiles = new int[size * size];
+        this.obstacles = new ArrayList<>();
+    }
+
+    /**
+     * Clé unique d'un chunk à partir de ses coordonnées.
+     */
+    public static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xffffffffL);
+    }
+
+    public long getKey() {
+        return key(chunkX, chunkY);
+    }
+
+    /**
+     * Retourne l'identifiant de tuile en coordonnées locales (0 si hors chunk).
+     */
+    public int getTile(int localX, int localY) {
+        if (localX < 0 || localY < 0 || localX >= size || localY >= size) {
+            return 0;
+        }
+        return tiles[localY * size + localX];
+    }
+
+    public void setTile(int localX, int localY, int gid) {
+        tiles[localY * size + localX] = gid;
+    }
+
+    /**
+     * Construit la grille d'occupation, une case par tuile. Appelé sur le
+     * thread de chargement, une fois les obstacles lus.
+     */
+    void buildObstacleGrid(int tileWidth, int tileHeight) {
+        if (obstacles.isEmpty()) return;
+        obstacleGrid = new ObstacleGrid(chunkX * size * tileWidth, chunkY * size * tileHeight,
+            tileWidth, tileHeight, size, size, obstacles);
+    }
+
+    // ========== GETTERS ==========
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public List<Rectangle> getObstacles() {
+        return obstacles;
+    }
+
+    ObstacleGrid getObstacleGrid() {
+        return obstacleGrid;
+    }
+}
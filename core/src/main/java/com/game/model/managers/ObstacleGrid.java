@@ -0,0 +1,231 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.List;
+
+/**
+ * Grille d'occupation des obstacles, à la taille des tuiles de la carte.
+ *
+ * Chaque case connaît les obstacles qui la recouvrent (rangés par case
+ * dans un seul tableau, comme la grille des projectiles). Un rayon
+ * parcourt les cases qu'il traverse (DDA) et ne teste que les obstacles
+ * des cases occupées : le coût dépend du nombre de cases traversées, pas
+ * du nombre d'obstacles de la carte.
+ *
+ * Immuable une fois construite : lisible depuis plusieurs fils.
+ */
+final class ObstacleGrid {
+
+    private final float originX;
+    private final float originY;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final int cols;
+    private final int rows;
+
+    // Obstacles par case : cellItems[cellStart[c] .. cellStart[c + 1]]
+    private final int[] cellStart;
+    private final int[] cellItems;
+
+    // Obstacles (copie en tableaux, plus l'original pour le resultat)
+    private final float[] left;
+    private final float[] bottom;
+    private final float[] right;
+    private final float[] top;
+    private final Rectangle[] rectangles;
+
+    /**
+     * @param originX Coin bas-gauche de la zone couverte
+     * @param cols Nombre de cases en largeur
+     * @param obstacles Obstacles (ceux qui dépassent la zone y sont tronqués)
+     */
+    ObstacleGrid(float originX, float originY, float cellWidth, float cellHeight,
+                 int cols, int rows, List<Rectangle> obstacles) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+
+        int count = obstacles.size();
+        left = new float[count];
+        bottom = new float[count];
+        right = new float[count];
+        top = new float[count];
+        rectangles = obstacles.toArray(new Rectangle[0]);
+        for (int i = 0; i < count; i++) {
+            Rectangle r = rectangles[i];
+            left[i] = r.x;
+            bottom[i] = r.y;
+            right[i] = r.x + r.width;
+            top[i] = r.y + r.height;
+        }
+
+        // Tri par comptage : nombre d'obstacles par case, cumul, puis remplissage
+        int cells = this.cols * this.rows;
+        cellStart = new int[cells + 1];
+        for (int i = 0; i < count; i++) {
+            for (int row = rowOf(bottom[i]); row <= rowOf(top[i]); row++) {
+                for (int col = colOf(left[i]); col <= colOf(right[i]); col++) {
+                    cellStart[row * this.cols + col + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        cellItems = new int[cellStart[cells]];
+        int[] fill = new int[cells];
+        for (int i = 0; i < count; i++) {
+            for (int row = rowOf(bottom[i]); row <= rowOf(top[i]); row++) {
+                for (int col = colOf(left[i]); col <= colOf(right[i]); col++) {
+                    int cell = row * this.cols + col;
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Grille couvrant tous les obstacles d'une liste (et l'origine du monde).
+     */
+    static ObstacleGrid covering(List<Rectangle> obstacles, float cellWidth, float cellHeight) {
+        float minX = 0;
+        float minY = 0;
+        float maxX = cellWidth;
+        float maxY = cellHeight;
+        for (Rectangle r : obstacles) {
+            minX = Math.min(minX, r.x);
+            minY = Math.min(minY, r.y);
+            maxX = Math.max(maxX, r.x + r.width);
+            maxY = Math.max(maxY, r.y + r.height);
+        }
+        // Origine alignee sur les tuiles
+        minX = (float) Math.floor(minX / cellWidth) * cellWidth;
+        minY = (float) Math.floor(minY / cellHeight) * cellHeight;
+        int cols = (int) Math.ceil((maxX - minX) / cellWidth);
+        int rows = (int) Math.ceil((maxY - minY) / cellHeight);
+        return new ObstacleGrid(minX, minY, cellWidth, cellHeight, cols, rows, obstacles);
+    }
+
+    /**
+     * Premier obstacle touché par un rayon entre deux distances.
+     *
+     * @param dirX Direction du rayon (normalisée)
+     * @param from Distance de départ le long du rayon
+     * @param to Distance maximale
+     * @param hit Résultat complété si un obstacle est touché (peut être null)
+     * @return Distance du point touché, ou -1 si rien n'est touché
+     */
+    float cast(float originX, float originY, float dirX, float dirY, float from, float to, RaycastHit hit) {
+        // Restreindre le rayon a la zone couverte
+        float minX = this.originX;
+        float minY = this.originY;
+        float maxX = minX + cols * cellWidth;
+        float maxY = minY + rows * cellHeight;
+        if (dirX != 0) {
+            float t1 = (minX - originX) / dirX;
+            float t2 = (maxX - originX) / dirX;
+            from = Math.max(from, Math.min(t1, t2));
+            to = Math.min(to, Math.max(t1, t2));
+        } else if (originX < minX || originX > maxX) {
+            return -1;
+        }
+        if (dirY != 0) {
+            float t1 = (minY - originY) / dirY;
+            float t2 = (maxY - originY) / dirY;
+            from = Math.max(from, Math.min(t1, t2));
+            to = Math.min(to, Math.max(t1, t2));
+        } else if (originY < minY || originY > maxY) {
+            return -1;
+        }
+        if (from > to) {
+            return -1;
+        }
+
+        // Case de depart
+        int col = colOf(originX + dirX * from);
+        int row = rowOf(originY + dirY * from);
+        int stepX = dirX > 0 ? 1 : (dirX < 0 ? -1 : 0);
+        int stepY = dirY > 0 ? 1 : (dirY < 0 ? -1 : 0);
+        float deltaX = stepX != 0 ? cellWidth / Math.abs(dirX) : Float.POSITIVE_INFINITY;
+        float deltaY = stepY != 0 ? cellHeight / Math.abs(dirY) : Float.POSITIVE_INFINITY;
+        float nextX = stepX > 0 ? (this.originX + (col + 1) * cellWidth - originX) / dirX
+            : stepX < 0 ? (this.originX + col * cellWidth - originX) / dirX : Float.POSITIVE_INFINITY;
+        float nextY = stepY > 0 ? (this.originY + (row + 1) * cellHeight - originY) / dirY
+            : stepY < 0 ? (this.originY + row * cellHeight - originY) / dirY : Float.POSITIVE_INFINITY;
+
+        float best = Float.POSITIVE_INFINITY;
+        int bestItem = -1;
+        float enter = from;
+        while (enter <= to && enter <= best) {
+            int cell = row * cols + col;
+            // Un obstacle touche plus loin que la case peut etre battu par la suivante
+            for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                int i = cellItems[k];
+                float t = entry(i, originX, originY, dirX, dirY, from, to);
+                if (t >= 0 && t < best) {
+                    best = t;
+                    bestItem = i;
+                }
+            }
+
+            // Case suivante
+            if (nextX < nextY) {
+                enter = nextX;
+                nextX += deltaX;
+                col += stepX;
+                if (col < 0 || col >= cols) break;
+            } else {
+                enter = nextY;
+                nextY += deltaY;
+                row += stepY;
+                if (row < 0 || row >= rows || stepY == 0) break;
+            }
+        }
+
+        if (bestItem < 0) {
+            return -1;
+        }
+        if (hit != null) {
+            hit.set(originX + dirX * best, originY + dirY * best, best, rectangles[bestItem]);
+        }
+        return best;
+    }
+
+    /**
+     * Distance d'entrée du rayon dans un obstacle (méthode des dalles),
+     * ou -1 s'il ne le touche pas entre from et to.
+     */
+    private float entry(int i, float originX, float originY, float dirX, float dirY, float from, float to) {
+        float near = from;
+        float far = to;
+        if (dirX != 0) {
+            float t1 = (left[i] - originX) / dirX;
+            float t2 = (right[i] - originX) / dirX;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        } else if (originX < left[i] || originX > right[i]) {
+            return -1;
+        }
+        if (dirY != 0) {
+            float t1 = (bottom[i] - originY) / dirY;
+            float t2 = (top[i] - originY) / dirY;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+        } else if (originY < bottom[i] || originY > top[i]) {
+            return -1;
+        }
+        return near <= far ? near : -1;
+    }
+
+    private int colOf(float x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor((x - originX) / cellWidth)));
+    }
+
+    private int rowOf(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - originY) / cellHeight)));
+    }
+}
@@ -0,0 +1,536 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.game.model.entities.CollisionLayer;
+import com.game.model.entities.Entity;
+import com.game.model.entities.HitBox;
+import com.game.model.factories.ProjectileType;
+
+import java.util.Arrays;
+
+/**
+ * Tous les projectiles en jeu, rangés en tableaux de primitives.
+ *
+ * Un projectile n'est pas un objet : c'est un indice dans des tableaux
+ * parallèles (position, vitesse, durée de vie restante, dégâts, type).
+ * Les tableaux restent triés par identifiant (les tirs sont ajoutés à la
+ * fin, les retraits conservent l'ordre) et ne sont jamais réalloués en
+ * régime établi : des dizaines de milliers de tirs ne créent aucun objet.
+ *
+ * Un seul parcours par tick ({@link #update(float)}) retire les
+ * projectiles touchés au tick précédent, déplace les autres et retire
+ * ceux dont la durée de vie est écoulée.
+ *
+ * Pour les collisions, une grille de cellules est reconstruite à la
+ * demande par tri par comptage (deux parcours, sans allocation) :
+ * chaque ennemi ne lit que les cellules qu'il recouvre.
+ *
+ * Les tirs à tête chercheuse ({@link #steer(SpatialGrid, float)})
+ * cherchent à chaque tick la cible la plus proche dans la grille des
+ * entités : pas de cible gardée, donc rien à invalider quand elle meurt.
+ */
+public class ProjectileSystem {
+
+    /** Côté des cellules de la grille de collision */
+    private static final float CELL_SIZE = 64f;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Donnees par projectile (indice = emplacement)
+    private int[] ids;
+    private int[] types;
+    private float[] x;
+    private float[] y;
+    private float[] vx;
+    private float[] vy;
+    private float[] life;
+    private int[] damage;
+    private boolean[] alive;
+    private int count;
+    private int activeCount;
+
+    // Donnees par type (copiees de ProjectileType, indice = indice du type)
+    private ProjectileType[] typeTable = new ProjectileType[0];
+    private float[] hitboxX = new float[0];
+    private float[] hitboxY = new float[0];
+    private float[] hitboxWidth = new float[0];
+    private float[] hitboxHeight = new float[0];
+    private byte[] hitboxShape = new byte[0];
+    private int[] collisionLayer = new int[0];
+    private int[] collisionMask = new int[0];
+    private float[] turnRate = new float[0];
+    private float[] homingRange = new float[0];
+    private float[] splashRadius = new float[0];
+    private float[] splashEdge = new float[0];
+    // Au moins un type a tete chercheuse rencontre
+    private boolean homing;
+    // Union des couches des types rencontres (rejet d'une recherche sans lire la grille)
+    private int layers;
+    private float maxHitboxWidth;
+    private float maxHitboxHeight;
+
+    // Grille de collision : projectiles ranges par cellule (coin bas-gauche de la zone de collision)
+    private final int cols;
+    private final int rows;
+    private final int[] cellStart;
+    private int[] cellItems;
+    private int[] cellOf;
+    private boolean cellsValid;
+
+    /**
+     * @param mapWidth Largeur de la carte (les projectiles hors carte sont
+     *                 rangés dans les cellules du bord)
+     * @param mapHeight Hauteur de la carte
+     */
+    public ProjectileSystem(float mapWidth, float mapHeight) {
+        this.cols = Math.max(1, (int) Math.ceil(mapWidth / CELL_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(mapHeight / CELL_SIZE));
+        this.cellStart = new int[cols * rows + 1];
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Ajoute un projectile (identifiant supérieur à tous ceux déjà en jeu).
+     *
+     * @param x Coin bas-gauche du sprite
+     * @param y Coin bas-gauche du sprite
+     * @param lifetime Durée de vie restante (secondes)
+     * @return Indice du projectile
+     */
+    public int add(int id, ProjectileType type, float x, float y, float vx, float vy, float lifetime, int damage) {
+        if (count == ids.length) grow();
+        registerType(type);
+
+        int i = count++;
+        this.ids[i] = id;
+        this.types[i] = type.getIndex();
+        this.x[i] = x;
+        this.y[i] = y;
+        this.vx[i] = vx;
+        this.vy[i] = vy;
+        this.life[i] = lifetime;
+        this.damage[i] = damage;
+        this.alive[i] = true;
+        activeCount++;
+        cellsValid = false;
+        return i;
+    }
+
+    /**
+     * Tire une salve d'un type depuis un point : {@code type.getShotCount()}
+     * projectiles répartis sur l'angle {@code type.getSpread()} autour de
+     * la direction.
+     *
+     * @param firstId Identifiant du premier projectile (les suivants se suivent)
+     * @return Nombre de projectiles ajoutés
+     */
+    public int fire(int firstId, ProjectileType type, float centerX, float centerY,
+                    float dirX, float dirY, int damage) {
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length == 0) return 0;
+
+        float speed = type.getSpeed();
+        float baseX = dirX / length;
+        float baseY = dirY / length;
+        float left = centerX - type.getWidth() / 2f;
+        float bottom = centerY - type.getHeight() / 2f;
+        int shots = type.getShotCount();
+
+        if (shots == 1) {
+            add(firstId, type, left, bottom, baseX * speed, baseY * speed, type.getLifetime(), damage);
+            return 1;
+        }
+
+        // Salve en eventail, centree sur la direction
+        float spread = (float) Math.toRadians(type.getSpread());
+        float step = spread / (shots - 1);
+        float angle = -spread / 2f;
+        for (int s = 0; s < shots; s++, angle += step) {
+            float cos = (float) Math.cos(angle);
+            float sin = (float) Math.sin(angle);
+            float shotX = baseX * cos - baseY * sin;
+            float shotY = baseX * sin + baseY * cos;
+            add(firstId + s, type, left, bottom, shotX * speed, shotY * speed, type.getLifetime(), damage);
+        }
+        return shots;
+    }
+
+    /**
+     * Avance tous les projectiles : retire ceux touchés depuis le dernier
+     * appel, déplace les autres et retire ceux arrivés en fin de vie.
+     * Un seul parcours, ordre conservé.
+     */
+    public void update(float delta) {
+        int[] ids = this.ids;
+        int[] types = this.types;
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] vx = this.vx;
+        float[] vy = this.vy;
+        float[] life = this.life;
+        int[] damage = this.damage;
+        boolean[] alive = this.alive;
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            float remaining = life[i] - delta;
+            if (!alive[i] || remaining <= 0) continue;
+
+            ids[kept] = ids[i];
+            types[kept] = types[i];
+            x[kept] = x[i] + vx[i] * delta;
+            y[kept] = y[i] + vy[i] * delta;
+            vx[kept] = vx[i];
+            vy[kept] = vy[i];
+            life[kept] = remaining;
+            damage[kept] = damage[i];
+            alive[kept] = true;
+            kept++;
+        }
+
+        count = kept;
+        activeCount = kept;
+        cellsValid = false;
+    }
+
+    /**
+     * Oriente les tirs à tête chercheuse vers l'entité la plus proche des
+     * couches qu'ils touchent. La vitesse garde sa norme ; la rotation par
+     * appel est limitée par la vitesse de rotation du type.
+     *
+     * @param targets Grille des cibles possibles
+     * @return Nombre de tirs qui ont trouvé une cible
+     */
+    public int steer(SpatialGrid targets, float delta) {
+        if (!homing || activeCount == 0 || targets.size() == 0) return 0;
+
+        int steered = 0;
+        for (int i = 0; i < count; i++) {
+            int t = types[i];
+            if (!alive[i] || turnRate[t] == 0) continue;
+
+            ProjectileType type = typeTable[t];
+            float centerX = x[i] + type.getWidth() / 2f;
+            float centerY = y[i] + type.getHeight() / 2f;
+            Entity target = targets.nearest(centerX, centerY, homingRange[t], collisionMask[t]);
+            if (target == null) continue;
+            steered++;
+
+            // Angle signe entre la vitesse et la direction de la cible
+            float dx = SpatialGrid.centerX(target) - centerX;
+            float dy = SpatialGrid.centerY(target) - centerY;
+            float angle = (float) Math.atan2(vx[i] * dy - vy[i] * dx, vx[i] * dx + vy[i] * dy);
+            float maxTurn = turnRate[t] * delta;
+            angle = Math.max(-maxTurn, Math.min(maxTurn, angle));
+
+            float cos = (float) Math.cos(angle);
+            float sin = (float) Math.sin(angle);
+            float turnedX = vx[i] * cos - vy[i] * sin;
+            vy[i] = vx[i] * sin + vy[i] * cos;
+            vx[i] = turnedX;
+        }
+        return steered;
+    }
+
+    /**
+     * Retire un projectile (touché) : il reste à sa place, inactif,
+     * jusqu'au prochain {@link #update(float)}.
+     */
+    public void kill(int index) {
+        if (alive[index]) {
+            alive[index] = false;
+            activeCount--;
+        }
+    }
+
+    /**
+     * Vide le système (nouvelle partie).
+     */
+    public void clear() {
+        count = 0;
+        activeCount = 0;
+        cellsValid = false;
+    }
+
+    // ========== GRILLE DE COLLISION ==========
+
+    /**
+     * Reconstruit la grille si elle n'est plus à jour. Appelée avant des
+     * recherches depuis plusieurs fils : {@link #queryOverlaps} ne fait
+     * alors que lire.
+     */
+    public void prepareQueries() {
+        if (activeCount > 0 && !cellsValid) buildCells();
+    }
+
+    /**
+     * Ajoute à {@code out}, par indice croissant (donc par identifiant),
+     * les projectiles actifs dont la zone de collision chevauche le
+     * rectangle donné.
+     *
+     * @return Nombre de projectiles ajoutés
+     */
+    public int queryOverlaps(float minX, float minY, float width, float height, IntArray out) {
+        return queryOverlaps(minX, minY, width, height, CollisionLayer.ALL, CollisionLayer.ALL, out);
+    }
+
+    /**
+     * Comme {@link #queryOverlaps(float, float, float, float, IntArray)},
+     * pour un objet de couche {@code layer} qui accepte les couches
+     * {@code mask} : les projectiles qui n'interagissent pas avec lui sont
+     * écartés avant le test de géométrie.
+     *
+     * @return Nombre de projectiles ajoutés
+     */
+    public int queryOverlaps(float minX, float minY, float width, float height,
+                             int layer, int mask, IntArray out) {
+        if (activeCount == 0 || (layers & mask) == 0) return 0;
+        if (!cellsValid) buildCells();
+
+        float maxX = minX + width;
+        float maxY = minY + height;
+
+        // Les projectiles sont ranges par leur coin bas-gauche : marge de la plus grande zone
+        int minCol = clampCol((int) ((minX - maxHitboxWidth) / CELL_SIZE));
+        int maxCol = clampCol((int) (maxX / CELL_SIZE));
+        int minRow = clampRow((int) ((minY - maxHitboxHeight) / CELL_SIZE));
+        int maxRow = clampRow((int) (maxY / CELL_SIZE));
+        int first = out.size;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            int start = cellStart[row * cols + minCol];
+            int end = cellStart[row * cols + maxCol + 1];
+            for (int k = start; k < end; k++) {
+                int i = cellItems[k];
+                if (!alive[i]) continue;
+
+                int t = types[i];
+                if ((collisionLayer[t] & mask) == 0 || (collisionMask[t] & layer) == 0) continue;
+
+                float left = x[i] + hitboxX[t];
+                float bottom = y[i] + hitboxY[t];
+                if (left < maxX && left + hitboxWidth[t] > minX
+                    && bottom < maxY && bottom + hitboxHeight[t] > minY) {
+                    out.add(i);
+                }
+            }
+        }
+
+        // Plusieurs cellules : remise dans l'ordre des identifiants
+        int found = out.size - first;
+        if (found > 1 && (minRow != maxRow || minCol != maxCol)) {
+            Arrays.sort(out.items, first, out.size);
+        }
+        return found;
+    }
+
+    /**
+     * Range chaque projectile dans sa cellule (tri par comptage). Les
+     * cellules d'une même ligne sont contiguës : une recherche lit une
+     * seule plage par ligne.
+     */
+    private void buildCells() {
+        int cells = cols * rows;
+        Arrays.fill(cellStart, 0);
+        for (int i = 0; i < count; i++) {
+            int t = types[i];
+            int col = clampCol((int) ((x[i] + hitboxX[t]) / CELL_SIZE));
+            int row = clampRow((int) ((y[i] + hitboxY[t]) / CELL_SIZE));
+            int cell = row * cols + col;
+            cellOf[i] = cell;
+            cellStart[cell]++;
+        }
+        // Fin de chaque cellule
+        for (int c = 1; c < cells; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        cellStart[cells] = count;
+        // Parcours a l'envers : cellStart[c] devient le debut de la cellule,
+        // chaque cellule reste triee par indice croissant
+        for (int i = count - 1; i >= 0; i--) {
+            cellItems[--cellStart[cellOf[i]]] = i;
+        }
+        cellsValid = true;
+    }
+
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(col, cols - 1));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(row, rows - 1));
+    }
+
+    // ========== INTERNE ==========
+
+    private void registerType(ProjectileType type) {
+        int t = type.getIndex();
+        if (t < typeTable.length && typeTable[t] == type) return;
+
+        if (t >= typeTable.length) {
+            int size = t + 1;
+            typeTable = Arrays.copyOf(typeTable, size);
+            hitboxX = Arrays.copyOf(hitboxX, size);
+            hitboxY = Arrays.copyOf(hitboxY, size);
+            hitboxWidth = Arrays.copyOf(hitboxWidth, size);
+            hitboxHeight = Arrays.copyOf(hitboxHeight, size);
+            hitboxShape = Arrays.copyOf(hitboxShape, size);
+            collisionLayer = Arrays.copyOf(collisionLayer, size);
+            collisionMask = Arrays.copyOf(collisionMask, size);
+            turnRate = Arrays.copyOf(turnRate, size);
+            homingRange = Arrays.copyOf(homingRange, size);
+            splashRadius = Arrays.copyOf(splashRadius, size);
+            splashEdge = Arrays.copyOf(splashEdge, size);
+        }
+        HitBox hitBox = type.getHitBox();
+        typeTable[t] = type;
+        hitboxX[t] = hitBox.getOffsetX();
+        hitboxY[t] = hitBox.getOffsetY();
+        hitboxWidth[t] = hitBox.getWidth();
+        hitboxHeight[t] = hitBox.getHeight();
+        hitboxShape[t] = (byte) hitBox.getShape();
+        collisionLayer[t] = type.getCollisionLayer();
+        collisionMask[t] = type.getCollisionMask();
+        layers |= type.getCollisionLayer();
+        turnRate[t] = type.isHoming() ? (float) Math.toRadians(type.getTurnRate()) : 0f;
+        homingRange[t] = type.getHomingRange();
+        splashRadius[t] = type.getSplashRadius();
+        splashEdge[t] = type.getSplashEdge();
+        homing |= type.isHoming();
+        maxHitboxWidth = Math.max(maxHitboxWidth, hitBox.getWidth());
+        maxHitboxHeight = Math.max(maxHitboxHeight, hitBox.getHeight());
+    }
+
+    private void allocate(int capacity) {
+        ids = new int[capacity];
+        types = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        life = new float[capacity];
+        damage = new int[capacity];
+        alive = new boolean[capacity];
+        cellItems = new int[capacity];
+        cellOf = new int[capacity];
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        types = Arrays.copyOf(types, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        life = Arrays.copyOf(life, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+        cellItems = new int[capacity];
+        cellOf = new int[capacity];
+    }
+
+    // ========== GETTERS ==========
+
+    /** Nombre d'emplacements occupés (bornes des indices, inactifs compris) */
+    public int count() {
+        return count;
+    }
+
+    /** Nombre de projectiles actifs */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public boolean isAlive(int index) {
+        return alive[index];
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public ProjectileType getType(int index) {
+        return typeTable[types[index]];
+    }
+
+    public int getTypeIndex(int index) {
+        return types[index];
+    }
+
+    /** Coin bas-gauche du sprite */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    public float getCenterX(int index) {
+        return x[index] + typeTable[types[index]].getWidth() / 2f;
+    }
+
+    public float getCenterY(int index) {
+        return y[index] + typeTable[types[index]].getHeight() / 2f;
+    }
+
+    public float getVelocityX(int index) {
+        return vx[index];
+    }
+
+    public float getVelocityY(int index) {
+        return vy[index];
+    }
+
+    /** Durée de vie restante (secondes) */
+    public float getLifetime(int index) {
+        return life[index];
+    }
+
+    public int getDamage(int index) {
+        return damage[index];
+    }
+
+    /** Zone de collision (coordonnées monde) */
+    public float getHitboxX(int index) {
+        return x[index] + hitboxX[types[index]];
+    }
+
+    public float getHitboxY(int index) {
+        return y[index] + hitboxY[types[index]];
+    }
+
+    public float getHitboxWidth(int index) {
+        return hitboxWidth[types[index]];
+    }
+
+    public float getHitboxHeight(int index) {
+        return hitboxHeight[types[index]];
+    }
+
+    /** Couche de collision du type (CollisionLayer) */
+    public int getCollisionLayer(int index) {
+        return collisionLayer[types[index]];
+    }
+
+    /** Couches touchées par le type */
+    public int getCollisionMask(int index) {
+        return collisionMask[types[index]];
+    }
+
+    /** Rayon de l'explosion à l'impact (0 : projectile non explosif) */
+    public float getSplashRadius(int index) {
+        return splashRadius[types[index]];
+    }
+
+    /** Fraction des dégâts au bord de l'explosion */
+    public float getSplashEdge(int index) {
+        return splashEdge[types[index]];
+    }
+
+    /** Forme de la zone de collision (HitBox.RECTANGLE, CIRCLE ou CAPSULE) */
+    public int getHitboxShape(int index) {
+        return hitboxShape[types[index]];
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Résultat d'un lancer de rayon (réutilisable d'une requête à l'autre).
+ */
+public final class RaycastHit {
+
+    private float x;
+    private float y;
+    private float distance;
+    private Rectangle obstacle;
+
+    void set(float x, float y, float distance, Rectangle obstacle) {
+        this.x = x;
+        this.y = y;
+        this.distance = distance;
+        this.obstacle = obstacle;
+    }
+
+    // ========== GETTERS ==========
+
+    /** Point touché (coordonnées monde) */
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
+    }
+
+    /** Distance depuis l'origine du rayon */
+    public float getDistance() {
+        return distance;
+    }
+
+    /** Obstacle touché (null : bord d'une zone de carte non chargée) */
+    public Rectangle getObstacle() {
+        return obstacle;
+    }
+}
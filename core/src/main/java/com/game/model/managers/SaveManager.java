@@ -0,0 +1,289 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.Gdx;
+import com.game.utils.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gestionnaire des sauvegardes binaires de partie.
+ *
+ * Format (little-endian) :
+ * - en-tête : magic "GSAV", version, date de la sauvegarde
+ * - contenu : écrit/relu par GameController (état du jeu, vague, entités)
+ *
+ * L'état est copié dans un buffer en mémoire sur le thread de jeu (rapide),
+ * puis écrit sur disque par un thread dédié : la sauvegarde automatique
+ * ne bloque pas une frame. Le chargement lit le fichier d'un bloc dans un
+ * buffer direct : aucun mappage ne garde le fichier ouvert, qui peut donc
+ * être remplacé ou supprimé ensuite (Windows refuse sinon).
+ */
+public class SaveManager {
+
+    /** Identifiant du format ("GSAV") */
+    public static final int MAGIC = 0x56415347;
+
+    /** Version du format, à incrémenter à chaque changement de contenu */
+    public static final int VERSION = 4;
+
+    /** Taille initiale d'un buffer de sauvegarde */
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /** Taille de l'en-tête (magic, version, date) */
+    private static final int HEADER_SIZE = 16;
+
+    private static final String SAVE_FILE = "saves/autosave.sav";
+
+    private final File saveFile;
+
+    // Deux buffers : un en cours d'ecriture disque, l'autre libre pour la capture
+    private final ByteBuffer[] buffers;
+    private final boolean[] busy;
+
+    private final ExecutorService writerThread;
+
+    public SaveManager() {
+        this(defaultSaveFile());
+    }
+
+    public SaveManager(File saveFile) {
+        this.saveFile = saveFile;
+        this.buffers = new ByteBuffer[2];
+        this.busy = new boolean[2];
+        this.writerThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static File defaultSaveFile() {
+        // Dossier local du jeu si LibGDX est initialise
+        return Gdx.files != null ? Gdx.files.local(SAVE_FILE).file() : new File(SAVE_FILE);
+    }
+
+    /**
+     * Indique si la sauvegarde par défaut existe (menu principal).
+     */
+    public static boolean saveExists() {
+        File file = defaultSaveFile();
+        return file.isFile() && file.length() > 0;
+    }
+
+    /**
+     * Indique si une sauvegarde existe.
+     */
+    public boolean hasSave() {
+        return saveFile.isFile() && saveFile.length() > 0;
+    }
+
+    /**
+     * Retourne un buffer libre, vidé et déjà muni de l'en-tête, ou null si
+     * une écriture précédente occupe encore les deux buffers.
+     */
+    public synchronized ByteBuffer beginSnapshot() {
+        for (int i = 0; i < buffers.length; i++) {
+            if (!busy[i]) {
+                if (buffers[i] == null) {
+                    buffers[i] = allocate(INITIAL_CAPACITY);
+                }
+                busy[i] = true;
+                ByteBuffer buffer = buffers[i];
+                buffer.clear();
+                writeHeader(buffer);
+                return buffer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remplace un buffer devenu trop petit pendant la capture.
+     * Le nouveau buffer est vide et contient l'en-tête.
+     */
+    public synchronized ByteBuffer grow(ByteBuffer buffer) {
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] == buffer) {
+                buffers[i] = allocate(buffer.capacity() * 2);
+                writeHeader(buffers[i]);
+                return buffers[i];
+            }
+        }
+        throw new IllegalArgumentException("Buffer inconnu");
+    }
+
+    /**
+     * Écrit une capture sur disque en arrière-plan.
+     */
+    public void saveAsync(final ByteBuffer snapshot) {
+        snapshot.flip();
+        writerThread.execute(() -> {
+            write(snapshot);
+            release(snapshot);
+        });
+    }
+
+    /**
+     * Écrit une capture sur disque immédiatement (fermeture de la partie).
+     * L'écriture passe par le thread dédié, après les sauvegardes déjà en
+     * file : deux écritures ne partagent jamais le fichier temporaire.
+     */
+    public void saveNow(final ByteBuffer snapshot) {
+        snapshot.flip();
+        try {
+            writerThread.submit(() -> write(snapshot)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.warn("Sauvegarde interrompue");
+        } catch (ExecutionException e) {
+            Log.error("Erreur écriture sauvegarde {}", saveFile.getPath(), e.getCause());
+        } finally {
+            release(snapshot);
+        }
+    }
+
+    /**
+     * Abandonne une capture sans l'écrire.
+     */
+    public synchronized void release(ByteBuffer snapshot) {
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] == snapshot) {
+                busy[i] = false;
+            }
+        }
+    }
+
+    private void write(ByteBuffer snapshot) {
+        long start = System.nanoTime();
+        try {
+            Path target = saveFile.toPath();
+            Path temp = target.resolveSibling(saveFile.getName() + ".tmp");
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+
+            // Ecriture dans un fichier temporaire puis remplacement atomique
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) {
+                    channel.write(snapshot);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            if (Log.DEBUG) {
+                Log.debug("Sauvegarde écrite ({} octets en {} ms)", snapshot.limit(),
+                    (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (IOException e) {
+            Log.error("Erreur écriture sauvegarde {}", saveFile.getPath(), e);
+        }
+    }
+
+    /**
+     * Lit la sauvegarde en mémoire.
+     *
+     * @return le buffer positionné après l'en-tête, ou null si absente/invalide
+     */
+    public ByteBuffer load() {
+        if (!hasSave()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(saveFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                Log.warn("Sauvegarde invalide : {}", saveFile.getPath());
+                return null;
+            }
+            ByteBuffer in = allocate((int) size);
+            while (in.hasRemaining()) {
+                if (channel.read(in) < 0) break;
+            }
+            in.flip();
+
+            int magic = in.getInt();
+            int version = in.getInt();
+            in.getLong(); // date de la sauvegarde
+
+            if (magic != MAGIC) {
+                Log.warn("Sauvegarde invalide : {}", saveFile.getPath());
+                return null;
+            }
+            if (version != VERSION) {
+                Log.warn("Version de sauvegarde non supportée : {} (attendue {})", version, VERSION);
+                return null;
+            }
+            return in;
+        } catch (IOException e) {
+            Log.error("Erreur lecture sauvegarde {}", saveFile.getPath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Supprime la sauvegarde (partie terminée).
+     */
+    public void delete() {
+        writerThread.execute(() -> {
+            if (saveFile.exists() && !saveFile.delete()) {
+                Log.warn("Impossible de supprimer {}", saveFile.getPath());
+            }
+        });
+    }
+
+    /**
+     * Arrête le thread d'écriture après les sauvegardes en cours.
+     */
+    public void dispose() {
+        writerThread.shutdown();
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(System.currentTimeMillis());
+    }
+
+    // ========== CHAINES ==========
+
+    /**
+     * Écrit une chaîne (longueur sur 2 octets + UTF-8).
+     */
+    public static void writeString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    public static String readString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
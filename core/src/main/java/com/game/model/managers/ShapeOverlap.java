@@ -0,0 +1,84 @@
+package com.game.model.managers;
+
+import com.game.model.entities.HitBox;
+
+/**
+ * Tests de chevauchement entre zones de collision de formes différentes.
+ *
+ * Chaque zone est donnée par sa forme et son rectangle englobant (voir
+ * HitBox). Le couple de formes choisit, dans une table de 3 x 3 cases,
+ * un test spécialisé : sans racine carrée ni allocation, et sans autre
+ * branche que des min/max.
+ *
+ * Une capsule (ou un rectangle, ou un cercle) est vue comme une boîte
+ * intérieure arrondie d'un rayon : deux formes se touchent si la
+ * distance entre leurs boîtes intérieures est inférieure à la somme des
+ * rayons.
+ */
+public final class ShapeOverlap {
+
+    private ShapeOverlap() {
+    }
+
+    /**
+     * Indique si deux zones de collision se chevauchent (bords exclus).
+     */
+    public static boolean overlaps(int shapeA, float ax, float ay, float aw, float ah,
+                                   int shapeB, float bx, float by, float bw, float bh) {
+        switch (shapeA * HitBox.SHAPES + shapeB) {
+            case HitBox.RECTANGLE * HitBox.SHAPES + HitBox.RECTANGLE:
+                return rectangles(ax, ay, aw, ah, bx, by, bw, bh);
+            case HitBox.RECTANGLE * HitBox.SHAPES + HitBox.CIRCLE:
+                return circleRectangle(bx, by, bw, bh, ax, ay, aw, ah);
+            case HitBox.CIRCLE * HitBox.SHAPES + HitBox.RECTANGLE:
+                return circleRectangle(ax, ay, aw, ah, bx, by, bw, bh);
+            case HitBox.CIRCLE * HitBox.SHAPES + HitBox.CIRCLE:
+                return circles(ax, ay, aw, ah, bx, by, bw, bh);
+            default:
+                // Au moins une capsule
+                return roundedBoxes(shapeA, ax, ay, aw, ah, shapeB, bx, by, bw, bh);
+        }
+    }
+
+    /** Rectangles alignés sur les axes (même test que Rectangle.overlaps) */
+    private static boolean rectangles(float ax, float ay, float aw, float ah,
+                                      float bx, float by, float bw, float bh) {
+        return ax < bx + bw && ax + aw > bx && ay < by + bh && ay + ah > by;
+    }
+
+    private static boolean circles(float ax, float ay, float aw, float ah,
+                                   float bx, float by, float bw, float bh) {
+        float dx = (ax + aw * 0.5f) - (bx + bw * 0.5f);
+        float dy = (ay + ah * 0.5f) - (by + bh * 0.5f);
+        float radii = (Math.min(aw, ah) + Math.min(bw, bh)) * 0.5f;
+        return dx * dx + dy * dy < radii * radii;
+    }
+
+    /** Point du rectangle le plus proche du centre du cercle */
+    private static boolean circleRectangle(float cx, float cy, float cw, float ch,
+                                           float rx, float ry, float rw, float rh) {
+        float centerX = cx + cw * 0.5f;
+        float centerY = cy + ch * 0.5f;
+        float radius = Math.min(cw, ch) * 0.5f;
+        float dx = centerX - Math.max(rx, Math.min(centerX, rx + rw));
+        float dy = centerY - Math.max(ry, Math.min(centerY, ry + rh));
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    /**
+     * Cas général : boîte intérieure (le rectangle réduit du rayon sur
+     * chaque bord, un segment pour une capsule, un point pour un cercle)
+     * et rayon de chaque forme.
+     */
+    private static boolean roundedBoxes(int shapeA, float ax, float ay, float aw, float ah,
+                                        int shapeB, float bx, float by, float bw, float bh) {
+        float ra = shapeA == HitBox.RECTANGLE ? 0f : Math.min(aw, ah) * 0.5f;
+        float rb = shapeB == HitBox.RECTANGLE ? 0f : Math.min(bw, bh) * 0.5f;
+
+        // Ecart entre les boites interieures sur chaque axe (0 si elles se recouvrent)
+        float dx = Math.max(0f, Math.max((ax + ra) - (bx + bw - rb), (bx + rb) - (ax + aw - ra)));
+        float dy = Math.max(0f, Math.max((ay + ra) - (by + bh - rb), (by + rb) - (ay + ah - ra)));
+        float radii = ra + rb;
+        return dx * dx + dy * dy < radii * radii;
+    }
+}
@@ -0,0 +1,351 @@
+package com.game.model.managers;
+
+import com.game.model.entities.Entity;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Grille spatiale uniforme sur la carte, mise à jour de façon incrémentale.
+ *
+ * Chaque entité insérée reçoit un emplacement (son « handle », gardé dans
+ * l'entité) et est chaînée dans la liste de la cellule qui contient son
+ * centre. Un déplacement ne coûte rien tant que l'entité reste dans la
+ * même cellule, et O(1) quand elle en change : pas de reconstruction
+ * de la grille à chaque tick.
+ *
+ * Les recherches ne parcourent que les cellules qui touchent la zone
+ * demandée. Les recherches du plus proche voisin parcourent les cellules
+ * par anneaux autour du point et s'arrêtent dès qu'un anneau est plus
+ * loin que le candidat retenu.
+ *
+ * Non synchronisée : les recherches des plus proches voisins utilisent
+ * des tableaux de travail de la grille.
+ */
+public class SpatialGrid {
+
+    private static final int NONE = -1;
+
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+
+    /** Premier emplacement de chaque cellule (NONE si vide) */
+    private final int[] cellHeads;
+
+    // Emplacements (listes doublement chainees par cellule)
+    private Entity[] entities;
+    private int[] cells;
+    private int[] next;
+    private int[] prev;
+    private int capacity;
+    private int used;
+    private int freeHead = NONE;
+    private int size;
+
+    // Recherche des k plus proches : candidats tries par distance
+    private Entity[] nearestEntities = new Entity[8];
+    private float[] nearestDistances = new float[8];
+
+    /**
+     * @param width Largeur de la zone couverte
+     * @param height Hauteur de la zone couverte
+     * @param cellSize Côté d'une cellule (de l'ordre du rayon des recherches)
+     */
+    public SpatialGrid(float width, float height, float cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.cellHeads = new int[cols * rows];
+        Arrays.fill(cellHeads, NONE);
+
+        this.capacity = 256;
+        this.entities = new Entity[capacity];
+        this.cells = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+    }
+
+    /**
+     * Ajoute une entité à la grille (sans effet si elle y est déjà).
+     */
+    public void insert(Entity entity) {
+        if (entity.getGridHandle() != NONE) return;
+
+        int handle;
+        if (freeHead != NONE) {
+            handle = freeHead;
+            freeHead = next[handle];
+        } else {
+            if (used == capacity) grow();
+            handle = used++;
+        }
+
+        entities[handle] = entity;
+        entity.setGridHandle(handle);
+        link(handle, cellOf(entity));
+        size++;
+    }
+
+    /**
+     * Met à jour la cellule d'une entité après un déplacement.
+     */
+    public void update(Entity entity) {
+        int handle = entity.getGridHandle();
+        if (handle == NONE) return;
+
+        int cell = cellOf(entity);
+        if (cell != cells[handle]) {
+            unlink(handle);
+            link(handle, cell);
+        }
+    }
+
+    /**
+     * Retire une entité de la grille (sans effet si elle n'y est pas).
+     */
+    public void remove(Entity entity) {
+        int handle = entity.getGridHandle();
+        if (handle == NONE) return;
+
+        unlink(handle);
+        entities[handle] = null;
+        entity.setGridHandle(NONE);
+        next[handle] = freeHead;
+        freeHead = handle;
+        size--;
+    }
+
+    /**
+     * Vide la grille (les entités sont détachées).
+     */
+    public void clear() {
+        for (int h = 0; h < used; h++) {
+            if (entities[h] != null) {
+                entities[h].setGridHandle(NONE);
+                entities[h] = null;
+            }
+        }
+        Arrays.fill(cellHeads, NONE);
+        used = 0;
+        freeHead = NONE;
+        size = 0;
+    }
+
+    /**
+     * Ajoute à {@code out} les entités dont le centre est à moins de
+     * {@code radius} du point donné (ordre quelconque).
+     *
+     * @return Nombre d'entités ajoutées
+     */
+    public int query(float x, float y, float radius, List<Entity> out) {
+        int minCol = clampCol((int) ((x - radius) / cellSize));
+        int maxCol = clampCol((int) ((x + radius) / cellSize));
+        int minRow = clampRow((int) ((y - radius) / cellSize));
+        int maxRow = clampRow((int) ((y + radius) / cellSize));
+        float radiusSq = radius * radius;
+        int found = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int h = cellHeads[row * cols + col]; h != NONE; h = next[h]) {
+                    Entity entity = entities[h];
+                    float dx = centerX(entity) - x;
+                    float dy = centerY(entity) - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Comme {@link #query(float, float, float, List)}, pour les seules
+     * entités d'une des couches {@code layers} (CollisionLayer).
+     *
+     * @return Nombre d'entités ajoutées
+     */
+    public int query(float x, float y, float radius, int layers, List<Entity> out) {
+        int minCol = clampCol((int) ((x - radius) / cellSize));
+        int maxCol = clampCol((int) ((x + radius) / cellSize));
+        int minRow = clampRow((int) ((y - radius) / cellSize));
+        int maxRow = clampRow((int) ((y + radius) / cellSize));
+        float radiusSq = radius * radius;
+        int found = 0;
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int h = cellHeads[row * cols + col]; h != NONE; h = next[h]) {
+                    Entity entity = entities[h];
+                    if ((entity.getCollisionLayer() & layers) == 0) continue;
+                    float dx = centerX(entity) - x;
+                    float dy = centerY(entity) - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Entité active la plus proche d'un point (distance des centres).
+     *
+     * @param maxRadius Distance maximale de recherche
+     * @param layers Couches acceptées (CollisionLayer.ALL : toutes)
+     * @return L'entité, ou null si aucune n'est à moins de maxRadius
+     */
+    public Entity nearest(float x, float y, float maxRadius, int layers) {
+        return nearest(x, y, 1, maxRadius, layers, null) > 0 ? nearestEntities[0] : null;
+    }
+
+    /**
+     * Ajoute à {@code out} les {@code k} entités actives les plus proches
+     * d'un point, de la plus proche à la plus lointaine.
+     *
+     * @param maxRadius Distance maximale de recherche
+     * @param layers Couches acceptées (CollisionLayer.ALL : toutes)
+     * @param out Liste complétée (peut être null)
+     * @return Nombre d'entités trouvées (au plus k)
+     */
+    public int nearest(float x, float y, int k, float maxRadius, int layers, List<Entity> out) {
+        if (k <= 0 || size == 0) return 0;
+        if (k > nearestEntities.length) {
+            nearestEntities = new Entity[k];
+            nearestDistances = new float[k];
+        }
+        Entity[] best = nearestEntities;
+        float[] bestSq = nearestDistances;
+        int found = 0;
+        float limitSq = maxRadius * maxRadius;
+
+        // Point ramene dans la grille (un point hors carte est plus loin de toutes les cellules)
+        float px = Math.max(0, Math.min(x, cols * cellSize));
+        float py = Math.max(0, Math.min(y, rows * cellSize));
+        int centerCol = clampCol((int) (px / cellSize));
+        int centerRow = clampRow((int) (py / cellSize));
+        int lastRing = Math.max(Math.max(centerCol, cols - 1 - centerCol),
+                                Math.max(centerRow, rows - 1 - centerRow));
+
+        for (int ring = 0; ring <= lastRing; ring++) {
+            // Distance minimale du point aux cellules de l'anneau
+            if (ring > 0) {
+                float gap = Math.min(
+                    Math.min(px - (centerCol - ring + 1) * cellSize, (centerCol + ring) * cellSize - px),
+                    Math.min(py - (centerRow - ring + 1) * cellSize, (centerRow + ring) * cellSize - py));
+                if (gap * gap > limitSq) break;
+            }
+
+            int minRow = centerRow - ring;
+            int maxRow = centerRow + ring;
+            for (int row = Math.max(0, minRow); row <= Math.min(rows - 1, maxRow); row++) {
+                // Lignes du bord de l'anneau entieres, sinon ses deux colonnes
+                boolean edge = row == minRow || row == maxRow;
+                int step = edge || ring == 0 ? 1 : 2 * ring;
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    if (col < 0 || col >= cols) continue;
+
+                    for (int h = cellHeads[row * cols + col]; h != NONE; h = next[h]) {
+                        Entity entity = entities[h];
+                        if (!entity.isActive() || (entity.getCollisionLayer() & layers) == 0) continue;
+                        float dx = centerX(entity) - x;
+                        float dy = centerY(entity) - y;
+                        float distSq = dx * dx + dy * dy;
+                        if (distSq > limitSq) continue;
+
+                        // Insertion dans les candidats tries
+                        int slot = found < k ? found++ : k - 1;
+                        while (slot > 0 && bestSq[slot - 1] > distSq) {
+                            best[slot] = best[slot - 1];
+                            bestSq[slot] = bestSq[slot - 1];
+                            slot--;
+                        }
+                        best[slot] = entity;
+                        bestSq[slot] = distSq;
+                        if (found == k) limitSq = bestSq[k - 1];
+                    }
+                }
+            }
+        }
+
+        if (out != null) {
+            for (int i = 0; i < found; i++) {
+                out.add(best[i]);
+            }
+        }
+        // Pas de reference gardee au-dela du plus proche (rendu par nearest)
+        for (int i = 1; i < found; i++) {
+            best[i] = null;
+        }
+        return found;
+    }
+
+    public static float centerX(Entity entity) {
+        return entity.getPosition().x + entity.getWidth() / 2f;
+    }
+
+    public static float centerY(Entity entity) {
+        return entity.getPosition().y + entity.getHeight() / 2f;
+    }
+
+    // ========== INTERNE ==========
+
+    private int cellOf(Entity entity) {
+        int col = clampCol((int) (centerX(entity) / cellSize));
+        int row = clampRow((int) (centerY(entity) / cellSize));
+        return row * cols + col;
+    }
+
+    // Positions hors carte rangees dans les cellules du bord
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(col, cols - 1));
+    }
+
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(row, rows - 1));
+    }
+
+    private void link(int handle, int cell) {
+        int head = cellHeads[cell];
+        cells[handle] = cell;
+        prev[handle] = NONE;
+        next[handle] = head;
+        if (head != NONE) prev[head] = handle;
+        cellHeads[cell] = handle;
+    }
+
+    private void unlink(int handle) {
+        int before = prev[handle];
+        int after = next[handle];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            cellHeads[cells[handle]] = after;
+        }
+        if (after != NONE) prev[after] = before;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        entities = Arrays.copyOf(entities, capacity);
+        cells = Arrays.copyOf(cells, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    // ========== GETTERS ==========
+
+    /** Nombre d'entités dans la grille */
+    public int size() {
+        return size;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,229 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.game.utils.Log;
+
+import java.util.Random;
+
+/**
+ * Index des positions de spawn libres (hors obstacles).
+ *
+ * Construit une seule fois au chargement de la carte : la zone est découpée
+ * en cellules et chaque cellule où une entité peut apparaître sans toucher
+ * d'obstacle est rangée par bord (haut, bas, gauche, droite) et dans la
+ * liste des cellules intérieures. Chaque liste est allouée à sa taille
+ * exacte, comptée lors d'un premier passage.
+ *
+ * Un spawn se résume ensuite à un tirage aléatoire dans une liste : O(1),
+ * sans essais ratés ni allocation.
+ */
+public class SpawnIndex {
+
+    public static final int EDGE_TOP = 0;
+    public static final int EDGE_BOTTOM = 1;
+    public static final int EDGE_LEFT = 2;
+    public static final int EDGE_RIGHT = 3;
+
+    /** Pas de la grille de cellules en pixels */
+    private static final float CELL_SIZE = 16f;
+
+    /** Taille de l'entité à placer (32x32 pour le joueur et les ennemis) */
+    private static final float SPAWN_SIZE = 32f;
+
+    /** Marge minimale avec le bord de la zone (comme l'ancien spawn) */
+    private static final float BORDER_MARGIN = 50f;
+
+    /** Profondeur de la bande de spawn le long de chaque bord */
+    private static final float EDGE_BAND = 64f;
+
+    /** Marge des positions "intérieures" (placement du joueur) */
+    private static final float INTERIOR_MARGIN = 100f;
+
+    // Listes d'une cellule (bits) : les quatre bords (EDGE_*), puis l'interieur
+    private static final int INTERIOR = 4;
+
+    // Zone indexee
+    private final float areaX;
+    private final float areaY;
+    private final float areaWidth;
+    private final float areaHeight;
+
+    // Listes de cellules libres (x, y entrelaces)
+    private final float[][] edgeCells;
+    private final int[] edgeCounts;
+    private final float[] interiorCells;
+    private int interiorCount;
+    private final float[] allCells;
+    private int allCount;
+
+    /**
+     * @param sizes Nombre de cellules de chaque liste (bords, intérieur)
+     * @param freeCells Nombre total de cellules libres
+     */
+    private SpawnIndex(float areaX, float areaY, float areaWidth, float areaHeight, int[] sizes, int freeCells) {
+        this.areaX = areaX;
+        this.areaY = areaY;
+        this.areaWidth = areaWidth;
+        this.areaHeight = areaHeight;
+
+        this.edgeCells = new float[4][];
+        for (int edge = 0; edge < 4; edge++) {
+            this.edgeCells[edge] = new float[sizes[edge] * 2];
+        }
+        this.edgeCounts = new int[4];
+        this.interiorCells = new float[sizes[INTERIOR] * 2];
+        this.allCells = new float[freeCells * 2];
+    }
+
+    /**
+     * Construit l'index d'une zone à partir des obstacles connus du
+     * CollisionManager.
+     */
+    public static SpawnIndex build(CollisionManager collisionManager,
+                                   float areaX, float areaY, float areaWidth, float areaHeight) {
+        int cols = Math.max(0, (int) ((areaWidth - 2 * BORDER_MARGIN - SPAWN_SIZE) / CELL_SIZE) + 1);
+        int rows = Math.max(0, (int) ((areaHeight - 2 * BORDER_MARGIN - SPAWN_SIZE) / CELL_SIZE) + 1);
+
+        // Premier passage : reperer les cellules libres et compter chaque liste
+        // (listes de la cellule + 1, 0 si elle touche un obstacle)
+        int[] lists = new int[cols * rows];
+        int[] sizes = new int[INTERIOR + 1];
+        int freeCells = 0;
+        Rectangle test = new Rectangle(0, 0, SPAWN_SIZE, SPAWN_SIZE);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                test.setPosition(areaX + BORDER_MARGIN + col * CELL_SIZE, areaY + BORDER_MARGIN + row * CELL_SIZE);
+                if (collisionManager.isCollidingWithObstacles(test)) continue;
+
+                int mask = listsOf(test.x, test.y, areaX, areaY, areaWidth, areaHeight);
+                lists[row * cols + col] = mask + 1;
+                freeCells++;
+                for (int list = 0; list <= INTERIOR; list++) {
+                    if ((mask & (1 << list)) != 0) sizes[list]++;
+                }
+            }
+        }
+
+        // Second passage : ranger chaque cellule libre dans ses listes
+        SpawnIndex index = new SpawnIndex(areaX, areaY, areaWidth, areaHeight, sizes, freeCells);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = lists[row * cols + col];
+                if (cell != 0) {
+                    index.addCell(areaX + BORDER_MARGIN + col * CELL_SIZE, areaY + BORDER_MARGIN + row * CELL_SIZE, cell - 1);
+                }
+            }
+        }
+
+        Log.info("Index de spawn : {} positions libres (haut {}, bas {}, gauche {}, droite {})",
+            index.allCount, index.edgeCounts[EDGE_TOP], index.edgeCounts[EDGE_BOTTOM],
+            index.edgeCounts[EDGE_LEFT], index.edgeCounts[EDGE_RIGHT]);
+        if (index.allCount == 0) {
+            Log.warn("Aucune position libre : les spawns se feront au centre de la zone");
+        }
+
+        return index;
+    }
+
+    /**
+     * Listes auxquelles appartient une cellule libre (bits EDGE_* et INTERIOR).
+     */
+    private static int listsOf(float x, float y, float areaX, float areaY, float areaWidth, float areaHeight) {
+        int mask = 0;
+
+        // Bandes le long des bords
+        float right = areaX + areaWidth;
+        float top = areaY + areaHeight;
+        if (y + SPAWN_SIZE >= top - BORDER_MARGIN - EDGE_BAND) mask |= 1 << EDGE_TOP;
+        if (y <= areaY + BORDER_MARGIN + EDGE_BAND) mask |= 1 << EDGE_BOTTOM;
+        if (x <= areaX + BORDER_MARGIN + EDGE_BAND) mask |= 1 << EDGE_LEFT;
+        if (x + SPAWN_SIZE >= right - BORDER_MARGIN - EDGE_BAND) mask |= 1 << EDGE_RIGHT;
+
+        // Interieur (loin des bords)
+        if (x >= areaX + INTERIOR_MARGIN && y >= areaY + INTERIOR_MARGIN &&
+            x + SPAWN_SIZE <= right - INTERIOR_MARGIN && y + SPAWN_SIZE <= top - INTERIOR_MARGIN) {
+            mask |= 1 << INTERIOR;
+        }
+        return mask;
+    }
+
+    private void addCell(float x, float y, int mask) {
+        allCount = push(allCells, allCount, x, y);
+        for (int edge = 0; edge < 4; edge++) {
+            if ((mask & (1 << edge)) != 0) {
+                edgeCounts[edge] = push(edgeCells[edge], edgeCounts[edge], x, y);
+            }
+        }
+        if ((mask & (1 << INTERIOR)) != 0) {
+            interiorCount = push(interiorCells, interiorCount, x, y);
+        }
+    }
+
+    private static int push(float[] cells, int count, float x, float y) {
+        cells[count * 2] = x;
+        cells[count * 2 + 1] = y;
+        return count + 1;
+    }
+
+    /**
+     * Choisit une position libre sur un bord tiré au hasard.
+     * Les bords sans position libre sont ignorés ; si aucun bord n'en a,
+     * n'importe quelle position libre est utilisée.
+     *
+     * @param out Reçoit la position (coin bas-gauche)
+     */
+    public Vector2 pickEdge(Random random, Vector2 out) {
+        int nonEmpty = 0;
+        for (int edge = 0; edge < 4; edge++) {
+            if (edgeCounts[edge] > 0) nonEmpty++;
+        }
+        if (nonEmpty == 0) {
+            return pickAny(random, out);
+        }
+
+        // Tirage uniforme parmi les bords non vides
+        int choice = random.nextInt(nonEmpty);
+        for (int edge = 0; edge < 4; edge++) {
+            if (edgeCounts[edge] > 0 && choice-- == 0) {
+                return pick(edgeCells[edge], edgeCounts[edge], random, out);
+            }
+        }
+        return pickAny(random, out);
+    }
+
+    /**
+     * Choisit une position libre loin des bords (placement du joueur).
+     */
+    public Vector2 pickInterior(Random random, Vector2 out) {
+        if (interiorCount == 0) {
+            return pickAny(random, out);
+        }
+        return pick(interiorCells, interiorCount, random, out);
+    }
+
+    /**
+     * Choisit n'importe quelle position libre (centre de la zone si aucune).
+     */
+    public Vector2 pickAny(Random random, Vector2 out) {
+        if (allCount == 0) {
+            return out.set(areaX + areaWidth / 2, areaY + areaHeight / 2);
+        }
+        return pick(allCells, allCount, random, out);
+    }
+
+    private static Vector2 pick(float[] cells, int count, Random random, Vector2 out) {
+        int i = random.nextInt(count);
+        return out.set(cells[i * 2], cells[i * 2 + 1]);
+    }
+
+    // ========== GETTERS ==========
+
+    public int getFreeCellCount() {
+        return allCount;
+    }
+
+    public int getEdgeCellCount(int edge) {
+        return edgeCounts[edge];
+    }
+}
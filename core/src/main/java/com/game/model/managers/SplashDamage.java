@@ -0,0 +1,222 @@
+package com.game.model.managers;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.game.model.entities.Enemy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dégâts de zone des projectiles explosifs, appliqués une fois par tick.
+ *
+ * Les explosions du tick sont d'abord enregistrées ; {@link #apply(List)}
+ * range alors les ennemis actifs par cellule (tri par comptage, comme la
+ * grille des projectiles) et chaque explosion ne lit que les cellules
+ * qui touchent son rayon. Les dégâts sont cumulés par ennemi puis
+ * appliqués en un seul appel, par indice croissant : une foule touchée
+ * par plusieurs explosions ne coûte qu'un takeDamage par ennemi.
+ *
+ * Les dégâts décroissent linéairement avec la distance au bord de la
+ * zone de collision de l'ennemi : plein dégât au contact, une fraction
+ * au bord du rayon.
+ */
+final class SplashDamage {
+
+    // Explosions du tick : x, y, rayon, degats, fraction au bord, couches touchees
+    private final FloatArray explosions = new FloatArray();
+    private final IntArray masks = new IntArray();
+    private float maxRadius;
+
+    // Ennemis actifs ranges par cellule (coin bas-gauche de la zone de collision)
+    private float originX;
+    private float originY;
+    private float cellSize;
+    private int rows;
+    private float maxWidth;
+    private float maxHeight;
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[64];
+    private int[] cellOf = new int[64];
+    private float[] left = new float[64];
+    private float[] bottom = new float[64];
+    private float[] right = new float[64];
+    private float[] top = new float[64];
+
+    // Degats cumules par ennemi (indice dans la liste), et ennemis touches
+    private float[] pending = new float[64];
+    private final IntArray touched = new IntArray();
+
+    /** Limite du nombre de cellules (ennemis très dispersés : cellules plus grandes) */
+    private static final int MAX_CELLS = 1 << 14;
+
+    /**
+     * Enregistre une explosion.
+     *
+     * @param radius Rayon de l'explosion
+     * @param damage Dégâts au centre
+     * @param edge Fraction des dégâts au bord du rayon (0 à 1)
+     * @param mask Couches touchées (CollisionLayer)
+     */
+    void add(float x, float y, float radius, float damage, float edge, int mask) {
+        explosions.add(x, y, radius);
+        explosions.add(damage, edge);
+        masks.add(mask);
+        maxRadius = Math.max(maxRadius, radius);
+    }
+
+    /**
+     * Applique les explosions enregistrées aux ennemis puis les oublie.
+     *
+     * @return Nombre d'ennemis touchés
+     */
+    int apply(List<Enemy> enemies) {
+        int count = masks.size;
+        if (count == 0) return 0;
+
+        int cols = index(enemies);
+        if (cols > 0) {
+            float cellSize = this.cellSize;
+            int rows = this.rows;
+            float[] items = explosions.items;
+            for (int b = 0; b < count; b++) {
+                int at = b * 5;
+                float x = items[at];
+                float y = items[at + 1];
+                float radius = items[at + 2];
+                float damage = items[at + 3];
+                float edge = items[at + 4];
+                int mask = masks.get(b);
+
+                // Les ennemis sont ranges par leur coin bas-gauche : marge de la plus grande zone
+                int minCol = clamp((int) ((x - radius - maxWidth - originX) / cellSize), cols);
+                int maxCol = clamp((int) ((x + radius - originX) / cellSize), cols);
+                int minRow = clamp((int) ((y - radius - maxHeight - originY) / cellSize), rows);
+                int maxRow = clamp((int) ((y + radius - originY) / cellSize), rows);
+                float radiusSq = radius * radius;
+
+                for (int row = minRow; row <= maxRow; row++) {
+                    int start = cellStart[row * cols + minCol];
+                    int end = cellStart[row * cols + maxCol + 1];
+                    for (int k = start; k < end; k++) {
+                        int e = cellItems[k];
+                        if ((enemies.get(e).getCollisionLayer() & mask) == 0) continue;
+
+                        // Point de la zone de l'ennemi le plus proche du centre
+                        float dx = x - Math.max(left[e], Math.min(x, right[e]));
+                        float dy = y - Math.max(bottom[e], Math.min(y, top[e]));
+                        float distSq = dx * dx + dy * dy;
+                        if (distSq > radiusSq) continue;
+
+                        // Contribution nulle (bord du rayon sans degats) : pas touche
+                        float amount = damage * (1f - (1f - edge) * (float) Math.sqrt(distSq) / radius);
+                        if (amount <= 0) continue;
+                        // Degats en attente toujours positifs : 0 signifie pas encore touche
+                        if (pending[e] == 0) touched.add(e);
+                        pending[e] += amount;
+                    }
+                }
+            }
+        }
+
+        // Un seul appel par ennemi, par indice croissant
+        touched.sort();
+        for (int k = 0; k < touched.size; k++) {
+            int e = touched.get(k);
+            Enemy enemy = enemies.get(e);
+            if (enemy.isActive()) {
+                enemy.takeDamage(Math.max(1, Math.round(pending[e])));
+            }
+            pending[e] = 0;
+        }
+        int hit = touched.size;
+        touched.clear();
+        explosions.clear();
+        masks.clear();
+        maxRadius = 0;
+        return hit;
+    }
+
+    // ========== GRILLE DES ENNEMIS ==========
+
+    /**
+     * Range les ennemis actifs par cellule, sur le rectangle qu'ils
+     * occupent. Les cellules ont la taille du plus grand rayon du tick.
+     *
+     * @return Nombre de colonnes (0 si aucun ennemi actif)
+     */
+    private int index(List<Enemy> enemies) {
+        int size = enemies.size();
+        if (left.length < size) {
+            int capacity = Math.max(size, left.length * 2);
+            cellItems = new int[capacity];
+            cellOf = new int[capacity];
+            left = new float[capacity];
+            bottom = new float[capacity];
+            right = new float[capacity];
+            top = new float[capacity];
+            pending = Arrays.copyOf(pending, capacity);
+        }
+
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        maxWidth = 0;
+        maxHeight = 0;
+        int active = 0;
+        for (int e = 0; e < size; e++) {
+            Enemy enemy = enemies.get(e);
+            if (!enemy.isActive()) continue;
+            active++;
+            left[e] = enemy.getHitX();
+            bottom[e] = enemy.getHitY();
+            right[e] = left[e] + enemy.getHitWidth();
+            top[e] = bottom[e] + enemy.getHitHeight();
+            minX = Math.min(minX, left[e]);
+            minY = Math.min(minY, bottom[e]);
+            maxX = Math.max(maxX, left[e]);
+            maxY = Math.max(maxY, bottom[e]);
+            maxWidth = Math.max(maxWidth, enemy.getHitWidth());
+            maxHeight = Math.max(maxHeight, enemy.getHitHeight());
+        }
+        if (active == 0) return 0;
+
+        originX = minX;
+        originY = minY;
+        cellSize = Math.max(1f, maxRadius);
+        int cols = (int) ((maxX - minX) / cellSize) + 1;
+        rows = (int) ((maxY - minY) / cellSize) + 1;
+        while ((long) cols * rows > MAX_CELLS) {
+            cellSize *= 2;
+            cols = (int) ((maxX - minX) / cellSize) + 1;
+            rows = (int) ((maxY - minY) / cellSize) + 1;
+        }
+
+        // Tri par comptage, chaque cellule triee par indice croissant
+        int cells = cols * rows;
+        if (cellStart.length < cells + 1) cellStart = new int[cells + 1];
+        Arrays.fill(cellStart, 0, cells + 1, 0);
+        for (int e = 0; e < size; e++) {
+            if (!enemies.get(e).isActive()) continue;
+            int col = (int) ((left[e] - originX) / cellSize);
+            int row = (int) ((bottom[e] - originY) / cellSize);
+            int cell = row * cols + col;
+            cellOf[e] = cell;
+            cellStart[cell]++;
+        }
+        for (int c = 1; c < cells; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        cellStart[cells] = active;
+        for (int e = size - 1; e >= 0; e--) {
+            if (!enemies.get(e).isActive()) continue;
+            cellItems[--cellStart[cellOf[e]]] = e;
+        }
+        return cols;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(value, size - 1));
+    }
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.game.utils.Log;
 
 
 
@@ -37,10 +38,9 @@ public class TiledMapLoader {
             map = new TmxMapLoader().load(mapPath);
             renderer = new OrthogonalTiledMapRenderer(map);
 
-            System.out.println("✓ Carte chargée : " + mapPath);
+            Log.info("Carte chargée : {}", mapPath);
         } catch (Exception e) {
-            System.err.println(" Erreur chargement carte : " + mapPath);
-            e.printStackTrace();
+            Log.error("Erreur chargement carte : {}", mapPath, e);
         }
     }
 
@@ -71,6 +71,27 @@ public class TiledMapLoader {
         return map;
     }
 
+    /**
+     * Retourne la largeur de la carte en pixels (valeur par défaut si absente).
+     */
+    public float getWidthInPixels(float defaultWidth) {
+        if (map == null) return defaultWidth;
+        // Nombre de tuiles x largeur d'une tuile
+        int width = map.getProperties().get("width", 0, Integer.class);
+        int tileWidth = map.getProperties().get("tilewidth", 0, Integer.class);
+        return width > 0 && tileWidth > 0 ? width * tileWidth : defaultWidth;
+    }
+
+    /**
+     * Retourne la hauteur de la carte en pixels (valeur par défaut si absente).
+     */
+    public float getHeightInPixels(float defaultHeight) {
+        if (map == null) return defaultHeight;
+        int height = map.getProperties().get("height", 0, Integer.class);
+        int tileHeight = map.getProperties().get("tileheight", 0, Integer.class);
+        return height > 0 && tileHeight > 0 ? height * tileHeight : defaultHeight;
+    }
+
     /**
      * Libère les ressources de la carte.
      */
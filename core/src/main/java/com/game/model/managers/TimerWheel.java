@@ -0,0 +1,277 @@
+package com.game.model.managers;
+
+import java.util.Arrays;
+
+/**
+ * Minuteries de la partie, rangées dans une roue hiérarchique.
+ *
+ * Le temps avance par pas fixes ({@code resolution} secondes). Une
+ * minuterie est chaînée dans la case de son échéance : la roue basse
+ * couvre les 64 prochains pas, chaque roue supérieure 64 fois plus. Quand
+ * la roue basse fait un tour, la case suivante de la roue du dessus est
+ * redistribuée dans les roues inférieures. Armer, annuler et déclencher
+ * une minuterie coûtent O(1) ; une entité qui n'attend qu'une échéance ne
+ * coûte rien tant que celle-ci n'est pas atteinte.
+ *
+ * Une minuterie sans écouteur sert de drapeau ({@link #isPending(int)}).
+ * Les minuteries d'un même pas se déclenchent dans un ordre fixe, qui ne
+ * dépend que de la suite des appels (parties rejouables).
+ *
+ * Les identifiants rendus portent une génération : un identifiant
+ * périmé (minuterie échue ou annulée, emplacement réutilisé) est sans
+ * effet.
+ */
+public class TimerWheel {
+
+    /** Identifiant qui ne désigne aucune minuterie */
+    public static final int NONE = -1;
+
+    /**
+     * Action appelée à l'échéance d'une minuterie.
+     */
+    public interface Listener {
+        /**
+         * @param data Valeur donnée à l'armement
+         */
+        void onTimer(int data);
+    }
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    /** Échéance la plus lointaine (en pas), au-delà les délais sont tronqués */
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+    /** Fraction de pas ignorée en arrondissant les délais */
+    private static final double EPSILON = 1e-3;
+
+    // Identifiant : emplacement sur les bits bas, generation au-dessus
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+
+    private final float resolution;
+
+    // Premier et dernier emplacement de chaque case (roue * SLOTS + case)
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private final int[] tails = new int[LEVELS * SLOTS];
+
+    // Emplacements (listes doublement chainees par case)
+    private long[] deadlines;
+    private Listener[] listeners;
+    private int[] data;
+    private int[] next;
+    private int[] prev;
+    private int[] buckets;
+    private int[] generations;
+    private int used;
+    private int freeHead = NONE;
+    private int size;
+
+    // Temps ecoule et dernier pas traite
+    private double elapsed;
+    private long tick;
+
+    /**
+     * @param resolution Durée d'un pas (secondes) : précision des échéances
+     */
+    public TimerWheel(float resolution) {
+        this.resolution = resolution;
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+
+        int capacity = 64;
+        deadlines = new long[capacity];
+        listeners = new Listener[capacity];
+        data = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        buckets = new int[capacity];
+        generations = new int[capacity];
+    }
+
+    /**
+     * Arme une minuterie.
+     *
+     * @param delay Délai avant l'échéance (secondes, arrondi au pas supérieur)
+     * @param listener Action à l'échéance (null : simple drapeau)
+     * @param data Valeur transmise à l'écouteur
+     * @return Identifiant de la minuterie
+     */
+    public int schedule(float delay, Listener listener, int data) {
+        int slot;
+        if (freeHead != NONE) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == deadlines.length) grow();
+            slot = used++;
+        }
+
+        // Echeance au plus tot au prochain pas (tolerance pour les erreurs d'arrondi des float)
+        long deadline = (long) Math.ceil((elapsed + delay) / resolution - EPSILON);
+        deadlines[slot] = Math.min(tick + MAX_DELAY, Math.max(tick + 1, deadline));
+        listeners[slot] = listener;
+        this.data[slot] = data;
+        link(slot);
+        size++;
+        return (generations[slot] << INDEX_BITS) | slot;
+    }
+
+    /**
+     * Annule une minuterie (sans effet si elle est échue ou déjà annulée).
+     *
+     * @return true si la minuterie était en attente
+     */
+    public boolean cancel(int handle) {
+        if (!isPending(handle)) return false;
+        release(handle & INDEX_MASK);
+        return true;
+    }
+
+    /**
+     * Indique si une minuterie est encore en attente.
+     */
+    public boolean isPending(int handle) {
+        if (handle < 0) return false;
+        int slot = handle & INDEX_MASK;
+        return slot < used && buckets[slot] != NONE && generations[slot] == handle >>> INDEX_BITS;
+    }
+
+    /**
+     * Temps restant avant l'échéance (secondes, 0 si elle n'est plus en attente).
+     */
+    public float remaining(int handle) {
+        if (!isPending(handle)) return 0f;
+        return (float) Math.max(0, deadlines[handle & INDEX_MASK] * resolution - elapsed);
+    }
+
+    /**
+     * Avance le temps et déclenche les minuteries échues, pas par pas.
+     * Un écouteur peut armer ou annuler d'autres minuteries.
+     */
+    public void advance(float delta) {
+        elapsed += delta;
+        long target = (long) Math.floor(elapsed / resolution + EPSILON);
+        while (tick < target) {
+            tick++;
+            // Roues superieures redistribuees a chaque tour de la roue du dessous
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+            }
+            if (size > 0) expire((int) (tick & SLOT_MASK));
+        }
+    }
+
+    /**
+     * Annule toutes les minuteries (nouvelle partie).
+     */
+    public void clear() {
+        for (int slot = 0; slot < used; slot++) {
+            if (buckets[slot] != NONE) release(slot);
+        }
+    }
+
+    // ========== INTERNE ==========
+
+    private void expire(int bucket) {
+        // Les nouvelles minuteries tombent au plus tot au pas suivant : la case se vide
+        while (heads[bucket] != NONE) {
+            int slot = heads[bucket];
+            Listener listener = listeners[slot];
+            int value = data[slot];
+            release(slot);
+            if (listener != null) listener.onTimer(value);
+        }
+    }
+
+    private void cascade(int bucket) {
+        int slot = heads[bucket];
+        heads[bucket] = NONE;
+        tails[bucket] = NONE;
+        while (slot != NONE) {
+            int following = next[slot];
+            link(slot);
+            slot = following;
+        }
+    }
+
+    /**
+     * Chaîne un emplacement en fin de la case de son échéance.
+     */
+    private void link(int slot) {
+        long deadline = deadlines[slot];
+        long delay = deadline - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int bucket = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        int tail = tails[bucket];
+        buckets[slot] = bucket;
+        prev[slot] = tail;
+        next[slot] = NONE;
+        if (tail != NONE) {
+            next[tail] = slot;
+        } else {
+            heads[bucket] = slot;
+        }
+        tails[bucket] = slot;
+    }
+
+    private void release(int slot) {
+        int bucket = buckets[slot];
+        int before = prev[slot];
+        int after = next[slot];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            heads[bucket] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        } else {
+            tails[bucket] = before;
+        }
+
+        buckets[slot] = NONE;
+        listeners[slot] = null;
+        generations[slot] = (generations[slot] + 1) & GENERATION_MASK;
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = deadlines.length * 2;
+        if (capacity > INDEX_MASK + 1) {
+            throw new IllegalStateException("Trop de minuteries en attente : " + deadlines.length);
+        }
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        listeners = Arrays.copyOf(listeners, capacity);
+        data = Arrays.copyOf(data, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+    }
+
+    // ========== GETTERS ==========
+
+    /** Nombre de minuteries en attente */
+    public int size() {
+        return size;
+    }
+
+    /** Temps écoulé depuis la création (secondes) */
+    public double getElapsed() {
+        return elapsed;
+    }
+
+    public float getResolution() {
+        return resolution;
+    }
+}
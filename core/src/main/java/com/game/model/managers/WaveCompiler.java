@@ -0,0 +1,134 @@
+package com.game.model.managers;
+
+import com.game.utils.GameRandom;
+
+import java.util.Arrays;
+
+/**
+ * Transforme la description d'une vague en chronologie d'apparitions.
+ *
+ * Tous les tirages (ordre des types, répartition des groupes) sont faits
+ * une fois au démarrage de la vague : pendant la vague, WaveManager ne
+ * fait qu'avancer un curseur dans des tableaux triés par date.
+ *
+ * Deux sortes de groupes :
+ * - sans "delay" ni "interval" : file commune, un événement tous les
+ *   spawnInterval de la vague, groupe tiré au hasard parmi ceux qui ont
+ *   encore des ennemis (comportement historique)
+ * - avec "delay" et/ou "interval" : calendrier propre au groupe
+ * Dans les deux cas, un événement fait apparaître "burst" ennemis
+ * d'un coup (1 par défaut), chacun sur son propre point d'apparition.
+ */
+final class WaveCompiler {
+
+    private WaveCompiler() {
+    }
+
+    /**
+     * Chronologie compilée : apparitions triées par date (immuable).
+     */
+    static final class Timeline {
+        /** Types référencés par les apparitions */
+        final String[] typeNames;
+        /** Date de chaque apparition depuis le début de la vague (secondes) */
+        final float[] times;
+        /** Indice du type de chaque apparition dans typeNames */
+        final int[] types;
+
+        Timeline(String[] typeNames, float[] times, int[] types) {
+            this.typeNames = typeNames;
+            this.times = times;
+            this.types = types;
+        }
+
+        int size() {
+            return times.length;
+        }
+    }
+
+    /**
+     * Compile une vague.
+     *
+     * @param config Composition de la vague
+     * @param random Tirages (graine de la partie : chronologie reproductible)
+     */
+    static Timeline compile(WaveManager.WaveConfig config, GameRandom random) {
+        int groups = config.types.length;
+        int total = 0;
+        for (int g = 0; g < groups; g++) {
+            total += Math.max(0, config.counts[g]);
+        }
+
+        float[] times = new float[total];
+        int[] types = new int[total];
+        int size = 0;
+
+        // File commune : groupe tire parmi ceux qui ont encore des ennemis
+        int[] remaining = new int[groups];
+        int[] available = new int[groups];
+        for (int g = 0; g < groups; g++) {
+            if (!config.isScheduled(g)) remaining[g] = Math.max(0, config.counts[g]);
+        }
+        float time = 0;
+        while (true) {
+            int availableCount = 0;
+            for (int g = 0; g < groups; g++) {
+                if (remaining[g] > 0) available[availableCount++] = g;
+            }
+            if (availableCount == 0) break;
+
+            int g = available[random.nextInt(availableCount)];
+            int burst = Math.min(remaining[g], config.bursts[g]);
+            for (int b = 0; b < burst; b++) {
+                times[size] = time;
+                types[size] = g;
+                size++;
+            }
+            remaining[g] -= burst;
+            time += config.spawnInterval;
+        }
+
+        // Groupes a calendrier propre
+        for (int g = 0; g < groups; g++) {
+            if (!config.isScheduled(g)) continue;
+
+            float interval = config.intervals[g] > 0 ? config.intervals[g] : config.spawnInterval;
+            float start = Math.max(0, config.delays[g]);
+            int left = Math.max(0, config.counts[g]);
+            for (int event = 0; left > 0; event++) {
+                int burst = Math.min(left, config.bursts[g]);
+                for (int b = 0; b < burst; b++) {
+                    times[size] = start + event * interval;
+                    types[size] = g;
+                    size++;
+                }
+                left -= burst;
+            }
+        }
+
+        sortByTime(times, types, size);
+        return new Timeline(config.types, times, types);
+    }
+
+    /**
+     * Tri stable par date : clé = bits de la date (positive, donc ordonnés
+     * comme des entiers) puis rang d'origine.
+     */
+    private static void sortByTime(float[] times, int[] types, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) Float.floatToIntBits(times[i]) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        float[] sortedTimes = new float[size];
+        int[] sortedTypes = new int[size];
+        for (int i = 0; i < size; i++) {
+            int from = (int) keys[i];
+            sortedTimes[i] = times[from];
+            sortedTypes[i] = types[from];
+        }
+        System.arraycopy(sortedTimes, 0, times, 0, size);
+        System.arraycopy(sortedTypes, 0, types, 0, size);
+    }
+}
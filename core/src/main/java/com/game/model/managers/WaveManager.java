@@ -1,227 +1,324 @@
 package com.game.model.managers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.game.model.entities.Enemy;
 import com.game.model.entities.Player;
 import com.game.model.factories.EntityFactory;
+import com.game.utils.DataFiles;
+import com.game.utils.GameRandom;
+import com.game.utils.Log;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Gestionnaire des vagues d'ennemis.
  *
  *
  * - Les ennemis NE SPAWNENT JAMAIS dans les obstacles
- * - Vérifie 100 positions avant de placer l'ennemi
- * - Si aucune position sûre trouvée, ne spawn pas l'ennemi
+ * - Les positions libres sont précalculées (SpawnIndex) au chargement
+ * - Chaque spawn tire directement une position libre, sans essais
+ * - Chaque vague est compilée à son démarrage en chronologie d'apparitions
+ *   (WaveCompiler) : un tick ne fait qu'avancer un curseur, et plusieurs
+ *   ennemis peuvent apparaître dans le même tick (rafales, groupes)
  */
 public class WaveManager {
 
     private int currentWave;
-    private float spawnTimer;
-    private float spawnInterval;
     private int enemiesSpawned;
     private int totalEnemies;
-    private List<EnemyToSpawn> enemiesToSpawn;
-    private Random random;
-    private CollisionManager collisionManager;
-
-    private static final float MAP_WIDTH = 720f;
-    private static final float MAP_HEIGHT = 720f;
-
-    private static class EnemyToSpawn {
-        String type;
-        int count;
-        int spawned;
-
-        EnemyToSpawn(String type, int count) {
-            this.type = type;
-            this.count = count;
-            this.spawned = 0;
-        }
+    private GameRandom random;
+    private SpawnIndex spawnIndex;
+
+    // Chronologie de la vague en cours et position dans celle-ci
+    private WaveCompiler.Timeline timeline;
+    private int cursor;
+    private float elapsed;
+
+    // Position de spawn reutilisee (evite une allocation par ennemi)
+    private final Vector2 spawnPosition = new Vector2();
 
-        boolean hasMore() {
-            return spawned < count;
+    // Dimensions de la carte (720x720 par defaut)
+    private float mapWidth = 720f;
+    private float mapHeight = 720f;
+
+    /**
+     * Composition d'une vague telle que décrite dans son JSON (immuable).
+     * Par groupe : type, nombre, taille des rafales, et éventuellement un
+     * calendrier propre (delay/interval, -1 si absent).
+     */
+    static final class WaveConfig {
+        final long lastModified;
+        final float spawnInterval;
+        final String[] types;
+        final int[] counts;
+        final int[] bursts;
+        final float[] delays;
+        final float[] intervals;
+
+        WaveConfig(long lastModified, float spawnInterval, String[] types, int[] counts,
+                   int[] bursts, float[] delays, float[] intervals) {
+            this.lastModified = lastModified;
+            this.spawnInterval = spawnInterval;
+            this.types = types;
+            this.counts = counts;
+            this.bursts = bursts;
+            this.delays = delays;
+            this.intervals = intervals;
         }
 
-        void spawn() {
-            spawned++;
+        /** Le groupe a son propre calendrier (hors file commune) */
+        boolean isScheduled(int group) {
+            return delays[group] >= 0 || intervals[group] > 0;
         }
     }
 
+    /** Vague par défaut si le JSON est absent : 3 ennemis "Normal" */
+    private static final WaveConfig DEFAULT_WAVE = new WaveConfig(0, 3.0f,
+        new String[] {"Normal"}, new int[] {3}, new int[] {1}, new float[] {-1}, new float[] {-1});
+
+    /**
+     * Vagues déjà lues, par numéro. Jamais modifiée après publication :
+     * un rechargement publie une nouvelle table (lecture sans verrou).
+     */
+    private static volatile Map<Integer, WaveConfig> waveConfigs = new HashMap<>();
+
     public WaveManager() {
         this.currentWave = 0;
-        this.spawnTimer = 0;
-        this.spawnInterval = 3.0f;
-        this.enemiesToSpawn = new ArrayList<>();
-        this.random = new Random();
+        this.random = new GameRandom();
+    }
+
+    /**
+     * Fixe la graine des tirages (simulations reproductibles).
+     */
+    public void setSeed(long seed) {
+        this.random = new GameRandom(seed);
     }
 
     /**
-     *  Définit le CollisionManager pour vérifier les spawns
+     * Indique si une vague est décrite dans les données.
      */
-    public void setCollisionManager(CollisionManager collisionManager) {
-        this.collisionManager = collisionManager;
-        System.out.println("✓ CollisionManager lié au WaveManager");
+    public static boolean waveExists(int waveNumber) {
+        return DataFiles.internal(wavePath(waveNumber)).exists();
+    }
+
+    private static String wavePath(int waveNumber) {
+        return "data/waves/wave_0" + waveNumber + ".json";
+    }
+
+    /**
+     *  Définit l'index des positions libres utilisé pour les spawns
+     */
+    public void setSpawnIndex(SpawnIndex spawnIndex) {
+        this.spawnIndex = spawnIndex;
+        Log.debug("Index de spawn lié au WaveManager");
+    }
+
+    /**
+     * Définit la taille de la carte pour le placement des spawns
+     */
+    public void setMapSize(float mapWidth, float mapHeight) {
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
     }
 
     public void startWave(int waveNumber) {
-        // Reset des compteurs et chargement de la vague
+        // Chronologie de la vague, puis curseur au debut
+        long start = System.nanoTime();
         currentWave = waveNumber;
-        loadWaveFromJSON(waveNumber);
-        spawnTimer = 0;
+        timeline = WaveCompiler.compile(loadWaveConfig(waveNumber), random);
+        cursor = 0;
+        elapsed = 0;
         enemiesSpawned = 0;
+        totalEnemies = timeline.size();
 
-        System.out.println(" VAGUE " + waveNumber + " - " + totalEnemies + " ennemis");
+        if (Log.INFO) Log.info("VAGUE {} - {} ennemis", waveNumber, totalEnemies);
+        if (Log.DEBUG) Log.debug("Chronologie compilée en {} µs", (System.nanoTime() - start) / 1000);
     }
 
-    private void loadWaveFromJSON(int waveNumber) {
-        // Recharge la liste des ennemis a spawn
-        enemiesToSpawn.clear();
-        totalEnemies = 0;
+    private WaveConfig loadWaveConfig(int waveNumber) {
+        // Table a jour (rechargement a chaud), sinon relecture si le fichier a change
+        FileHandle file = DataFiles.internal(wavePath(waveNumber));
+        WaveConfig config = waveConfigs.get(waveNumber);
+        if (config == null || config.lastModified != file.lastModified()) {
+            // Fichier illisible : la derniere version valide reste en place
+            WaveConfig parsed = parseWave(file);
+            if (parsed != null) {
+                config = parsed;
+                publish(waveNumber, config);
+            }
+        }
+        return config != null ? config : DEFAULT_WAVE;
+    }
 
+    /**
+     * Lit le JSON d'une vague.
+     *
+     * @return null si le fichier est absent ou illisible
+     */
+    private static WaveConfig parseWave(FileHandle file) {
         try {
-            // Fichier de configuration de la vague
-            String path = "data/waves/wave_0" + waveNumber + ".json";
-            JsonReader reader = new JsonReader();
-            JsonValue json = reader.parse(Gdx.files.internal(path));
+            long lastModified = file.lastModified();
+            JsonValue json = new JsonReader().parse(file);
 
             // Intervalle entre spawns (valeur par defaut 3s)
-            spawnInterval = json.getFloat("spawnInterval", 3.0f);
+            float spawnInterval = json.getFloat("spawnInterval", 3.0f);
 
             JsonValue enemies = json.get("enemies");
+            String[] types = new String[enemies.size];
+            int[] counts = new int[enemies.size];
+            int[] bursts = new int[enemies.size];
+            float[] delays = new float[enemies.size];
+            float[] intervals = new float[enemies.size];
+            int i = 0;
             for (JsonValue enemy : enemies) {
-                String type = enemy.getString("type");
-                int count = enemy.getInt("count");
-
-                enemiesToSpawn.add(new EnemyToSpawn(type, count));
-                totalEnemies += count;
+                types[i] = enemy.getString("type");
+                counts[i] = enemy.getInt("count");
+                // Options : rafales et calendrier propre au groupe
+                bursts[i] = Math.max(1, enemy.getInt("burst", 1));
+                delays[i] = enemy.getFloat("delay", -1f);
+                intervals[i] = enemy.getFloat("interval", -1f);
+                i++;
             }
+            return new WaveConfig(lastModified, spawnInterval, types, counts, bursts, delays, intervals);
 
         } catch (Exception e) {
-            System.err.println(" Erreur chargement vague " + waveNumber);
-            e.printStackTrace();
-
-            enemiesToSpawn.add(new EnemyToSpawn("Normal", 3));
-            totalEnemies = 3;
-        }
-    }
-
-    public Enemy update(float delta, Player player) {
-        // Rien a faire si la vague est terminee
-        if (isWaveComplete()) {
+            Log.error("Erreur chargement vague {}", file.path(), e);
             return null;
         }
+    }
 
-        // Decompte du timer de spawn
-        spawnTimer -= delta;
-
-        if (spawnTimer <= 0) {
-            spawnTimer = spawnInterval;
+    private static synchronized void publish(int waveNumber, WaveConfig config) {
+        Map<Integer, WaveConfig> configs = new HashMap<>(waveConfigs);
+        configs.put(waveNumber, config);
+        waveConfigs = configs;
+    }
 
-            // Choisit le prochain type d'ennemi
-            EnemyToSpawn toSpawn = getNextEnemyToSpawn();
-            if (toSpawn != null) {
-                toSpawn.spawn();
-                enemiesSpawned++;
+    /**
+     * Relit le JSON d'une vague (rechargement à chaud). Prise en compte au
+     * prochain démarrage de cette vague ; un fichier illisible est ignoré.
+     *
+     * @return false si le nom ne correspond pas à une vague ou si le fichier est illisible
+     */
+    public static boolean reloadWave(FileHandle file) {
+        String name = file.nameWithoutExtension();
+        if (!name.startsWith("wave_")) return false;
 
-                // CRÉER ENNEMI DANS POSITION SÛRE (HORS OBSTACLES)
-                return createEnemyInSafeSpot(toSpawn.type, player);
-            }
+        int waveNumber;
+        try {
+            waveNumber = Integer.parseInt(name.substring("wave_".length()));
+        } catch (NumberFormatException e) {
+            return false;
         }
 
-        return null;
-    }
+        WaveConfig config = parseWave(file);
+        if (config == null) return false;
 
-    private EnemyToSpawn getNextEnemyToSpawn() {
-        List<EnemyToSpawn> available = new ArrayList<>();
+        publish(waveNumber, config);
+        return true;
+    }
 
-        for (EnemyToSpawn spawn : enemiesToSpawn) {
-            if (spawn.hasMore()) {
-                available.add(spawn);
-            }
+    /**
+     * Fait apparaître les ennemis dont la date est atteinte.
+     *
+     * @param state État du jeu (les ennemis y sont ajoutés, ciblant le joueur principal)
+     * @return Nombre d'ennemis apparus pendant ce tick
+     */
+    public int update(float delta, GameState state) {
+        // Rien a faire si la vague est terminee
+        if (isWaveComplete()) {
+            return 0;
         }
 
-        if (available.isEmpty()) {
-            return null;
-        }
+        // Apparitions echues (plusieurs possibles dans le meme tick)
+        int spawned = 0;
+        while (cursor < timeline.size() && timeline.times[cursor] <= elapsed) {
+            String type = timeline.typeNames[timeline.types[cursor]];
+            cursor++;
+            enemiesSpawned++;
 
-        return available.get(random.nextInt(available.size()));
+            // CRÉER ENNEMI DANS POSITION SÛRE (HORS OBSTACLES)
+            state.addEnemy(createEnemyInSafeSpot(type, state.getPlayer()));
+            spawned++;
+        }
+        elapsed += delta;
+        return spawned;
     }
 
     /**
      * Crée un ennemi dans une position SÛRE
      *
-     * Stratégie :
-     * 1. Essaye de spawn aux BORDS de la carte (100 tentatives)
-     * 2. Vérifie CHAQUE position avec le CollisionManager
-     * 3. Si aucune position trouvée, NE SPAWN PAS (plutôt que spawner dans un mur)
+     * La position est tirée dans l'index des cellules libres le long des
+     * bords (construit au chargement de la carte) : un seul tirage, toujours
+     * hors obstacle, aucun ennemi n'est abandonné.
      */
     private Enemy createEnemyInSafeSpot(String type, Player player) {
-        float x = 0, y = 0;
-        boolean foundSafeSpot = false;
-        int attempts = 0;
-        int maxAttempts = 100;  // Augmenté à 100 tentatives
-
-        // Fallback si le collision manager n'est pas disponible
-        if (collisionManager == null) {
-            System.err.println(" CollisionManager null ! Spawn aléatoire (risqué)");
-            // Fallback : spawn au centre
-            x = MAP_WIDTH / 2;
-            y = MAP_HEIGHT / 2;
-            return EntityFactory.createEnemy(type, x, y, player);
+        // Fallback si l'index n'est pas disponible : spawn au centre
+        if (spawnIndex == null) {
+            return EntityFactory.createEnemy(type, mapWidth / 2, mapHeight / 2, player);
         }
 
-        // Boucle d'essais pour trouver une position libre
-        while (!foundSafeSpot && attempts < maxAttempts) {
-            // Spawn aux BORDS de la carte (évite le centre souvent rempli d'obstacles)
-            int edge = random.nextInt(4);
-
-            switch (edge) {
-                case 0: // Haut
-                    x = 50 + random.nextFloat() * (MAP_WIDTH - 100);
-                    y = MAP_HEIGHT - 50;
-                    break;
-                case 1: // Bas
-                    x = 50 + random.nextFloat() * (MAP_WIDTH - 100);
-                    y = 50;
-                    break;
-                case 2: // Gauche
-                    x = 50;
-                    y = 50 + random.nextFloat() * (MAP_HEIGHT - 100);
-                    break;
-                case 3: // Droite
-                    x = MAP_WIDTH - 50;
-                    y = 50 + random.nextFloat() * (MAP_HEIGHT - 100);
-                    break;
-            }
-
-            //   La position est-elle SÛRE ?
-            Rectangle testRect = new Rectangle(x, y, 32, 32);
-
-            if (!collisionManager.isCollidingWithObstacles(testRect)) {
-                //  POSITION SÛRE TROUVÉE !
-                foundSafeSpot = true;
-                System.out.println("Spawn sûr trouvé en (" + (int)x + ", " + (int)y + ") après " + attempts + " tentatives");
-            }
+        spawnIndex.pickEdge(random, spawnPosition);
+        return EntityFactory.createEnemy(type, spawnPosition.x, spawnPosition.y, player);
+    }
 
-            attempts++;
+    /**
+     * Écrit la progression de la vague dans une sauvegarde : compteurs et
+     * reste de la chronologie (le JSON a pu changer depuis le démarrage).
+     */
+    public void writeState(ByteBuffer out) {
+        out.putInt(currentWave);
+        out.putFloat(elapsed);
+        out.putInt(enemiesSpawned);
+        out.putInt(totalEnemies);
+        out.putLong(random.getState());
+
+        if (timeline == null) {
+            out.putShort((short) 0);
+            out.putInt(0);
+            return;
         }
-
-        // Si AUCUNE position sûre trouvée après 100 tentatives
-        if (!foundSafeSpot) {
-            System.err.println("ERREUR : Aucune position sûre trouvée après " + maxAttempts + " tentatives !");
-            System.err.println("Ennemi NON spawné (évite spawn dans obstacle)");
-            return null;  //  NE PAS SPAWNER plutôt que spawner dans un mur
+        out.putShort((short) timeline.typeNames.length);
+        for (String type : timeline.typeNames) {
+            SaveManager.writeString(out, type);
+        }
+        out.putInt(timeline.size() - cursor);
+        for (int i = cursor; i < timeline.size(); i++) {
+            out.putFloat(timeline.times[i]);
+            out.putShort((short) timeline.types[i]);
         }
+    }
 
-        // Créer l'ennemi à la position sûre
-        return EntityFactory.createEnemy(type, x, y, player);
+    /**
+     * Restaure la progression écrite par {@link #writeState(ByteBuffer)}.
+     */
+    public void readState(ByteBuffer in) {
+        currentWave = in.getInt();
+        elapsed = in.getFloat();
+        enemiesSpawned = in.getInt();
+        totalEnemies = in.getInt();
+        random.setState(in.getLong());
+
+        String[] typeNames = new String[in.getShort()];
+        for (int i = 0; i < typeNames.length; i++) {
+            typeNames[i] = SaveManager.readString(in);
+        }
+        int remaining = in.getInt();
+        float[] times = new float[remaining];
+        int[] types = new int[remaining];
+        for (int i = 0; i < remaining; i++) {
+            times[i] = in.getFloat();
+            types[i] = in.getShort();
+            if (types[i] < 0 || types[i] >= typeNames.length) {
+                throw new IllegalArgumentException("Type d'apparition invalide : " + types[i]);
+            }
+        }
+        timeline = new WaveCompiler.Timeline(typeNames, times, types);
+        cursor = 0;
     }
 
     public boolean isWaveComplete() {
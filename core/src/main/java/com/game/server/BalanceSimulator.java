@@ -0,0 +1,242 @@
+package com.game.server;
+
+import com.game.model.entities.Player;
+import com.game.model.factories.EntityFactory;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.managers.WaveManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Simulation d'équilibrage en masse, sans fenêtre.
+ *
+ * Lance de nombreuses parties indépendantes (un ServerWorld et un
+ * BotPlayer chacune) réparties sur tous les cœurs, puis agrège par vague :
+ * durée, ennemis tués, pièces gagnées et coût d'un tick. Permet de
+ * vérifier en quelques minutes une modification de data/enemies ou
+ * data/waves.
+ *
+ * Chaque partie a sa graine (graine de base + numéro) : une même
+ * commande donne le même rapport.
+ *
+ * Usage : java com.game.server.BalanceSimulator [parties] [minutes max] [graine] [threads]
+ */
+public final class BalanceSimulator {
+
+    private static final float DELTA = 1f / GameServer.TICK_RATE;
+
+    /** Fin d'une partie */
+    private enum Outcome {
+        DIED("mort"),
+        CLEARED("derniere vague finie"),
+        STALLED("bloquee (niveau trop bas)"),
+        TIMEOUT("temps ecoule");
+
+        private final String label;
+
+        Outcome(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Résultat d'une partie (tableaux indexés par vague - 1).
+     */
+    private static final class RunResult {
+        Outcome outcome;
+        float survivalSeconds;
+        int lastWave;
+        final int[] waveTicks;
+        final int[] waveKills;
+        final int[] waveCoins;
+        final long[] waveNanos;
+        final long[] waveMaxNanos;
+
+        RunResult(int waves) {
+            waveTicks = new int[waves];
+            waveKills = new int[waves];
+            waveCoins = new int[waves];
+            waveNanos = new long[waves];
+            waveMaxNanos = new long[waves];
+        }
+    }
+
+    private BalanceSimulator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        float maxMinutes = args.length > 1 ? Float.parseFloat(args[1]) : 10f;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        int waves = 0;
+        while (WaveManager.waveExists(waves + 1)) {
+            waves++;
+        }
+        if (waves == 0) {
+            System.err.println("Aucune vague trouvee dans data/waves");
+            return;
+        }
+
+        // Types charges une fois (table partagee en lecture par les threads)
+        EntityFactory.loadEnemyTypes();
+        ProjectileFactory.loadProjectileTypes();
+        int maxTicks = (int) (maxMinutes * 60f * GameServer.TICK_RATE);
+        final int waveCount = waves;
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<RunResult>> futures = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            final long runSeed = seed * 1_000_003L + i;
+            futures.add(pool.submit(() -> simulate(runSeed, waveCount, maxTicks)));
+        }
+
+        List<RunResult> results = new ArrayList<>(runs);
+        for (Future<RunResult> future : futures) {
+            results.add(future.get());
+        }
+        pool.shutdown();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        printReport(results, waves, threads, elapsed, maxMinutes);
+    }
+
+    /**
+     * Joue une partie complète avec le robot.
+     */
+    private static RunResult simulate(long seed, int waves, int maxTicks) {
+        ServerWorld world = new ServerWorld(GameServer.DEFAULT_MAP, seed);
+        world.setLastWave(waves);
+        ServerWorld.PlayerSlot slot = world.addPlayer();
+        Player player = slot.getPlayer();
+        BotPlayer bot = new BotPlayer(seed, world.getMapWidth(), world.getMapHeight());
+        InputCommand command = new InputCommand();
+        RunResult result = new RunResult(waves);
+
+        int tick = 0;
+        int kills = 0;
+        int coins = player.getCoins();
+        Outcome outcome = Outcome.TIMEOUT;
+
+        while (tick < maxTicks) {
+            bot.think(world.getGameState(), player, command);
+            command.sequence = tick;
+            world.receiveInput(slot, command);
+
+            int wave = world.getGameState().getCurrentWave();
+            long tickStart = System.nanoTime();
+            world.tick(DELTA);
+            long tickNanos = System.nanoTime() - tickStart;
+            tick++;
+
+            // Statistiques attribuees a la vague en cours au debut du tick
+            int index = Math.min(wave, waves) - 1;
+            result.waveTicks[index]++;
+            result.waveNanos[index] += tickNanos;
+            result.waveMaxNanos[index] = Math.max(result.waveMaxNanos[index], tickNanos);
+            result.waveKills[index] += world.getKills() - kills;
+            result.waveCoins[index] += player.getCoins() - coins;
+            kills = world.getKills();
+            coins = player.getCoins();
+
+            if (!player.isActive() || player.getHealth() <= 0) {
+                outcome = Outcome.DIED;
+                break;
+            }
+            if (world.isWaveCleared() && world.getGameState().getCollectibles().isEmpty()) {
+                int current = world.getGameState().getCurrentWave();
+                if (current >= waves) {
+                    outcome = Outcome.CLEARED;
+                    break;
+                }
+                // Plus rien a ramasser ni a tuer : la vague suivante n'arrivera jamais
+                if (player.getLevel() <= current) {
+                    outcome = Outcome.STALLED;
+                    break;
+                }
+            }
+        }
+
+        result.outcome = outcome;
+        result.survivalSeconds = tick * DELTA;
+        result.lastWave = world.getGameState().getCurrentWave();
+        return result;
+    }
+
+    // ========== RAPPORT ==========
+
+    private static void printReport(List<RunResult> results, int waves, int threads, double elapsed, float maxMinutes) {
+        int runs = results.size();
+        System.out.printf("Simulation : %d parties, %d threads, %.1f s (%.0f parties/s), limite %.0f min%n",
+            runs, threads, elapsed, runs / elapsed, maxMinutes);
+
+        // Issues
+        int[] outcomes = new int[Outcome.values().length];
+        for (RunResult result : results) {
+            outcomes[result.outcome.ordinal()]++;
+        }
+        StringBuilder line = new StringBuilder("Issue      :");
+        for (Outcome outcome : Outcome.values()) {
+            line.append(String.format(" %s %.1f%% |", outcome.label, 100.0 * outcomes[outcome.ordinal()] / runs));
+        }
+        line.setLength(line.length() - 2);
+        System.out.println(line);
+
+        // Survie
+        float[] survival = new float[runs];
+        double survivalSum = 0;
+        for (int i = 0; i < runs; i++) {
+            survival[i] = results.get(i).survivalSeconds;
+            survivalSum += survival[i];
+        }
+        Arrays.sort(survival);
+        System.out.printf("Survie (s) : moyenne %.1f | p10 %.1f | mediane %.1f | p90 %.1f%n",
+            survivalSum / runs, percentile(survival, 0.10f), percentile(survival, 0.50f), percentile(survival, 0.90f));
+        System.out.println();
+
+        // Par vague (moyennes sur les parties qui ont atteint la vague)
+        System.out.println("vague | atteinte | duree moy (s) | tues moy | pieces moy | tick moy (us) | tick max (us) | morts");
+        for (int w = 0; w < waves; w++) {
+            int reached = 0;
+            int died = 0;
+            long ticks = 0;
+            long kills = 0;
+            long coins = 0;
+            long nanos = 0;
+            long maxNanos = 0;
+            for (RunResult result : results) {
+                if (result.waveTicks[w] == 0) continue;
+
+                reached++;
+                ticks += result.waveTicks[w];
+                kills += result.waveKills[w];
+                coins += result.waveCoins[w];
+                nanos += result.waveNanos[w];
+                maxNanos = Math.max(maxNanos, result.waveMaxNanos[w]);
+                if (result.outcome == Outcome.DIED && result.lastWave == w + 1) died++;
+            }
+            if (reached == 0) {
+                System.out.printf("%5d | %7.1f%% |             - |        - |          - |             - |             - | -%n",
+                    w + 1, 0f);
+                continue;
+            }
+            System.out.printf("%5d | %7.1f%% | %13.1f | %8.1f | %10.1f | %13.1f | %13.1f | %d%n",
+                w + 1, 100.0 * reached / runs, (double) ticks / reached * DELTA,
+                (double) kills / reached, (double) coins / reached,
+                nanos / 1000.0 / ticks, maxNanos / 1000.0, died);
+        }
+    }
+
+    private static float percentile(float[] sorted, float p) {
+        int index = Math.min(sorted.length - 1, (int) (p * sorted.length));
+        return sorted[index];
+    }
+}
@@ -0,0 +1,189 @@
+package com.game.server;
+
+import com.game.model.entities.Collectible;
+import com.game.model.entities.Enemy;
+import com.game.model.entities.Player;
+import com.game.model.managers.GameState;
+import com.game.model.managers.SpatialGrid;
+import com.game.utils.GameRandom;
+
+import java.util.List;
+
+/**
+ * Joueur automatique pour les simulations d'équilibrage.
+ *
+ * Comportement volontairement simple et déterministe (à graine égale) :
+ * tire sur l'ennemi le plus proche, s'éloigne des ennemis trop proches,
+ * ramasse les objets quand la voie est libre, sinon va chercher les
+ * ennemis lointains, et reste loin des bords.
+ * Il n'achète rien : ses pièces mesurent donc exactement ce qu'il gagne.
+ */
+final class BotPlayer {
+
+    /** Distance à partir de laquelle un ennemi fait fuir le robot */
+    private static final float DANGER_RADIUS = 140f;
+
+    /** Au-delà, le robot se rapproche de sa cible (tirs bloqués par les obstacles) */
+    private static final float HUNT_RADIUS = 200f;
+
+    /** Marge avec les bords de la carte */
+    private static final float EDGE_MARGIN = 64f;
+
+    /** Ticks sans bouger (obstacle) avant de partir au hasard */
+    private static final int STUCK_TICKS = 15;
+    private static final int WANDER_TICKS = 20;
+
+    /** Ticks de tir sans toucher (obstacle entre les deux) avant de se déplacer */
+    private static final int MISS_TICKS = 60;
+
+    private final GameRandom random;
+    private final float mapWidth;
+    private final float mapHeight;
+
+    private float lastX;
+    private float lastY;
+    private int stuckTicks;
+    private int wanderTicks;
+    private int wanderX;
+    private int wanderY;
+    private Enemy lastTarget;
+    private int lastTargetHealth;
+    private int missTicks;
+
+    BotPlayer(long seed, float mapWidth, float mapHeight) {
+        this.random = new GameRandom(seed);
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+    }
+
+    /**
+     * Choisit la commande du prochain tick.
+     */
+    void think(GameState state, Player player, InputCommand out) {
+        float x = SpatialGrid.centerX(player);
+        float y = SpatialGrid.centerY(player);
+
+        // Visee : ennemi le plus proche ; fuite : somme des repulsions proches
+        List<Enemy> enemies = state.getEnemies();
+        Enemy target = null;
+        float targetDistSq = Float.MAX_VALUE;
+        float fleeX = 0;
+        float fleeY = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isActive()) continue;
+
+            float dx = SpatialGrid.centerX(enemy) - x;
+            float dy = SpatialGrid.centerY(enemy) - y;
+            float distSq = dx * dx + dy * dy;
+            if (distSq < targetDistSq) {
+                targetDistSq = distSq;
+                target = enemy;
+            }
+            if (distSq < DANGER_RADIUS * DANGER_RADIUS && distSq > 0) {
+                fleeX -= dx / distSq;
+                fleeY -= dy / distSq;
+            }
+        }
+
+        float moveX = fleeX;
+        float moveY = fleeY;
+        if (moveX == 0 && moveY == 0) {
+            // Pas de danger : vers l'objet le plus proche
+            Collectible loot = nearestCollectible(state, x, y);
+            if (loot != null) {
+                moveX = SpatialGrid.centerX(loot) - x;
+                moveY = SpatialGrid.centerY(loot) - y;
+            } else if (target != null && targetDistSq > HUNT_RADIUS * HUNT_RADIUS) {
+                // Rien a ramasser : vers la cible
+                moveX = SpatialGrid.centerX(target) - x;
+                moveY = SpatialGrid.centerY(target) - y;
+            }
+        }
+
+        // Bords de la carte
+        float length = (float) Math.sqrt(moveX * moveX + moveY * moveY);
+        if (length > 0) {
+            moveX /= length;
+            moveY /= length;
+        }
+        if (x < EDGE_MARGIN) moveX += 1;
+        if (x > mapWidth - EDGE_MARGIN) moveX -= 1;
+        if (y < EDGE_MARGIN) moveY += 1;
+        if (y > mapHeight - EDGE_MARGIN) moveY -= 1;
+
+        out.moveX = direction(moveX);
+        out.moveY = direction(moveY);
+        unstick(x, y, target, out);
+
+        out.shoot = target != null;
+        if (target != null) {
+            out.aimX = SpatialGrid.centerX(target);
+            out.aimY = SpatialGrid.centerY(target);
+        }
+        out.actions = 0;
+    }
+
+    private static Collectible nearestCollectible(GameState state, float x, float y) {
+        List<Collectible> collectibles = state.getCollectibles();
+        Collectible nearest = null;
+        float nearestDistSq = Float.MAX_VALUE;
+        for (int i = 0; i < collectibles.size(); i++) {
+            Collectible collectible = collectibles.get(i);
+            if (!collectible.isActive()) continue;
+
+            float dx = SpatialGrid.centerX(collectible) - x;
+            float dy = SpatialGrid.centerY(collectible) - y;
+            float distSq = dx * dx + dy * dy;
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = collectible;
+            }
+        }
+        return nearest;
+    }
+
+    private static int direction(float value) {
+        if (value > 0.3f) return 1;
+        if (value < -0.3f) return -1;
+        return 0;
+    }
+
+    /**
+     * Bloqué contre un obstacle, ou cible hors d'atteinte des tirs :
+     * direction aléatoire pendant quelques ticks.
+     */
+    private void unstick(float x, float y, Enemy target, InputCommand out) {
+        boolean moving = out.moveX != 0 || out.moveY != 0;
+        if (moving && x == lastX && y == lastY) {
+            stuckTicks++;
+        } else {
+            stuckTicks = 0;
+        }
+        lastX = x;
+        lastY = y;
+
+        if (target != null && target == lastTarget && target.getHealth() == lastTargetHealth) {
+            missTicks++;
+        } else {
+            missTicks = 0;
+        }
+        lastTarget = target;
+        lastTargetHealth = target != null ? target.getHealth() : 0;
+
+        if (stuckTicks >= STUCK_TICKS || missTicks >= MISS_TICKS) {
+            stuckTicks = 0;
+            missTicks = 0;
+            wanderTicks = WANDER_TICKS;
+            do {
+                wanderX = random.nextInt(3) - 1;
+                wanderY = random.nextInt(3) - 1;
+            } while (wanderX == 0 && wanderY == 0);
+        }
+        if (wanderTicks > 0) {
+            wanderTicks--;
+            out.moveX = wanderX;
+            out.moveY = wanderY;
+        }
+    }
+}
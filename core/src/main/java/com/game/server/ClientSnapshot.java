@@ -0,0 +1,212 @@
+package com.game.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dernier état du monde reçu par un client (ce qu'il affiche).
+ *
+ * Les joueurs arrivent complets à chaque message ; les autres entités
+ * arrivent sous forme de différences, reconstruites à partir des états
+ * précédemment reçus (historique des derniers ticks).
+ *
+ * Stocké en tableaux réutilisés d'une réception à l'autre : aucune
+ * allocation tant que le nombre d'entités ne dépasse pas le maximum
+ * déjà vu.
+ */
+public class ClientSnapshot {
+
+    public static final int KIND_ENEMY = ReplicatedState.KIND_ENEMY;
+    public static final int KIND_PROJECTILE = ReplicatedState.KIND_PROJECTILE;
+    public static final int KIND_COLLECTIBLE = ReplicatedState.KIND_COLLECTIBLE;
+
+    private int tick = -1;
+    private int wave;
+
+    // Joueurs
+    private int playerCount;
+    private int[] playerIds = new int[4];
+    private int[] playerSequences = new int[4];
+    private float[] playerX = new float[4];
+    private float[] playerY = new float[4];
+    private int[] playerHealth = new int[4];
+    private int[] playerMaxHealth = new int[4];
+    private int[] playerLevel = new int[4];
+    private int[] playerCoins = new int[4];
+    private boolean[] playerActive = new boolean[4];
+
+    // Entites repliquees
+    private final StateHistory history = new StateHistory();
+    private ReplicatedState entities = new ReplicatedState();
+    private PositionQuantizer quantizer = new PositionQuantizer(720f, 720f);
+    private final List<String> enemyTypes = new ArrayList<>();
+
+    /**
+     * Paramètres reçus à la connexion (MSG_WELCOME).
+     */
+    void configure(float mapWidth, float mapHeight, List<String> types) {
+        quantizer = new PositionQuantizer(mapWidth, mapHeight);
+        enemyTypes.clear();
+        enemyTypes.addAll(types);
+    }
+
+    /**
+     * Lit un message MSG_SNAPSHOT.
+     *
+     * @return false si la base de la différence n'est plus connue
+     *         (message ignoré, le serveur renverra un état complet)
+     */
+    boolean read(ByteBuffer in) {
+        int newTick = in.getInt();
+        int baselineTick = in.getInt();
+        ReplicatedState base = history.get(baselineTick);
+        if (baselineTick >= 0 && base == null) {
+            return false;
+        }
+        if (newTick <= tick) {
+            // Etat plus ancien que celui affiche : inutile
+            return false;
+        }
+
+        tick = newTick;
+        wave = in.getShort();
+
+        playerCount = in.getShort();
+        if (playerIds.length < playerCount) growPlayers(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerIds[i] = in.getShort();
+            playerSequences[i] = in.getInt();
+            playerX[i] = in.getFloat();
+            playerY[i] = in.getFloat();
+            playerHealth[i] = in.getShort();
+            playerMaxHealth[i] = in.getShort();
+            playerLevel[i] = in.getShort();
+            playerCoins[i] = in.getInt();
+            playerActive[i] = in.get() != 0;
+        }
+
+        // La base et le nouvel etat occupent des cases differentes de l'historique
+        entities = history.acquire(newTick);
+        entities.readDelta(base, in, newTick);
+        return true;
+    }
+
+    private void growPlayers(int count) {
+        int size = Math.max(16, Integer.highestOneBit(count - 1) << 1);
+        playerIds = new int[size];
+        playerSequences = new int[size];
+        playerX = new float[size];
+        playerY = new float[size];
+        playerHealth = new int[size];
+        playerMaxHealth = new int[size];
+        playerLevel = new int[size];
+        playerCoins = new int[size];
+        playerActive = new boolean[size];
+    }
+
+    /**
+     * Retourne l'indice d'un joueur dans les tableaux, ou -1.
+     */
+    public int indexOfPlayer(int playerId) {
+        for (int i = 0; i < playerCount; i++) {
+            if (playerIds[i] == playerId) return i;
+        }
+        return -1;
+    }
+
+    // ========== GETTERS ==========
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getWave() {
+        return wave;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayerId(int index) {
+        return playerIds[index];
+    }
+
+    /** Dernière commande du joueur appliquée par le serveur */
+    public int getPlayerSequence(int index) {
+        return playerSequences[index];
+    }
+
+    public float getPlayerX(int index) {
+        return playerX[index];
+    }
+
+    public float getPlayerY(int index) {
+        return playerY[index];
+    }
+
+    public int getPlayerHealth(int index) {
+        return playerHealth[index];
+    }
+
+    public int getPlayerMaxHealth(int index) {
+        return playerMaxHealth[index];
+    }
+
+    public int getPlayerLevel(int index) {
+        return playerLevel[index];
+    }
+
+    public int getPlayerCoins(int index) {
+        return playerCoins[index];
+    }
+
+    public boolean isPlayerActive(int index) {
+        return playerActive[index];
+    }
+
+    /** Nombre d'entités (ennemis, projectiles, objets), triées par identifiant */
+    public int getEntityCount() {
+        return entities.count;
+    }
+
+    public int getEntityId(int index) {
+        return entities.ids[index];
+    }
+
+    /** Type d'entité (KIND_*) */
+    public int getEntityKind(int index) {
+        return entities.kinds[index];
+    }
+
+    public float getEntityX(int index) {
+        return quantizer.dequantize(entities.qx[index]);
+    }
+
+    public float getEntityY(int index) {
+        return quantizer.dequantize(entities.qy[index]);
+    }
+
+    public int getEntityHealth(int index) {
+        return entities.health[index];
+    }
+
+    /**
+     * Type d'un ennemi (nom du fichier JSON), ou null s'il est inconnu.
+     */
+    public String getEnemyType(int index) {
+        int type = entities.extra[index] & 0xFF;
+        return type < enemyTypes.size() ? enemyTypes.get(type) : null;
+    }
+
+    /** Type d'un projectile (indice dans ProjectileFactory.getTypes()) */
+    public int getProjectileType(int index) {
+        return entities.extra[index] & 0xFF;
+    }
+
+    /** Type d'un objet à ramasser (ordinal de Collectible.Type) */
+    public int getCollectibleType(int index) {
+        return entities.extra[index];
+    }
+}
@@ -0,0 +1,177 @@
+package com.game.server;
+
+import com.game.utils.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client léger du serveur dédié.
+ *
+ * N'exécute aucune règle du jeu : il envoie ses InputCommand et reçoit
+ * l'état du monde calculé par le serveur. Socket non bloquante, à
+ * interroger une fois par frame avec {@link #poll()}.
+ */
+public class GameClient {
+
+    private final SocketChannel channel;
+    private ByteBuffer in;
+    private final ByteBuffer out;
+
+    private boolean connected;
+    private int playerId;
+    private int tickRate;
+    private float mapWidth;
+    private float mapHeight;
+
+    private final ClientSnapshot snapshot;
+    private int nextSequence;
+
+    private long bytesSent;
+    private long bytesReceived;
+
+    public GameClient(String host, int port) throws IOException {
+        this.channel = SocketChannel.open();
+        this.channel.configureBlocking(false);
+        this.channel.socket().setTcpNoDelay(true);
+        this.channel.connect(new InetSocketAddress(host, port));
+
+        this.in = Protocol.allocate(64 * 1024);
+        this.out = Protocol.allocate(16 * 1024);
+        this.snapshot = new ClientSnapshot();
+        this.playerId = -1;
+    }
+
+    /**
+     * Envoie les données en attente et lit les messages reçus.
+     *
+     * @return true si un nouvel état du monde a été reçu
+     */
+    public boolean poll() throws IOException {
+        if (!connected) {
+            if (!channel.finishConnect()) return false;
+            connected = true;
+        }
+
+        flush();
+
+        int read = channel.read(in);
+        if (read < 0) {
+            throw new IOException("Connexion fermée par le serveur");
+        }
+        bytesReceived += read;
+
+        boolean updated = false;
+        in.flip();
+        while (in.remaining() >= Protocol.HEADER_SIZE) {
+            int length = in.getInt(in.position());
+            if (length <= 0 || length > Protocol.MAX_MESSAGE_SIZE) {
+                throw new IOException("Message invalide (" + length + " octets)");
+            }
+            if (in.remaining() < 4 + length) break;
+
+            int next = in.position() + 4 + length;
+            in.position(in.position() + 4);
+            byte type = in.get();
+            switch (type) {
+                case Protocol.MSG_WELCOME:
+                    playerId = in.getShort();
+                    tickRate = in.getShort();
+                    mapWidth = in.getFloat();
+                    mapHeight = in.getFloat();
+                    int typeCount = in.get() & 0xFF;
+                    List<String> types = new ArrayList<>(typeCount);
+                    for (int i = 0; i < typeCount; i++) {
+                        types.add(Protocol.getString(in));
+                    }
+                    snapshot.configure(mapWidth, mapHeight, types);
+                    Log.info("Connecté en tant que joueur {}", playerId);
+                    break;
+                case Protocol.MSG_SNAPSHOT:
+                    // Base inconnue : ignore, le serveur renverra tout faute d'acquittement
+                    updated |= snapshot.read(in);
+                    break;
+                default:
+                    Log.warn("Message inconnu : {}", type);
+                    break;
+            }
+            in.position(next);
+        }
+        in.compact();
+
+        // Etat du monde plus grand que le buffer : on l'agrandit
+        if (!in.hasRemaining()) {
+            in = Protocol.grow(in, in.capacity() * 2);
+        }
+        return updated;
+    }
+
+    /**
+     * Envoie une commande (numérotée automatiquement).
+     */
+    public void sendInput(InputCommand command) throws IOException {
+        command.sequence = ++nextSequence;
+        command.ackTick = snapshot.getTick();
+        if (out.remaining() < Protocol.HEADER_SIZE + InputCommand.SIZE) {
+            // Serveur sature : la commande suivante remplacera celle-ci
+            return;
+        }
+
+        int start = Protocol.begin(out, Protocol.MSG_INPUT);
+        command.write(out);
+        Protocol.end(out, start);
+        if (connected) flush();
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        bytesSent += channel.write(out);
+        out.compact();
+    }
+
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Log.debug("Fermeture socket : {}", e.getMessage());
+        }
+    }
+
+    // ========== GETTERS ==========
+
+    public boolean isConnected() {
+        return connected && playerId >= 0;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    public float getMapHeight() {
+        return mapHeight;
+    }
+
+    public ClientSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+}
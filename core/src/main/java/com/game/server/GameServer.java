@@ -0,0 +1,372 @@
+package com.game.server;
+
+import com.game.model.entities.Player;
+import com.game.model.managers.DataReloader;
+import com.game.model.managers.SpatialGrid;
+import com.game.utils.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Serveur dédié faisant autorité (sans fenêtre).
+ *
+ * Un seul thread : à chaque tick, il lit les commandes des clients
+ * (sockets NIO non bloquantes), avance le ServerWorld puis envoie l'état
+ * du monde à tous les clients. Chaque client ne reçoit que la différence
+ * avec le dernier état qu'il a acquitté (voir ReplicatedState).
+ * Un client lent ne bloque jamais le tick : si son buffer d'envoi est
+ * plein, l'état de ce tick lui est épargné (le suivant le remplace, sa
+ * base acquittée restant valable).
+ *
+ * Lancement : java com.game.server.GameServer [port]
+ */
+public class GameServer {
+
+    public static final int DEFAULT_PORT = 7777;
+    public static final int TICK_RATE = 30;
+    public static final String DEFAULT_MAP = "maps/map1/map.tmx";
+
+    private static final int CONNECTION_BUFFER_SIZE = 256 * 1024;
+
+    private final ServerWorld world;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final List<Connection> connections;
+
+    // Zones d'interet des clients
+    private final InterestManager interest;
+
+    // Message d'etat en cours d'encodage
+    private ByteBuffer snapshot;
+    private final InputCommand command;
+
+    private volatile boolean running;
+
+    // Statistiques (lues par le thread de mesure)
+    private volatile long ticks;
+    private volatile long simulationNanos;
+    private volatile long networkNanos;
+    private volatile long bytesSent;
+    private volatile long bytesReceived;
+    private volatile long snapshotsDropped;
+
+    /**
+     * Client connecté.
+     */
+    private static final class Connection {
+        final SocketChannel channel;
+        final ServerWorld.PlayerSlot slot;
+        ByteBuffer in;
+        final ByteBuffer out;
+
+        // Entites proches du joueur et etats envoyes des derniers ticks
+        // (bases des differences, propres a chaque client)
+        final InterestManager.View view;
+        final StateHistory history;
+
+        // Dernier tick recu par le client (-1 : aucun, tout est renvoye)
+        int ackedTick = -1;
+
+        Connection(SocketChannel channel, ServerWorld.PlayerSlot slot, InterestManager.View view) {
+            this.channel = channel;
+            this.slot = slot;
+            this.view = view;
+            this.history = new StateHistory();
+            this.in = Protocol.allocate(4096);
+            this.out = Protocol.allocate(CONNECTION_BUFFER_SIZE);
+        }
+    }
+
+    public GameServer(ServerWorld world, int port) throws IOException {
+        this.world = world;
+        this.connections = new ArrayList<>();
+        this.snapshot = Protocol.allocate(64 * 1024);
+        this.command = new InputCommand();
+        this.interest = new InterestManager(world.getGrid());
+
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.bind(new InetSocketAddress(port));
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        Log.info("Serveur en écoute sur le port {}", getPort());
+    }
+
+    /**
+     * Boucle principale à fréquence fixe (jusqu'à {@link #stop()}).
+     */
+    public void run() {
+        running = true;
+        final long tickNanos = 1_000_000_000L / TICK_RATE;
+        long nextTick = System.nanoTime();
+
+        while (running) {
+            step(1f / TICK_RATE);
+
+            // Attente du prochain tick (rattrapage limite si en retard)
+            nextTick += tickNanos;
+            long wait = nextTick - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else if (wait < -tickNanos * 5) {
+                nextTick = System.nanoTime();
+            }
+        }
+
+        close();
+    }
+
+    /**
+     * Un tick complet : réseau entrant, simulation, envoi de l'état.
+     */
+    public void step(float delta) {
+        long start = System.nanoTime();
+        pollNetwork();
+
+        long simStart = System.nanoTime();
+        world.tick(delta);
+        long simEnd = System.nanoTime();
+
+        broadcastSnapshot();
+        long end = System.nanoTime();
+
+        simulationNanos += simEnd - simStart;
+        networkNanos += (simStart - start) + (end - simEnd);
+        ticks++;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    // ========== RÉSEAU ==========
+
+    private void pollNetwork() {
+        try {
+            if (selector.selectNow() == 0) return;
+        } catch (IOException e) {
+            Log.error("Erreur selector", e);
+            return;
+        }
+
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+
+            if (!key.isValid()) continue;
+            if (key.isAcceptable()) {
+                accept();
+            } else if (key.isReadable()) {
+                read((Connection) key.attachment());
+            }
+        }
+    }
+
+    private void accept() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+
+                Connection connection = new Connection(channel, world.addPlayer(), interest.createView());
+                channel.register(selector, SelectionKey.OP_READ, connection);
+                connections.add(connection);
+
+                // Accueil : identifiant du joueur et parametres de la partie
+                int start = Protocol.begin(connection.out, Protocol.MSG_WELCOME);
+                connection.out.putShort((short) connection.slot.getId());
+                connection.out.putShort((short) TICK_RATE);
+                connection.out.putFloat(world.getMapWidth());
+                connection.out.putFloat(world.getMapHeight());
+                connection.out.put((byte) world.getEnemyTypes().size());
+                for (String type : world.getEnemyTypes()) {
+                    Protocol.putString(connection.out, type);
+                }
+                Protocol.end(connection.out, start);
+                flush(connection);
+            }
+        } catch (IOException e) {
+            Log.error("Erreur connexion client", e);
+        }
+    }
+
+    private void read(Connection connection) {
+        try {
+            int read = connection.channel.read(connection.in);
+            if (read < 0) {
+                disconnect(connection);
+                return;
+            }
+            bytesReceived += read;
+        } catch (IOException e) {
+            disconnect(connection);
+            return;
+        }
+
+        // Decoupage des messages complets
+        ByteBuffer in = connection.in;
+        in.flip();
+        while (in.remaining() >= Protocol.HEADER_SIZE) {
+            int length = in.getInt(in.position());
+            if (length <= 0 || length > Protocol.MAX_MESSAGE_SIZE) {
+                Log.warn("Message invalide du joueur {}", connection.slot.getId());
+                disconnect(connection);
+                return;
+            }
+            if (in.remaining() < 4 + length) break;
+
+            int next = in.position() + 4 + length;
+            in.position(in.position() + 4);
+            byte type = in.get();
+            if (type == Protocol.MSG_INPUT && length - 1 >= InputCommand.SIZE) {
+                command.read(in);
+                connection.ackedTick = Math.max(connection.ackedTick, command.ackTick);
+                world.receiveInput(connection.slot, command);
+            }
+            in.position(next);
+        }
+        in.compact();
+
+        // Message plus grand que le buffer : on l'agrandit
+        if (!in.hasRemaining()) {
+            connection.in = Protocol.grow(in, in.capacity() * 2);
+        }
+    }
+
+    private void broadcastSnapshot() {
+        for (int i = connections.size() - 1; i >= 0; i--) {
+            Connection connection = connections.get(i);
+
+            // Entites proches du joueur (mise a jour incrementale de la vue)
+            Player player = connection.slot.getPlayer();
+            connection.view.update(SpatialGrid.centerX(player), SpatialGrid.centerY(player));
+            ReplicatedState current = connection.history.acquire(world.getTick());
+            connection.view.capture(world, current);
+
+            // Base : dernier etat acquitte par ce client, s'il est encore en historique
+            ReplicatedState base = connection.history.get(connection.ackedTick);
+
+            // Encodage propre a chaque client (bases differentes)
+            while (true) {
+                snapshot.clear();
+                try {
+                    int start = Protocol.begin(snapshot, Protocol.MSG_SNAPSHOT);
+                    snapshot.putInt(current.tick);
+                    snapshot.putInt(base != null ? base.tick : -1);
+                    snapshot.putShort((short) world.getGameState().getCurrentWave());
+                    world.writePlayers(snapshot);
+                    ReplicatedState.writeDelta(base, current, snapshot);
+                    Protocol.end(snapshot, start);
+                    break;
+                } catch (BufferOverflowException e) {
+                    snapshot = Protocol.allocate(snapshot.capacity() * 2);
+                }
+            }
+            snapshot.flip();
+
+            if (connection.out.remaining() >= snapshot.remaining()) {
+                connection.out.put(snapshot);
+            } else {
+                snapshotsDropped++;
+            }
+            flush(connection);
+        }
+    }
+
+    private void flush(Connection connection) {
+        ByteBuffer out = connection.out;
+        out.flip();
+        try {
+            bytesSent += connection.channel.write(out);
+        } catch (IOException e) {
+            out.compact();
+            disconnect(connection);
+            return;
+        }
+        out.compact();
+    }
+
+    private void disconnect(Connection connection) {
+        if (!connections.remove(connection)) return;
+
+        world.removePlayer(connection.slot);
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            Log.debug("Fermeture socket : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ferme les connexions et la socket d'écoute (appelé en fin de {@link #run()}).
+     */
+    public void close() {
+        for (int i = connections.size() - 1; i >= 0; i--) {
+            disconnect(connections.get(i));
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            Log.error("Erreur fermeture serveur", e);
+        }
+        Log.info("Serveur arrêté après {} ticks", ticks);
+    }
+
+    // ========== STATISTIQUES ==========
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public ServerWorld getWorld() {
+        return world;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getSimulationNanos() {
+        return simulationNanos;
+    }
+
+    public long getNetworkNanos() {
+        return networkNanos;
+    }
+
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public long getSnapshotsDropped() {
+        return snapshotsDropped;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(new ServerWorld(DEFAULT_MAP), port);
+        DataReloader reloader = DataReloader.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.run();
+        if (reloader != null) reloader.stop();
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Commande envoyée par un client au serveur à chaque frame.
+ *
+ * Le client n'envoie que ses intentions (déplacement, visée, tir, achats) ;
+ * le serveur applique les règles du jeu et reste seul juge du résultat.
+ */
+public class InputCommand {
+
+    /** Taille d'une commande encodée en octets */
+    public static final int SIZE = 19;
+
+    // Actions ponctuelles (touches U, I, H)
+    public static final int ACTION_UPGRADE_DAMAGE = 1;
+    public static final int ACTION_UPGRADE_SPEED = 1 << 1;
+    public static final int ACTION_BUY_HEALTH = 1 << 2;
+
+    /** Numéro de la commande (croissant côté client) */
+    public int sequence;
+
+    /** Direction de déplacement (-1, 0 ou 1 sur chaque axe) */
+    public int moveX;
+    public int moveY;
+
+    /** Bouton de tir enfoncé */
+    public boolean shoot;
+
+    /** Point visé dans le monde */
+    public float aimX;
+    public float aimY;
+
+    /** Actions ponctuelles (masque ACTION_*) */
+    public int actions;
+
+    /** Dernier état du monde reçu par le client (base des prochaines différences) */
+    public int ackTick = -1;
+
+    public void write(ByteBuffer out) {
+        out.putInt(sequence);
+        out.put((byte) moveX);
+        out.put((byte) moveY);
+        out.put((byte) (shoot ? 1 : 0));
+        out.putFloat(aimX);
+        out.putFloat(aimY);
+        out.put((byte) actions);
+        out.putInt(ackTick);
+    }
+
+    public void read(ByteBuffer in) {
+        sequence = in.getInt();
+        moveX = Integer.signum(in.get());
+        moveY = Integer.signum(in.get());
+        shoot = in.get() != 0;
+        aimX = in.getFloat();
+        aimY = in.getFloat();
+        actions = in.get() & 0xFF;
+        ackTick = in.getInt();
+    }
+
+    public void set(InputCommand other) {
+        sequence = other.sequence;
+        moveX = other.moveX;
+        moveY = other.moveY;
+        shoot = other.shoot;
+        aimX = other.aimX;
+        aimY = other.aimY;
+        actions = other.actions;
+        ackTick = other.ackTick;
+    }
+}
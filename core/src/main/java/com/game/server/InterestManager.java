@@ -0,0 +1,225 @@
+package com.game.server;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.game.model.entities.Entity;
+import com.game.model.managers.ProjectileSystem;
+import com.game.model.managers.SpatialGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Zone d'intérêt des clients : chacun ne reçoit que les entités proches
+ * de son joueur.
+ *
+ * Hystérésis : une entité entre dans la vue à moins de ENTER_RADIUS et
+ * n'en sort qu'au-delà de LEAVE_RADIUS, pour éviter qu'une entité à la
+ * limite apparaisse et disparaisse à chaque tick.
+ *
+ * La liste d'envoi de chaque client est mise à jour d'un tick à l'autre
+ * (sorties puis entrées) au lieu d'être refiltrée depuis toutes les
+ * entités : seules les cellules de la grille autour du joueur sont lues.
+ *
+ * Les projectiles (vie courte, trajectoire droite) ne sont pas suivis
+ * d'un tick à l'autre : ceux à moins de ENTER_RADIUS sont relus dans la
+ * grille du ProjectileSystem à chaque envoi, sans hystérésis.
+ */
+final class InterestManager {
+
+    /** Rayon d'entrée dans la vue (demi-diagonale de l'écran 720x720) */
+    static final float ENTER_RADIUS = 520f;
+
+    /** Rayon de sortie de la vue */
+    static final float LEAVE_RADIUS = 600f;
+
+    private static final Comparator<Entity> BY_ID = Comparator.comparingInt(Entity::getId);
+
+    private final SpatialGrid grid;
+
+    // Tampons partages par les vues (mises a jour l'une apres l'autre)
+    private final List<Entity> candidates = new ArrayList<>();
+    private final List<Entity> entering = new ArrayList<>();
+    private final IntArray projectileHits = new IntArray();
+
+    InterestManager(SpatialGrid grid) {
+        this.grid = grid;
+    }
+
+    View createView() {
+        return new View();
+    }
+
+    /**
+     * Entités visibles par un client, triées par identifiant.
+     */
+    final class View {
+
+        private Entity[] entities = new Entity[64];
+        private int[] ids = new int[64];
+        private int count;
+
+        // Tableaux de fusion (echanges avec les tableaux courants)
+        private Entity[] mergedEntities = new Entity[64];
+        private int[] mergedIds = new int[64];
+
+        private int entered;
+        private int left;
+
+        // Centre de la vue au dernier update
+        private float centerX;
+        private float centerY;
+
+        /**
+         * Met à jour la vue autour d'un point (centre du joueur).
+         */
+        void update(float x, float y) {
+            centerX = x;
+            centerY = y;
+            removeLeaving(x, y);
+            collectEntering(x, y);
+            mergeEntering();
+        }
+
+        /**
+         * Retire les entités sorties du rayon, mortes ou réutilisées
+         * sous un autre identifiant (ordre conservé).
+         */
+        private void removeLeaving(float x, float y) {
+            float leaveSq = LEAVE_RADIUS * LEAVE_RADIUS;
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                Entity entity = entities[i];
+                float dx = SpatialGrid.centerX(entity) - x;
+                float dy = SpatialGrid.centerY(entity) - y;
+                boolean stays = entity.isActive()
+                    && entity.getId() == ids[i]
+                    && entity.getGridHandle() >= 0
+                    && dx * dx + dy * dy <= leaveSq;
+                if (stays) {
+                    entities[kept] = entity;
+                    ids[kept] = ids[i];
+                    kept++;
+                }
+            }
+            left += count - kept;
+            Arrays.fill(entities, kept, count, null);
+            count = kept;
+        }
+
+        private void collectEntering(float x, float y) {
+            candidates.clear();
+            entering.clear();
+            grid.query(x, y, ENTER_RADIUS, candidates);
+            for (int i = 0; i < candidates.size(); i++) {
+                Entity entity = candidates.get(i);
+                if (entity.isActive() && Arrays.binarySearch(ids, 0, count, entity.getId()) < 0) {
+                    entering.add(entity);
+                }
+            }
+            candidates.clear();
+        }
+
+        /**
+         * Fusionne les entrées (triées) avec la vue (déjà triée).
+         */
+        private void mergeEntering() {
+            int added = entering.size();
+            if (added == 0) return;
+
+            entering.sort(BY_ID);
+            int total = count + added;
+            if (mergedIds.length < total) {
+                int size = Integer.highestOneBit(total - 1) << 1;
+                mergedEntities = new Entity[size];
+                mergedIds = new int[size];
+            }
+
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < total; k++) {
+                if (j >= added || (i < count && ids[i] < entering.get(j).getId())) {
+                    mergedEntities[k] = entities[i];
+                    mergedIds[k] = ids[i];
+                    i++;
+                } else {
+                    Entity entity = entering.get(j++);
+                    mergedEntities[k] = entity;
+                    mergedIds[k] = entity.getId();
+                }
+            }
+            entering.clear();
+
+            Entity[] swapEntities = entities;
+            int[] swapIds = ids;
+            entities = mergedEntities;
+            ids = mergedIds;
+            mergedEntities = swapEntities;
+            mergedIds = swapIds;
+            Arrays.fill(mergedEntities, 0, count, null);
+
+            count = total;
+            entered += added;
+        }
+
+        /**
+         * Copie les entités visibles dans un état répliqué, projectiles
+         * proches compris (fusion par identifiant).
+         */
+        void capture(ServerWorld world, ReplicatedState state) {
+            ProjectileSystem projectiles = world.getGameState().getProjectiles();
+            collectProjectiles(projectiles);
+
+            int p = 0;
+            for (int i = 0; i < count; i++) {
+                while (p < projectileHits.size && projectiles.getId(projectileHits.get(p)) < ids[i]) {
+                    world.captureProjectile(state, projectiles, projectileHits.get(p++));
+                }
+                world.captureEntity(state, entities[i]);
+            }
+            while (p < projectileHits.size) {
+                world.captureProjectile(state, projectiles, projectileHits.get(p++));
+            }
+            projectileHits.clear();
+        }
+
+        /**
+         * Projectiles dont le centre est à moins de ENTER_RADIUS, par
+         * identifiant croissant.
+         */
+        private void collectProjectiles(ProjectileSystem projectiles) {
+            projectileHits.clear();
+            projectiles.queryOverlaps(centerX - ENTER_RADIUS, centerY - ENTER_RADIUS,
+                ENTER_RADIUS * 2f, ENTER_RADIUS * 2f, projectileHits);
+
+            float enterSq = ENTER_RADIUS * ENTER_RADIUS;
+            int kept = 0;
+            for (int h = 0; h < projectileHits.size; h++) {
+                int index = projectileHits.get(h);
+                float dx = projectiles.getCenterX(index) - centerX;
+                float dy = projectiles.getCenterY(index) - centerY;
+                if (dx * dx + dy * dy <= enterSq) {
+                    projectileHits.set(kept++, index);
+                }
+            }
+            projectileHits.size = kept;
+        }
+
+        // ========== GETTERS ==========
+
+        int size() {
+            return count;
+        }
+
+        /** Nombre total d'entrées dans la vue depuis la connexion */
+        int getEntered() {
+            return entered;
+        }
+
+        /** Nombre total de sorties de la vue depuis la connexion */
+        int getLeft() {
+            return left;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.game.server;
+
+import com.game.utils.GameRandom;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mesure du serveur dédié en local (127.0.0.1).
+ *
+ * Pour chaque nombre de joueurs, lance un serveur et autant de clients
+ * robots (déplacement et tir aléatoires), puis affiche le coût d'un tick
+ * et la bande passante par joueur.
+ *
+ * Usage : java com.game.server.LoopbackBench [secondes] [joueurs...]
+ */
+public final class LoopbackBench {
+
+    private static final int CLIENT_RATE = 60;
+
+    private LoopbackBench() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int[] playerCounts = {1, 2, 4, 8, 16};
+        if (args.length > 1) {
+            playerCounts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                playerCounts[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.println("joueurs | ticks | tick moyen (us) | simulation (us) | reseau (us) | "
+            + "us/joueur | descendant (Ko/s/joueur) | montant (o/s/joueur) | etats perdus");
+        for (int players : playerCounts) {
+            run(players, seconds);
+        }
+    }
+
+    private static void run(int playerCount, int seconds) throws IOException {
+        GameServer server = new GameServer(new ServerWorld(GameServer.DEFAULT_MAP), 0);
+        Thread serverThread = new Thread(server::run, "game-server");
+        serverThread.start();
+
+        List<GameClient> clients = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            clients.add(new GameClient("127.0.0.1", server.getPort()));
+        }
+
+        // Robots : changent de direction de temps en temps et tirent en continu
+        GameRandom random = new GameRandom(playerCount);
+        InputCommand command = new InputCommand();
+        long frameNanos = 1_000_000_000L / CLIENT_RATE;
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        long startTicks = -1;
+        long startSim = 0;
+        long startNet = 0;
+        long startSent = 0;
+        long startReceived = 0;
+        long startMeasure = 0;
+        int frame = 0;
+
+        while (System.nanoTime() < end) {
+            long frameStart = System.nanoTime();
+            boolean allConnected = true;
+            for (int i = 0; i < clients.size(); i++) {
+                GameClient client = clients.get(i);
+                client.poll();
+                if (!client.isConnected()) {
+                    allConnected = false;
+                    continue;
+                }
+
+                if (frame % 30 == i % 30) {
+                    command.moveX = random.nextInt(3) - 1;
+                    command.moveY = random.nextInt(3) - 1;
+                }
+                command.shoot = true;
+                command.aimX = random.nextFloat() * client.getMapWidth();
+                command.aimY = random.nextFloat() * client.getMapHeight();
+                command.actions = 0;
+                client.sendInput(command);
+            }
+
+            // Mesure a partir du moment ou tous les clients sont connectes
+            if (allConnected && startTicks < 0) {
+                startTicks = server.getTicks();
+                startSim = server.getSimulationNanos();
+                startNet = server.getNetworkNanos();
+                startSent = server.getBytesSent();
+                startReceived = server.getBytesReceived();
+                startMeasure = System.nanoTime();
+            }
+
+            frame++;
+            long wait = frameNanos - (System.nanoTime() - frameStart);
+            if (wait > 0) LockSupport.parkNanos(wait);
+        }
+
+        long ticks = server.getTicks() - startTicks;
+        double elapsed = (System.nanoTime() - startMeasure) / 1e9;
+        double simUs = (server.getSimulationNanos() - startSim) / 1000.0 / ticks;
+        double netUs = (server.getNetworkNanos() - startNet) / 1000.0 / ticks;
+        double downKb = (server.getBytesSent() - startSent) / 1024.0 / elapsed / playerCount;
+        double upBytes = (server.getBytesReceived() - startReceived) / elapsed / playerCount;
+
+        System.out.printf("%7d | %5d | %15.1f | %15.1f | %11.1f | %9.1f | %24.1f | %20.0f | %d%n",
+            playerCount, ticks, simUs + netUs, simUs, netUs, (simUs + netUs) / playerCount,
+            downKb, upBytes, server.getSnapshotsDropped());
+
+        for (GameClient client : clients) {
+            client.close();
+        }
+        server.stop();
+        try {
+            serverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
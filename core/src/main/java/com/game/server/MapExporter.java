@@ -0,0 +1,37 @@
+package com.game.server;
+
+import com.game.model.managers.ChunkedMapLoader;
+import com.game.model.managers.CollisionManager;
+import com.game.utils.DataFiles;
+
+/**
+ * Convertit une carte Tiled au format par chunks (sans fenêtre).
+ *
+ * Lit le .tmx du dossier de la carte (tuiles et obstacles) et écrit à
+ * côté world.json et chunks/ : le jeu utilise alors la carte par chunks.
+ *
+ * Usage : java com.game.server.MapExporter [dossier] [taille des chunks] [fichier .tmx]
+ */
+public final class MapExporter {
+
+    private static final String DEFAULT_MAP_DIR = "maps/map1";
+    private static final int DEFAULT_CHUNK_SIZE = 16;
+    private static final String DEFAULT_TMX = "map.tmx";
+
+    private MapExporter() {
+    }
+
+    public static void main(String[] args) {
+        String mapDir = args.length > 0 ? args[0] : DEFAULT_MAP_DIR;
+        int chunkSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CHUNK_SIZE;
+        String tmxName = args.length > 2 ? args[2] : DEFAULT_TMX;
+
+        // Memes obstacles que le serveur dedie
+        CollisionManager collisionManager = new CollisionManager();
+        collisionManager.loadObstaclesFromTmx(DataFiles.internal(mapDir + "/" + tmxName));
+
+        if (!ChunkedMapLoader.exportFromTmx(mapDir, tmxName, collisionManager.getObstacles(), chunkSize)) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.game.server;
+
+/**
+ * Conversion des positions en virgule fixe sur 16 bits.
+ *
+ * Le nombre de bits après la virgule dépend de la taille de la carte :
+ * 3 bits (1/8 de pixel) jusqu'à 8192 pixels, moins au-delà. Le serveur
+ * et le client calculent le même format à partir des dimensions de la
+ * carte envoyées à la connexion.
+ */
+final class PositionQuantizer {
+
+    private static final int MAX_VALUE = 0xFFFF;
+
+    private final int fractionBits;
+    private final float scale;
+    private final float inverseScale;
+
+    PositionQuantizer(float mapWidth, float mapHeight) {
+        int size = (int) Math.ceil(Math.max(mapWidth, mapHeight)) + 1;
+        int integerBits = 32 - Integer.numberOfLeadingZeros(size);
+        this.fractionBits = Math.max(0, Math.min(3, 16 - integerBits));
+        this.scale = 1 << fractionBits;
+        this.inverseScale = 1f / scale;
+    }
+
+    int quantize(float value) {
+        int q = Math.round(value * scale);
+        return q < 0 ? 0 : (q > MAX_VALUE ? MAX_VALUE : q);
+    }
+
+    float dequantize(int q) {
+        return q * inverseScale;
+    }
+
+    int getFractionBits() {
+        return fractionBits;
+    }
+}
@@ -0,0 +1,116 @@
+package com.game.server;
+
+import com.game.model.entities.Enemy;
+import com.game.model.factories.EntityFactory;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.factories.ProjectileType;
+import com.game.model.managers.CollisionManager;
+import com.game.model.managers.GameState;
+import com.game.model.managers.ProjectileSystem;
+import com.game.utils.DataFiles;
+import com.game.utils.GameRandom;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mesure du coût des projectiles à grande échelle (sans fenêtre).
+ *
+ * Des tireurs répartis sur la carte entretiennent N projectiles en vol
+ * (salves en éventail dans des directions aléatoires) au milieu
+ * d'ennemis immobiles et increvables. Chaque tick mesure le déplacement
+ * de tous les projectiles puis les tests contre les ennemis et les
+ * obstacles de la carte.
+ *
+ * Usage : java com.game.server.ProjectileBench [ticks] [ennemis] [projectiles...]
+ */
+public final class ProjectileBench {
+
+    private static final float DELTA = 1f / 60f;
+    private static final int WARMUP_TICKS = 120;
+
+    /** Projectiles par salve des tireurs */
+    private static final int SALVO = 12;
+
+    private ProjectileBench() {
+    }
+
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+        int enemyCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int[] targets = {5_000, 10_000, 20_000};
+        if (args.length > 2) {
+            targets = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                targets[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        EntityFactory.loadEnemyTypes();
+        ProjectileFactory.loadProjectileTypes();
+
+        System.out.println("projectiles | ennemis | en vol moy | tick moy (us) | p99 (us) | max (us) | ns/projectile");
+        for (int target : targets) {
+            run(target, enemyCount, ticks);
+        }
+    }
+
+    private static void run(int target, int enemyCount, int ticks) {
+        GameRandom random = new GameRandom(42);
+        ServerWorld world = new ServerWorld(GameServer.DEFAULT_MAP, 42);
+        float width = world.getMapWidth();
+        float height = world.getMapHeight();
+        CollisionManager collisionManager = new CollisionManager();
+        collisionManager.loadObstaclesFromTmx(DataFiles.internal(GameServer.DEFAULT_MAP));
+        GameState state = new GameState(width, height);
+        ProjectileSystem projectiles = state.getProjectiles();
+        ProjectileType type = ProjectileFactory.getType(ProjectileFactory.DEFAULT_TYPE);
+
+        // Ennemis fixes qui ne meurent pas (charge constante)
+        List<String> enemyTypes = EntityFactory.getEnemyTypeNames();
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy enemy = EntityFactory.createEnemy(enemyTypes.get(i % enemyTypes.size()),
+                random.nextFloat() * width, random.nextFloat() * height, null);
+            enemy.setMaxHealth(Integer.MAX_VALUE);
+            enemy.setSpeed(0);
+            state.addEnemy(enemy);
+        }
+
+        long[] samples = new long[ticks];
+        long inFlight = 0;
+        for (int tick = -WARMUP_TICKS; tick < ticks; tick++) {
+            // Salves jusqu'a retrouver le nombre voulu de projectiles en vol
+            while (projectiles.getActiveCount() < target) {
+                float x = random.nextFloat() * width;
+                float y = random.nextFloat() * height;
+                float angle = random.nextFloat() * (float) Math.PI * 2f;
+                for (int s = 0; s < SALVO; s++) {
+                    float shot = angle + s * 0.05f;
+                    state.fireProjectile(type, x, y, (float) Math.cos(shot), (float) Math.sin(shot), 1);
+                }
+            }
+
+            long start = System.nanoTime();
+            projectiles.update(DELTA);
+            collisionManager.handleProjectileCollisions(projectiles, state.getEnemies());
+            long nanos = System.nanoTime() - start;
+
+            if (tick >= 0) {
+                samples[tick] = nanos;
+                inFlight += projectiles.count();
+            }
+        }
+
+        long sum = 0;
+        for (long sample : samples) {
+            sum += sample;
+        }
+        Arrays.sort(samples);
+        double average = (double) sum / ticks;
+        double flying = (double) inFlight / ticks;
+        System.out.printf("%11d | %7d | %10.0f | %13.1f | %8.1f | %8.1f | %13.1f%n",
+            target, enemyCount, flying, average / 1000.0,
+            samples[Math.min(ticks - 1, (int) (ticks * 0.99f))] / 1000.0,
+            samples[ticks - 1] / 1000.0, average / flying);
+    }
+}
@@ -0,0 +1,162 @@
+package com.game.server;
+
+import com.game.model.entities.CollisionLayer;
+import com.game.model.entities.Enemy;
+import com.game.model.factories.EntityFactory;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.factories.ProjectileType;
+import com.game.model.managers.CollisionManager;
+import com.game.model.managers.GameState;
+import com.game.model.managers.ProjectileSystem;
+import com.game.model.managers.ShapeOverlap;
+import com.game.utils.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Vérifie la résolution des tirs contre les ennemis (sans fenêtre).
+ *
+ * Chaque scène aléatoire est construite deux fois à l'identique. La
+ * première passe par le CollisionManager (grille des projectiles,
+ * ennemi par ennemi, fils parallèles sur les grandes scènes) ; la
+ * seconde par la boucle de référence : chaque projectile, par indice
+ * croissant, touche le premier ennemi actif de la liste qu'il
+ * chevauche. Les deux doivent donner les mêmes points de vie et les
+ * mêmes projectiles détruits.
+ *
+ * Les types explosifs sont exclus : leurs dégâts de zone ne suivent pas
+ * la règle "un projectile, une cible".
+ *
+ * Usage : java com.game.server.ProjectileCheck [scènes] [graine]
+ *
+ * Code de sortie 1 si une scène diffère.
+ */
+public final class ProjectileCheck {
+
+    private static final float MAP_SIZE = 400f;
+    private static final int ENEMIES = 40;
+
+    /** Petites scènes sur le fil appelant, grandes au-delà du seuil parallèle */
+    private static final int[] PROJECTILES = {400, 3000};
+
+    private ProjectileCheck() {
+    }
+
+    public static void main(String[] args) {
+        int scenes = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+
+        EntityFactory.loadEnemyTypes();
+        ProjectileFactory.loadProjectileTypes();
+
+        List<ProjectileType> types = new ArrayList<>();
+        for (ProjectileType type : ProjectileFactory.getTypes()) {
+            if (!type.isExplosive()) types.add(type);
+        }
+        if (types.isEmpty()) {
+            System.out.println("Aucun type de projectile non explosif");
+            System.exit(1);
+        }
+        List<String> enemyTypes = EntityFactory.getEnemyTypeNames();
+        CollisionManager collisionManager = new CollisionManager();
+
+        int failed = 0;
+        long hits = 0;
+        for (int scene = 0; scene < scenes; scene++) {
+            GameRandom random = new GameRandom(seed + scene);
+            GameState checked = new GameState(MAP_SIZE, MAP_SIZE);
+            GameState reference = new GameState(MAP_SIZE, MAP_SIZE);
+
+            for (int i = 0; i < ENEMIES; i++) {
+                String type = enemyTypes.get(random.nextInt(enemyTypes.size()));
+                float x = random.nextFloat() * MAP_SIZE;
+                float y = random.nextFloat() * MAP_SIZE;
+                int health = 1 + random.nextInt(80);
+                checked.addEnemy(createEnemy(type, x, y, health));
+                reference.addEnemy(createEnemy(type, x, y, health));
+            }
+
+            int shots = PROJECTILES[scene % PROJECTILES.length];
+            while (checked.getProjectiles().count() < shots) {
+                ProjectileType type = types.get(random.nextInt(types.size()));
+                float x = random.nextFloat() * MAP_SIZE;
+                float y = random.nextFloat() * MAP_SIZE;
+                float angle = random.nextFloat() * (float) Math.PI * 2f;
+                float dirX = (float) Math.cos(angle);
+                float dirY = (float) Math.sin(angle);
+                int damage = 1 + random.nextInt(40);
+                checked.fireProjectile(type, x, y, dirX, dirY, damage);
+                reference.fireProjectile(type, x, y, dirX, dirY, damage);
+            }
+
+            collisionManager.handleProjectileCollisions(checked.getProjectiles(), checked.getEnemies());
+            hits += resolveReference(reference.getProjectiles(), reference.getEnemies());
+
+            int mismatches = compare(checked, reference);
+            if (mismatches > 0) {
+                failed++;
+                System.out.printf("scène %d (graine %d, %d projectiles) : %d différences%n",
+                    scene, seed + scene, shots, mismatches);
+            }
+        }
+
+        System.out.printf("%d scènes, %d impacts de référence, %d scènes différentes%n", scenes, hits, failed);
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+    private static Enemy createEnemy(String type, float x, float y, int health) {
+        Enemy enemy = EntityFactory.createEnemy(type, x, y, null);
+        enemy.setMaxHealth(health);
+        return enemy;
+    }
+
+    /**
+     * Boucle de référence : tous les projectiles contre tous les ennemis.
+     *
+     * @return Nombre d'impacts
+     */
+    private static int resolveReference(ProjectileSystem projectiles, List<Enemy> enemies) {
+        int hits = 0;
+        for (int i = 0; i < projectiles.count(); i++) {
+            if (!projectiles.isAlive(i)) continue;
+            for (int e = 0; e < enemies.size(); e++) {
+                Enemy enemy = enemies.get(e);
+                if (!enemy.isActive() || !touches(projectiles, i, enemy)) continue;
+                enemy.takeDamage(projectiles.getDamage(i));
+                projectiles.kill(i);
+                hits++;
+                break;
+            }
+        }
+        return hits;
+    }
+
+    private static boolean touches(ProjectileSystem projectiles, int i, Enemy enemy) {
+        if (!CollisionLayer.interacts(projectiles.getCollisionLayer(i), projectiles.getCollisionMask(i),
+            enemy.getCollisionLayer(), enemy.getCollisionMask())) {
+            return false;
+        }
+        return ShapeOverlap.overlaps(enemy.getHitShape(), enemy.getHitX(), enemy.getHitY(),
+            enemy.getHitWidth(), enemy.getHitHeight(), projectiles.getHitboxShape(i),
+            projectiles.getHitboxX(i), projectiles.getHitboxY(i),
+            projectiles.getHitboxWidth(i), projectiles.getHitboxHeight(i));
+    }
+
+    private static int compare(GameState checked, GameState reference) {
+        int mismatches = 0;
+        List<Enemy> a = checked.getEnemies();
+        List<Enemy> b = reference.getEnemies();
+        for (int e = 0; e < a.size(); e++) {
+            if (a.get(e).getHealth() != b.get(e).getHealth() || a.get(e).isActive() != b.get(e).isActive()) {
+                mismatches++;
+            }
+        }
+        ProjectileSystem p = checked.getProjectiles();
+        ProjectileSystem q = reference.getProjectiles();
+        for (int i = 0; i < p.count(); i++) {
+            if (p.isAlive(i) != q.isAlive(i)) mismatches++;
+        }
+        return mismatches;
+    }
+}
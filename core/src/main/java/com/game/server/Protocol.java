@@ -0,0 +1,106 @@
+package com.game.server;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Protocole réseau entre le serveur dédié et ses clients.
+ *
+ * Chaque message est encadré : longueur (int, type compris), type (octet),
+ * puis le contenu. Tout est en little-endian.
+ */
+final class Protocol {
+
+    /** Serveur → client : identifiant du joueur, fréquence des ticks, taille de la carte, types d'ennemis */
+    static final byte MSG_WELCOME = 1;
+
+    /** Client → serveur : une InputCommand */
+    static final byte MSG_INPUT = 2;
+
+    /** Serveur → client : joueurs + différence des entités avec la base acquittée */
+    static final byte MSG_SNAPSHOT = 3;
+
+    /** Taille de l'en-tête d'un message (longueur + type) */
+    static final int HEADER_SIZE = 5;
+
+    /** Taille maximale d'un message accepté */
+    static final int MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+    private Protocol() {
+    }
+
+    static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Commence un message : réserve l'en-tête et retourne sa position.
+     */
+    static int begin(ByteBuffer out, byte type) {
+        int start = out.position();
+        out.putInt(0);
+        out.put(type);
+        return start;
+    }
+
+    /**
+     * Termine un message commencé par {@link #begin(ByteBuffer, byte)}.
+     */
+    static void end(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - 4);
+    }
+
+    /**
+     * Écrit un entier positif sur 1 à 5 octets (7 bits par octet).
+     */
+    static void putVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0 && shift < 35);
+        return value;
+    }
+
+    /**
+     * Écrit une chaîne courte (longueur sur 1 octet + UTF-8).
+     */
+    static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 255);
+        out.put((byte) length);
+        out.put(bytes, 0, length);
+    }
+
+    static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.get() & 0xFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Agrandit un buffer en conservant son contenu (mode écriture).
+     */
+    static ByteBuffer grow(ByteBuffer buffer, int minCapacity) {
+        int capacity = buffer.capacity();
+        while (capacity < minCapacity) {
+            capacity *= 2;
+        }
+        ByteBuffer bigger = allocate(capacity);
+        buffer.flip();
+        bigger.put(buffer);
+        return bigger;
+    }
+}
@@ -0,0 +1,276 @@
+package com.game.server;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * État répliqué des entités (ennemis, projectiles, objets) à un tick donné.
+ *
+ * Positions quantifiées sur 16 bits, entités triées par identifiant.
+ * Le serveur n'envoie que la différence avec le dernier état acquitté
+ * par le client (sa « base ») :
+ * <ul>
+ *   <li>entités disparues : identifiant seul</li>
+ *   <li>nouvelles entités : enregistrement complet</li>
+ *   <li>entités modifiées : masque des champs changés + ces champs</li>
+ *   <li>entités inchangées : rien</li>
+ * </ul>
+ * Les identifiants sont codés en écart avec le précédent (varint), les
+ * petits déplacements sur un octet par axe. Sans base, tout est envoyé
+ * comme nouvelles entités.
+ */
+final class ReplicatedState {
+
+    static final byte KIND_ENEMY = 0;
+    static final byte KIND_PROJECTILE = 1;
+    static final byte KIND_COLLECTIBLE = 2;
+
+    // Champs modifies (masque d'une entite)
+    private static final int FIELD_X = 1;
+    private static final int FIELD_Y = 1 << 1;
+    private static final int FIELD_SMALL_MOVE = 1 << 2;
+    private static final int FIELD_HEALTH = 1 << 3;
+
+    int tick = -1;
+    int count;
+    int[] ids;
+    byte[] kinds;
+    char[] qx;
+    char[] qy;
+    short[] health;
+    byte[] extra;
+
+    // Tampons de decodage (reutilises)
+    private int[] removedIds = new int[16];
+    private ReplicatedState created;
+    private ReplicatedState changed;
+    private byte[] changedMasks = new byte[16];
+
+    ReplicatedState() {
+        this(64);
+    }
+
+    private ReplicatedState(int capacity) {
+        ids = new int[capacity];
+        kinds = new byte[capacity];
+        qx = new char[capacity];
+        qy = new char[capacity];
+        health = new short[capacity];
+        extra = new byte[capacity];
+    }
+
+    void clear(int tick) {
+        this.tick = tick;
+        this.count = 0;
+    }
+
+    /**
+     * Ajoute une entité (identifiants croissants obligatoires).
+     */
+    void add(int id, byte kind, int x, int y, int hp, int extraValue) {
+        if (count == ids.length) grow(count * 2);
+        ids[count] = id;
+        kinds[count] = kind;
+        qx[count] = (char) x;
+        qy[count] = (char) y;
+        health[count] = (short) hp;
+        extra[count] = (byte) extraValue;
+        count++;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        qx = Arrays.copyOf(qx, capacity);
+        qy = Arrays.copyOf(qy, capacity);
+        health = Arrays.copyOf(health, capacity);
+        extra = Arrays.copyOf(extra, capacity);
+    }
+
+    private void copyEntry(ReplicatedState from, int i) {
+        add(from.ids[i], from.kinds[i], from.qx[i], from.qy[i], from.health[i], from.extra[i]);
+    }
+
+    // ========== ENCODAGE ==========
+
+    /**
+     * Écrit la différence entre une base (null = aucune) et l'état courant.
+     */
+    static void writeDelta(ReplicatedState base, ReplicatedState current, ByteBuffer out) {
+        int baseCount = base != null ? base.count : 0;
+
+        // 1. Entites disparues
+        int countPosition = reserveCount(out);
+        int written = 0;
+        int previous = 0;
+        for (int i = 0, j = 0; i < baseCount; i++) {
+            int id = base.ids[i];
+            while (j < current.count && current.ids[j] < id) j++;
+            if (j >= current.count || current.ids[j] != id) {
+                Protocol.putVarInt(out, id - previous);
+                previous = id;
+                written++;
+            }
+        }
+        out.putInt(countPosition, written);
+
+        // 2. Nouvelles entites
+        countPosition = reserveCount(out);
+        written = 0;
+        previous = 0;
+        for (int i = 0, j = 0; i < current.count; i++) {
+            int id = current.ids[i];
+            while (j < baseCount && base.ids[j] < id) j++;
+            if (j >= baseCount || base.ids[j] != id) {
+                Protocol.putVarInt(out, id - previous);
+                previous = id;
+                out.put(current.kinds[i]);
+                out.putChar(current.qx[i]);
+                out.putChar(current.qy[i]);
+                out.putShort(current.health[i]);
+                out.put(current.extra[i]);
+                written++;
+            }
+        }
+        out.putInt(countPosition, written);
+
+        // 3. Entites modifiees (champs changes uniquement)
+        countPosition = reserveCount(out);
+        written = 0;
+        previous = 0;
+        for (int i = 0, j = 0; i < current.count && baseCount > 0; i++) {
+            int id = current.ids[i];
+            while (j < baseCount && base.ids[j] < id) j++;
+            if (j >= baseCount || base.ids[j] != id) continue;
+
+            int dx = current.qx[i] - base.qx[j];
+            int dy = current.qy[i] - base.qy[j];
+            boolean healthChanged = current.health[i] != base.health[j];
+            if (dx == 0 && dy == 0 && !healthChanged) continue;
+
+            int mask = 0;
+            if (dx != 0 || dy != 0) {
+                if (dx >= Byte.MIN_VALUE && dx <= Byte.MAX_VALUE && dy >= Byte.MIN_VALUE && dy <= Byte.MAX_VALUE) {
+                    mask |= FIELD_SMALL_MOVE;
+                } else {
+                    if (dx != 0) mask |= FIELD_X;
+                    if (dy != 0) mask |= FIELD_Y;
+                }
+            }
+            if (healthChanged) mask |= FIELD_HEALTH;
+
+            Protocol.putVarInt(out, id - previous);
+            previous = id;
+            out.put((byte) mask);
+            if ((mask & FIELD_SMALL_MOVE) != 0) {
+                out.put((byte) dx);
+                out.put((byte) dy);
+            }
+            if ((mask & FIELD_X) != 0) out.putChar(current.qx[i]);
+            if ((mask & FIELD_Y) != 0) out.putChar(current.qy[i]);
+            if ((mask & FIELD_HEALTH) != 0) out.putShort(current.health[i]);
+            written++;
+        }
+        out.putInt(countPosition, written);
+    }
+
+    // Compteurs sur 4 octets pour pouvoir les ecrire apres coup
+    private static int reserveCount(ByteBuffer out) {
+        int position = out.position();
+        out.putInt(0);
+        return position;
+    }
+
+    // ========== DÉCODAGE ==========
+
+    /**
+     * Reconstruit cet état à partir d'une base (null = aucune) et d'une
+     * différence écrite par {@link #writeDelta}.
+     */
+    void readDelta(ReplicatedState base, ByteBuffer in, int tick) {
+        if (created == null) {
+            created = new ReplicatedState(16);
+            changed = new ReplicatedState(16);
+        }
+
+        // Lecture des trois listes (triees par identifiant)
+        int removedCount = in.getInt();
+        if (removedIds.length < removedCount) removedIds = new int[Integer.highestOneBit(removedCount) << 1];
+        int id = 0;
+        for (int i = 0; i < removedCount; i++) {
+            id += Protocol.getVarInt(in);
+            removedIds[i] = id;
+        }
+
+        int createdCount = in.getInt();
+        created.clear(tick);
+        id = 0;
+        for (int i = 0; i < createdCount; i++) {
+            id += Protocol.getVarInt(in);
+            created.add(id, in.get(), in.getChar(), in.getChar(), in.getShort(), in.get());
+        }
+
+        int changedCount = in.getInt();
+        changed.clear(tick);
+        if (changedMasks.length < changedCount) changedMasks = new byte[Integer.highestOneBit(changedCount) << 1];
+        id = 0;
+        for (int i = 0; i < changedCount; i++) {
+            id += Protocol.getVarInt(in);
+            int mask = in.get();
+            int dx = 0;
+            int dy = 0;
+            int x = -1;
+            int y = -1;
+            int hp = 0;
+            if ((mask & FIELD_SMALL_MOVE) != 0) {
+                dx = in.get();
+                dy = in.get();
+            }
+            if ((mask & FIELD_X) != 0) x = in.getChar();
+            if ((mask & FIELD_Y) != 0) y = in.getChar();
+            if ((mask & FIELD_HEALTH) != 0) hp = in.getShort();
+            // Petit deplacement : l'ecart signe est range a la place de la position
+            changed.add(id, (byte) 0, x < 0 ? dx & 0xFFFF : x, y < 0 ? dy & 0xFFFF : y, hp, 0);
+            changedMasks[i] = (byte) mask;
+        }
+
+        // Fusion : base - disparues + modifiees + nouvelles, dans l'ordre des identifiants
+        clear(tick);
+        int baseCount = base != null ? base.count : 0;
+        int b = 0;
+        int r = 0;
+        int c = 0;
+        int n = 0;
+        while (b < baseCount || n < createdCount) {
+            boolean takeBase = n >= createdCount || (b < baseCount && base.ids[b] < created.ids[n]);
+            if (!takeBase) {
+                copyEntry(created, n++);
+                continue;
+            }
+
+            int baseId = base.ids[b];
+            while (r < removedCount && removedIds[r] < baseId) r++;
+            if (r < removedCount && removedIds[r] == baseId) {
+                b++;
+                continue;
+            }
+
+            copyEntry(base, b++);
+            while (c < changedCount && changed.ids[c] < baseId) c++;
+            if (c < changedCount && changed.ids[c] == baseId) {
+                applyChange(count - 1, changedMasks[c], c);
+                c++;
+            }
+        }
+    }
+
+    private void applyChange(int index, int mask, int c) {
+        if ((mask & FIELD_SMALL_MOVE) != 0) {
+            qx[index] = (char) (qx[index] + (short) changed.qx[c]);
+            qy[index] = (char) (qy[index] + (short) changed.qy[c]);
+        }
+        if ((mask & FIELD_X) != 0) qx[index] = changed.qx[c];
+        if ((mask & FIELD_Y) != 0) qy[index] = changed.qy[c];
+        if ((mask & FIELD_HEALTH) != 0) health[index] = changed.health[c];
+    }
+}
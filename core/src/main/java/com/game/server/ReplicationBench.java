@@ -0,0 +1,123 @@
+package com.game.server;
+
+import com.game.model.entities.Player;
+import com.game.model.factories.EntityFactory;
+import com.game.utils.GameRandom;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Mesure du volume de réplication des entités en local (127.0.0.1).
+ *
+ * Un serveur avancé tick par tick, un client (joueur invincible, sans tir)
+ * et N ennemis qui le poursuivent. Compare les octets réellement envoyés
+ * par tick (différences avec la base acquittée) à la taille qu'aurait un
+ * état complet des entités.
+ *
+ * Usage : java com.game.server.ReplicationBench [ticks] [ennemis...]
+ */
+public final class ReplicationBench {
+
+    private static final int WARMUP_TICKS = 30;
+
+    private ReplicationBench() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+        int[] enemyCounts = {100, 1000};
+        if (args.length > 1) {
+            enemyCounts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                enemyCounts[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.println("ennemis | entites | etat complet (o/tick) | envoye (o/tick) | gain | etats ignores");
+        for (int enemies : enemyCounts) {
+            run(enemies, ticks);
+        }
+    }
+
+    private static void run(int enemyCount, int ticks) throws IOException {
+        ServerWorld world = new ServerWorld(GameServer.DEFAULT_MAP);
+        GameServer server = new GameServer(world, 0);
+        GameClient client = new GameClient("127.0.0.1", server.getPort());
+        float delta = 1f / GameServer.TICK_RATE;
+
+        // Connexion (serveur avance a la main, sans thread)
+        while (!client.isConnected()) {
+            server.step(delta);
+            client.poll();
+        }
+
+        List<Player> players = world.getGameState().getPlayers();
+        Player player = players.get(players.size() - 1);
+        player.setInvincible(true);
+
+        GameRandom random = new GameRandom(enemyCount);
+        List<String> types = world.getEnemyTypes();
+        for (int i = 0; i < enemyCount; i++) {
+            String type = types.get(random.nextInt(types.size()));
+            float x = random.nextFloat() * world.getMapWidth();
+            float y = random.nextFloat() * world.getMapHeight();
+            world.getGameState().addEnemy(EntityFactory.createEnemy(type, x, y, player));
+        }
+
+        InputCommand command = new InputCommand();
+        ReplicatedState full = new ReplicatedState();
+        ByteBuffer scratch = Protocol.allocate(64 * 1024);
+        long fullBytes = 0;
+        long entities = 0;
+        long startSent = 0;
+        int ignored = 0;
+
+        for (int i = 0; i < WARMUP_TICKS + ticks; i++) {
+            if (i == WARMUP_TICKS) startSent = server.getBytesSent();
+
+            // Deplacement en zigzag : les ennemis suivent
+            command.moveX = (i / 20) % 2 == 0 ? 1 : -1;
+            command.moveY = (i / 40) % 2 == 0 ? 1 : -1;
+            command.shoot = false;
+            command.actions = 0;
+            client.sendInput(command);
+
+            server.step(delta);
+
+            // Attente de l'etat de ce tick (boucle locale), sauf s'il a ete abandonne
+            int tick = world.getTick();
+            long deadline = System.nanoTime() + 100_000_000L;
+            while (client.getSnapshot().getTick() < tick && System.nanoTime() < deadline) {
+                client.poll();
+            }
+            if (client.getSnapshot().getTick() < tick) ignored++;
+
+            if (i >= WARMUP_TICKS) {
+                full.clear(tick);
+                world.captureEntities(full);
+                while (true) {
+                    scratch.clear();
+                    try {
+                        ReplicatedState.writeDelta(null, full, scratch);
+                        break;
+                    } catch (BufferOverflowException e) {
+                        scratch = Protocol.allocate(scratch.capacity() * 2);
+                    }
+                }
+                fullBytes += scratch.position();
+                entities += full.count;
+            }
+        }
+
+        double sent = (double) (server.getBytesSent() - startSent) / ticks;
+        double complete = (double) fullBytes / ticks;
+        System.out.printf("%7d | %7.0f | %21.0f | %15.0f | %4.1fx | %d%n",
+            enemyCount, (double) entities / ticks, complete, sent, complete / sent, ignored);
+
+        client.close();
+        server.close();
+    }
+}
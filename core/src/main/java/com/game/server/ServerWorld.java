@@ -0,0 +1,531 @@
+package com.game.server;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.XmlReader;
+import com.game.model.entities.Collectible;
+import com.game.model.entities.Enemy;
+import com.game.model.entities.Entity;
+import com.game.model.entities.Player;
+import com.game.model.factories.EntityFactory;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.factories.ProjectileType;
+import com.game.model.managers.AiScheduler;
+import com.game.model.managers.CollectibleMagnet;
+import com.game.model.managers.CollisionManager;
+import com.game.model.managers.EnemyActivity;
+import com.game.model.managers.GameState;
+import com.game.model.managers.LootCoalescer;
+import com.game.model.managers.ProjectileSystem;
+import com.game.model.managers.SpatialGrid;
+import com.game.model.managers.SpawnIndex;
+import com.game.model.managers.TimerWheel;
+import com.game.model.managers.WaveManager;
+import com.game.utils.DataFiles;
+import com.game.utils.GameRandom;
+import com.game.utils.Log;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Monde de jeu du serveur dédié (sans fenêtre ni textures).
+ *
+ * Même règles que GameController, mais pour plusieurs joueurs qui
+ * partagent un seul GameState. Les joueurs sont pilotés par les
+ * InputCommand reçues des clients ; chaque ennemi poursuit le joueur
+ * le plus proche.
+ */
+public class ServerWorld {
+
+    private static final float PLAYER_SIZE = 32f;
+    private static final float SHOOT_COOLDOWN_MAX = 0.5f;
+
+    /** Côté des cellules de la grille spatiale */
+    private static final float GRID_CELL_SIZE = 128f;
+
+    private final GameState gameState;
+    private final CollisionManager collisionManager;
+    // Frequence de mise a jour des ennemis selon leur distance aux joueurs
+    private final AiScheduler aiScheduler;
+    private final WaveManager waveManager;
+    private final SpawnIndex spawnIndex;
+    private final SpatialGrid grid;
+    private final CollectibleMagnet magnet;
+    private final ProjectileType playerProjectile;
+    private final LootCoalescer lootCoalescer;
+    private final GameRandom random;
+
+    private final float mapWidth;
+    private final float mapHeight;
+
+    private final List<PlayerSlot> slots;
+
+    // Replication : positions sur 16 bits, type d'ennemi par indice
+    private final PositionQuantizer quantizer;
+    private final List<String> enemyTypes;
+    private int nextPlayerId;
+    private int tick;
+    private int kills;
+    private int lastWave = Integer.MAX_VALUE;
+
+    // Vecteurs reutilises (pas d'allocation par tick)
+    private final Vector2 spawnPosition = new Vector2();
+    private final Vector2 aimDirection = new Vector2();
+
+    /**
+     * Joueur connecté : son entité, sa dernière commande et son cooldown.
+     */
+    public static final class PlayerSlot {
+        private final int id;
+        private final Player player;
+        private final InputCommand input = new InputCommand();
+        private int pendingActions;
+        // Minuterie du cooldown de tir (NONE : pret a tirer)
+        private int shootCooldown = TimerWheel.NONE;
+
+        private PlayerSlot(int id, Player player) {
+            this.id = id;
+            this.player = player;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public Player getPlayer() {
+            return player;
+        }
+
+        public int getLastSequence() {
+            return input.sequence;
+        }
+    }
+
+    /**
+     * Crée le monde à partir d'une carte Tiled.
+     *
+     * @param mapPath Chemin de la carte (relatif au dossier assets)
+     */
+    public ServerWorld(String mapPath) {
+        this(mapPath, System.nanoTime());
+    }
+
+    /**
+     * Crée le monde avec une graine fixe (spawns reproductibles).
+     *
+     * @param mapPath Chemin de la carte (relatif au dossier assets)
+     * @param seed Graine des tirages aléatoires
+     */
+    public ServerWorld(String mapPath, long seed) {
+        FileHandle mapFile = DataFiles.internal(mapPath);
+        float width = 720f;
+        float height = 720f;
+        try {
+            XmlReader.Element map = new XmlReader().parse(mapFile);
+            width = map.getIntAttribute("width") * map.getIntAttribute("tilewidth");
+            height = map.getIntAttribute("height") * map.getIntAttribute("tileheight");
+        } catch (Exception e) {
+            Log.error("Carte illisible {}, taille par défaut", mapPath, e);
+        }
+        this.mapWidth = width;
+        this.mapHeight = height;
+
+        this.random = new GameRandom(seed);
+        this.gameState = new GameState(mapWidth, mapHeight);
+        this.collisionManager = new CollisionManager();
+        this.aiScheduler = new AiScheduler();
+        this.collisionManager.loadObstaclesFromTmx(mapFile);
+        this.spawnIndex = SpawnIndex.build(collisionManager, 0, 0, mapWidth, mapHeight);
+        this.grid = new SpatialGrid(mapWidth, mapHeight, GRID_CELL_SIZE);
+        this.magnet = new CollectibleMagnet(grid);
+        this.lootCoalescer = new LootCoalescer(gameState, grid, mapWidth, mapHeight);
+
+        // Deja charges si plusieurs mondes partagent le processus (simulations)
+        if (!EntityFactory.hasEnemyTypes()) {
+            EntityFactory.loadEnemyTypes();
+        }
+        this.enemyTypes = EntityFactory.getEnemyTypeNames();
+        if (!ProjectileFactory.hasProjectileTypes()) {
+            ProjectileFactory.loadProjectileTypes();
+        }
+        this.playerProjectile = ProjectileFactory.getType(ProjectileFactory.DEFAULT_TYPE);
+        this.quantizer = new PositionQuantizer(mapWidth, mapHeight);
+
+        this.waveManager = new WaveManager();
+        this.waveManager.setSeed(seed ^ 0x9E3779B97F4A7C15L);
+        this.waveManager.setMapSize(mapWidth, mapHeight);
+        this.waveManager.setSpawnIndex(spawnIndex);
+        this.waveManager.startWave(1);
+        this.gameState.setCurrentWave(1);
+
+        this.slots = new ArrayList<>();
+        this.nextPlayerId = 1;
+    }
+
+    /**
+     * Ajoute un joueur à une position libre.
+     */
+    public PlayerSlot addPlayer() {
+        spawnIndex.pickInterior(random, spawnPosition);
+        Player player = new Player(spawnPosition.x, spawnPosition.y, PLAYER_SIZE, PLAYER_SIZE);
+        gameState.addPlayer(player);
+
+        PlayerSlot slot = new PlayerSlot(nextPlayerId++, player);
+        slots.add(slot);
+        Log.info("Joueur {} rejoint la partie ({} joueurs)", slot.id, slots.size());
+        return slot;
+    }
+
+    public void removePlayer(PlayerSlot slot) {
+        slots.remove(slot);
+        gameState.removePlayer(slot.player);
+        Log.info("Joueur {} quitte la partie ({} joueurs)", slot.id, slots.size());
+    }
+
+    /**
+     * Reçoit une commande d'un client (appliquée au prochain tick).
+     * Les actions ponctuelles sont cumulées pour ne pas en perdre quand
+     * plusieurs commandes arrivent dans le même tick.
+     */
+    public void receiveInput(PlayerSlot slot, InputCommand command) {
+        // Commandes en retard ignorees
+        if (command.sequence < slot.input.sequence) return;
+
+        slot.input.set(command);
+        slot.pendingActions |= command.actions;
+    }
+
+    /**
+     * Avance la simulation d'un tick.
+     */
+    public void tick(float delta) {
+        tick++;
+        if (!hasActivePlayer()) return;
+
+        // Minuteries echues (cooldowns de tir, invincibilite)
+        gameState.getTimers().advance(delta);
+
+        for (int i = 0; i < slots.size(); i++) {
+            PlayerSlot slot = slots.get(i);
+            if (!slot.player.isActive()) continue;
+
+            applyInput(slot, delta);
+            slot.player.update(delta);
+        }
+
+        updateEnemies(delta);
+        updateProjectiles(delta);
+        updateCollectibles(delta);
+
+        collisionManager.handleAllCollisions(gameState);
+
+        // Apparitions de la vague (cible reassignee au prochain tick)
+        waveManager.update(delta, gameState);
+
+        cleanupDeadEntities();
+        checkWaveProgression();
+        updateGrid();
+    }
+
+    private boolean hasActivePlayer() {
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i).player.isActive()) return true;
+        }
+        return false;
+    }
+
+    private void applyInput(PlayerSlot slot, float delta) {
+        Player player = slot.player;
+        InputCommand input = slot.input;
+
+        // Deplacement (vitesse constante en diagonale)
+        float moveX = input.moveX;
+        float moveY = input.moveY;
+        float length = (float) Math.sqrt(moveX * moveX + moveY * moveY);
+        float prevX = player.getPosition().x;
+        float prevY = player.getPosition().y;
+        if (length > 0) {
+            float speed = player.getSpeed() / length;
+            player.setVelocity(moveX * speed, moveY * speed);
+            player.getPosition().add(moveX * speed * delta, moveY * speed * delta);
+            if (collisionManager.isCollidingWithObstacles(player.getBounds())) {
+                player.setPosition(prevX, prevY);
+            }
+        } else {
+            player.setVelocity(0, 0);
+        }
+        clampToMap(player);
+
+        // Tir
+        TimerWheel timers = gameState.getTimers();
+        if (input.shoot && !timers.isPending(slot.shootCooldown)) {
+            aimDirection.set(input.aimX - player.getPosition().x, input.aimY - player.getPosition().y);
+            if (!aimDirection.isZero()) {
+                gameState.fireProjectile(playerProjectile,
+                    player.getPosition().x + player.getWidth() / 2f,
+                    player.getPosition().y + player.getHeight() / 2f,
+                    aimDirection.x, aimDirection.y, player.getDamage());
+                slot.shootCooldown = timers.schedule(SHOOT_COOLDOWN_MAX, null, 0);
+            }
+        }
+
+        // Achats (une fois par appui)
+        int actions = slot.pendingActions;
+        slot.pendingActions = 0;
+        if ((actions & InputCommand.ACTION_UPGRADE_DAMAGE) != 0) player.upgradeDamage();
+        if ((actions & InputCommand.ACTION_UPGRADE_SPEED) != 0) player.upgradeSpeed();
+        if ((actions & InputCommand.ACTION_BUY_HEALTH) != 0) player.buyHealth();
+    }
+
+    private void updateEnemies(float delta) {
+        // Ennemis endormis proches d'un joueur reveilles ; seuls les eveilles sont mis a jour
+        EnemyActivity activity = gameState.getEnemyActivity();
+        activity.wakeNear(gameState.getPlayers(), grid);
+
+        // De la fin vers le debut : un ennemi endormi est remplace par le dernier
+        aiScheduler.beginTick(delta);
+        List<Enemy> enemies = activity.getAwake();
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isActive()) continue;
+
+            // Ennemis eloignes : un tick sur plusieurs, avec le temps ecoule depuis
+            float step = aiScheduler.step(enemy, gameState.getPlayers());
+            if (step == 0) continue;
+
+            // Poursuite du joueur le plus proche
+            enemy.setTarget(gameState.getNearestPlayer(enemy.getPosition().x, enemy.getPosition().y));
+
+            float prevX = enemy.getPosition().x;
+            float prevY = enemy.getPosition().y;
+            enemy.update(step);
+            if (collisionManager.isCollidingWithObstacles(enemy.getBounds())) {
+                enemy.setPosition(prevX, prevY);
+            }
+            clampToMap(enemy);
+
+            if (activity.shouldSleep(enemy, gameState.getPlayers())) {
+                // Derniere position rangee maintenant : la grille ne suit que les eveilles
+                grid.update(enemy);
+                activity.sleep(enemy);
+            }
+        }
+    }
+
+    private void updateProjectiles(float delta) {
+        // Tetes chercheuses : grille des ennemis du tick precedent (un tick de retard au plus)
+        gameState.getProjectiles().steer(grid, delta);
+        // Obstacles et ennemis testes ensuite par CollisionManager
+        gameState.getProjectiles().update(delta);
+    }
+
+    private void updateCollectibles(float delta) {
+        // Attraction vers le joueur le plus proche (cellules voisines des joueurs seulement)
+        magnet.update(gameState, delta);
+    }
+
+    private void cleanupDeadEntities() {
+        List<Enemy> enemies = gameState.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive()) continue;
+
+            kills++;
+            float x = enemy.getPosition().x;
+            float y = enemy.getPosition().y;
+            if (enemy.getCoinValue() > 0) {
+                lootCoalescer.drop(x, y, Collectible.Type.COIN, enemy.getCoinValue());
+            }
+            if (enemy.getExpValue() > 0) {
+                lootCoalescer.drop(x + 20, y, Collectible.Type.EXPERIENCE, enemy.getExpValue());
+            }
+        }
+        removeFromGrid(gameState.getEnemies());
+        removeFromGrid(gameState.getCollectibles());
+        gameState.removeDeadEntities();
+    }
+
+    private void removeFromGrid(List<? extends Entity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (!entity.isActive()) grid.remove(entity);
+        }
+    }
+
+    /**
+     * Range les nouvelles entités dans la grille et déplace les autres
+     * (seuls les changements de cellule coûtent quelque chose). Les objets
+     * à ramasser sont rangés à leur création et déplacés par l'aimant ;
+     * les projectiles ont leur propre grille (ProjectileSystem).
+     */
+    private void updateGrid() {
+        // Les ennemis endormis ne bougent pas
+        updateGrid(gameState.getAwakeEnemies());
+    }
+
+    private void updateGrid(List<? extends Entity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            if (entity.getGridHandle() < 0) {
+                grid.insert(entity);
+            } else {
+                grid.update(entity);
+            }
+        }
+    }
+
+    /**
+     * Vague suivante quand le meilleur joueur a dépassé son niveau
+     * (même règle qu'en solo).
+     */
+    private void checkWaveProgression() {
+        int bestLevel = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            bestLevel = Math.max(bestLevel, slots.get(i).player.getLevel());
+        }
+
+        int currentWave = waveManager.getCurrentWave();
+        if (currentWave < lastWave && bestLevel > currentWave && isWaveCleared()) {
+            waveManager.startWave(currentWave + 1);
+            gameState.setCurrentWave(currentWave + 1);
+        }
+    }
+
+    private void clampToMap(Entity entity) {
+        float x = Math.max(0, Math.min(entity.getPosition().x, mapWidth - 32));
+        float y = Math.max(0, Math.min(entity.getPosition().y, mapHeight - 32));
+        entity.setPosition(x, y);
+    }
+
+    // ========== RÉSEAU ==========
+
+    /**
+     * Écrit l'état des joueurs (toujours complet : ils sont peu nombreux).
+     */
+    void writePlayers(ByteBuffer out) {
+        out.putShort((short) slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            PlayerSlot slot = slots.get(i);
+            Player player = slot.player;
+            out.putShort((short) slot.id);
+            out.putInt(slot.input.sequence);
+            out.putFloat(player.getPosition().x);
+            out.putFloat(player.getPosition().y);
+            out.putShort((short) player.getHealth());
+            out.putShort((short) player.getMaxHealth());
+            out.putShort((short) player.getLevel());
+            out.putInt(player.getCoins());
+            out.put((byte) (player.isActive() ? 1 : 0));
+        }
+    }
+
+    /**
+     * Copie toutes les entités répliquées (positions quantifiées), triées
+     * par identifiant : fusion des trois listes, chacune déjà triée.
+     */
+    void captureEntities(ReplicatedState state) {
+        List<Enemy> enemies = gameState.getEnemies();
+        ProjectileSystem projectiles = gameState.getProjectiles();
+        List<Collectible> collectibles = gameState.getCollectibles();
+        int e = 0;
+        int p = 0;
+        int c = 0;
+
+        while (e < enemies.size() || p < projectiles.count() || c < collectibles.size()) {
+            int enemyId = e < enemies.size() ? enemies.get(e).getId() : Integer.MAX_VALUE;
+            int projectileId = p < projectiles.count() ? projectiles.getId(p) : Integer.MAX_VALUE;
+            int collectibleId = c < collectibles.size() ? collectibles.get(c).getId() : Integer.MAX_VALUE;
+
+            if (enemyId < projectileId && enemyId < collectibleId) {
+                captureEntity(state, enemies.get(e++));
+            } else if (projectileId < collectibleId) {
+                captureProjectile(state, projectiles, p++);
+            } else {
+                captureEntity(state, collectibles.get(c++));
+            }
+        }
+    }
+
+    /**
+     * Copie une entité dans un état répliqué (ignorée si inactive).
+     */
+    void captureEntity(ReplicatedState state, Entity entity) {
+        if (!entity.isActive()) return;
+
+        int x = quantizer.quantize(entity.getPosition().x);
+        int y = quantizer.quantize(entity.getPosition().y);
+        if (entity instanceof Enemy) {
+            Enemy enemy = (Enemy) entity;
+            state.add(enemy.getId(), ReplicatedState.KIND_ENEMY, x, y, enemy.getHealth(), enemyTypeIndex(enemy.getTypeId()));
+        } else if (entity instanceof Collectible) {
+            state.add(entity.getId(), ReplicatedState.KIND_COLLECTIBLE, x, y, 0, ((Collectible) entity).getType().ordinal());
+        }
+    }
+
+    /**
+     * Copie un projectile dans un état répliqué (ignoré s'il est inactif).
+     */
+    void captureProjectile(ReplicatedState state, ProjectileSystem projectiles, int index) {
+        if (!projectiles.isAlive(index)) return;
+
+        state.add(projectiles.getId(index), ReplicatedState.KIND_PROJECTILE,
+            quantizer.quantize(projectiles.getX(index)), quantizer.quantize(projectiles.getY(index)),
+            0, projectiles.getTypeIndex(index));
+    }
+
+    private int enemyTypeIndex(String typeId) {
+        int index = enemyTypes.indexOf(typeId);
+        return index >= 0 ? index : 0xFF;
+    }
+
+    /**
+     * Dernière vague jouée : la partie ne passe pas au-delà.
+     */
+    public void setLastWave(int lastWave) {
+        this.lastWave = lastWave;
+    }
+
+    // ========== GETTERS ==========
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /** Nombre total d'ennemis tués depuis le début de la partie */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Vague courante terminée : tout est apparu et tout a été tué.
+     */
+    public boolean isWaveCleared() {
+        return waveManager.isWaveComplete() && gameState.getEnemies().isEmpty();
+    }
+
+    public int getPlayerCount() {
+        return slots.size();
+    }
+
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    public float getMapHeight() {
+        return mapHeight;
+    }
+
+    public SpatialGrid getGrid() {
+        return grid;
+    }
+
+    List<String> getEnemyTypes() {
+        return enemyTypes;
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.server;
+
+/**
+ * Historique circulaire des derniers états répliqués, indexé par tick.
+ *
+ * Côté serveur : bases possibles pour les différences envoyées.
+ * Côté client : états reçus, pour décoder les différences suivantes.
+ * Les deux côtés utilisent la même taille : une base plus ancienne que
+ * l'historique n'est plus utilisable, le serveur renvoie alors tout.
+ */
+final class StateHistory {
+
+    /** Nombre de ticks conservés (1 seconde à 30 ticks/s) */
+    static final int SIZE = 32;
+
+    private final ReplicatedState[] states;
+
+    StateHistory() {
+        states = new ReplicatedState[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            states[i] = new ReplicatedState();
+        }
+    }
+
+    /**
+     * Retourne l'emplacement d'un tick, vidé et prêt à être rempli.
+     */
+    ReplicatedState acquire(int tick) {
+        ReplicatedState state = states[Math.floorMod(tick, SIZE)];
+        state.clear(tick);
+        return state;
+    }
+
+    /**
+     * Retourne l'état d'un tick, ou null s'il n'est plus (ou pas) conservé.
+     */
+    ReplicatedState get(int tick) {
+        if (tick < 0) return null;
+        ReplicatedState state = states[Math.floorMod(tick, SIZE)];
+        return state.tick == tick ? state : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.game.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+
+/**
+ * Accès aux fichiers de données du jeu (JSON, cartes).
+ *
+ * Passe par Gdx.files quand LibGDX est initialisé. En mode sans fenêtre
+ * (serveur dédié, outils hors ligne), lit directement le dossier assets
+ * sur le disque : -Dgame.assets.dir, "assets" par défaut.
+ */
+public final class DataFiles {
+
+    private static final String ASSETS_DIR = System.getProperty("game.assets.dir", "assets");
+
+    private DataFiles() {
+    }
+
+    /**
+     * Retourne un fichier interne (relatif au dossier assets).
+     */
+    public static FileHandle internal(String path) {
+        if (Gdx.files != null) {
+            return Gdx.files.internal(path);
+        }
+        return new FileHandle(new File(ASSETS_DIR, path));
+    }
+
+    /**
+     * Indique si LibGDX tourne sans fenêtre (pas de textures possibles).
+     */
+    public static boolean isHeadless() {
+        return Gdx.files == null || Gdx.gl == null;
+    }
+}
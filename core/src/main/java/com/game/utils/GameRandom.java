@@ -0,0 +1,57 @@
+package com.game.utils;
+
+import java.util.Random;
+
+/**
+ * Générateur aléatoire dont l'état complet tient dans un long.
+ *
+ * Remplace java.util.Random là où l'état doit être sauvegardé puis restauré
+ * à l'identique (sauvegardes, simulations rejouables). Algorithme xorshift64*.
+ * Seul nextGaussian() garde un état caché : ne pas l'utiliser pour la logique
+ * de jeu.
+ */
+public class GameRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private long state;
+
+    public GameRandom() {
+        this(System.nanoTime());
+    }
+
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        // Melange du seed (un etat nul bloquerait le generateur)
+        long mixed = (seed ^ 0x9E3779B97F4A7C15L) * 0xBF58476D1CE4E5B9L;
+        state = mixed != 0 ? mixed : 0x2545F4914F6CDD1DL;
+    }
+
+    @Override
+    protected int next(int bits) {
+        long x = state;
+        x ^= x >>> 12;
+        x ^= x << 25;
+        x ^= x >>> 27;
+        state = x;
+        return (int) ((x * 0x2545F4914F6CDD1DL) >>> (64 - bits));
+    }
+
+    /**
+     * Retourne l'état courant (à sauvegarder).
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaure un état obtenu avec {@link #getState()}.
+     */
+    public void setState(long state) {
+        this.state = state != 0 ? state : 0x2545F4914F6CDD1DL;
+    }
+}
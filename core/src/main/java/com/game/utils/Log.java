@@ -0,0 +1,371 @@
+package com.game.utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Journalisation du jeu (remplace les System.out.println).
+ *
+ * - Niveau fixé au démarrage : -Dgame.log.level=DEBUG|INFO|WARN|ERROR|OFF
+ * - Messages paramétrés : Log.info("Vague {} - {} ennemis", wave, count)
+ * - Le thread de jeu ne fait que copier le message dans un buffer circulaire ;
+ *   le formatage et l'écriture (console + fichier) se font sur un thread dédié.
+ *
+ * Dans les boucles chaudes, protéger l'appel avec la constante du niveau :
+ * <pre>
+ * if (Log.DEBUG) Log.debug("Ennemi éliminé ({} pièces)", coinValue);
+ * </pre>
+ * Les constantes étant static final, un appel désactivé ne coûte rien
+ * (ni formatage, ni boxing des arguments).
+ */
+public final class Log {
+
+    public static final int LEVEL_DEBUG = 0;
+    public static final int LEVEL_INFO = 1;
+    public static final int LEVEL_WARN = 2;
+    public static final int LEVEL_ERROR = 3;
+    public static final int LEVEL_OFF = 4;
+
+    /** Niveau minimal journalisé (lu une seule fois au chargement de la classe) */
+    public static final int LEVEL = parseLevel(System.getProperty("game.log.level", "INFO"));
+
+    // Gardes de niveau (constantes pour le JIT)
+    public static final boolean DEBUG = LEVEL <= LEVEL_DEBUG;
+    public static final boolean INFO = LEVEL <= LEVEL_INFO;
+    public static final boolean WARN = LEVEL <= LEVEL_WARN;
+    public static final boolean ERROR = LEVEL <= LEVEL_ERROR;
+
+    /** Fichier de log (vide pour désactiver l'écriture fichier) */
+    private static final String LOG_FILE = System.getProperty("game.log.file", "logs/game.log");
+
+    /** Capacité du buffer circulaire (puissance de 2) */
+    private static final int CAPACITY = 4096;
+    private static final int MASK = CAPACITY - 1;
+
+    private static final String[] LEVEL_NAMES = {"DEBUG", "INFO", "WARN", "ERROR"};
+
+    /**
+     * Entrée du buffer circulaire, allouée une seule fois et réutilisée.
+     */
+    private static final class Entry {
+        int level;
+        long time;
+        String pattern;
+        Object arg0, arg1, arg2;
+        Object[] args;
+        Throwable error;
+    }
+
+    private static final Entry[] ring = new Entry[CAPACITY];
+
+    // Position d'ecriture (producteurs) et de lecture (thread d'ecriture)
+    private static volatile long head;
+    private static volatile long tail;
+
+    // Messages perdus quand le buffer est plein (jamais de blocage du jeu)
+    private static long dropped;
+
+    private static final Thread writerThread;
+    private static volatile boolean running = true;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new Entry();
+        }
+
+        writerThread = new Thread(Log::writerLoop, "log-writer");
+        writerThread.setDaemon(true);
+        if (LEVEL < LEVEL_OFF) {
+            writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(Log::shutdown, "log-shutdown"));
+        }
+    }
+
+    private Log() {
+    }
+
+    // ========== DEBUG ==========
+
+    public static void debug(String message) {
+        if (DEBUG) append(LEVEL_DEBUG, message, null, null, null, null, null);
+    }
+
+    public static void debug(String pattern, Object arg0) {
+        if (DEBUG) append(LEVEL_DEBUG, pattern, arg0, null, null, null, null);
+    }
+
+    public static void debug(String pattern, Object arg0, Object arg1) {
+        if (DEBUG) append(LEVEL_DEBUG, pattern, arg0, arg1, null, null, null);
+    }
+
+    public static void debug(String pattern, Object arg0, Object arg1, Object arg2) {
+        if (DEBUG) append(LEVEL_DEBUG, pattern, arg0, arg1, arg2, null, null);
+    }
+
+    public static void debug(String pattern, Object... args) {
+        if (DEBUG) append(LEVEL_DEBUG, pattern, null, null, null, args, null);
+    }
+
+    // ========== INFO ==========
+
+    public static void info(String message) {
+        if (INFO) append(LEVEL_INFO, message, null, null, null, null, null);
+    }
+
+    public static void info(String pattern, Object arg0) {
+        if (INFO) append(LEVEL_INFO, pattern, arg0, null, null, null, null);
+    }
+
+    public static void info(String pattern, Object arg0, Object arg1) {
+        if (INFO) append(LEVEL_INFO, pattern, arg0, arg1, null, null, null);
+    }
+
+    public static void info(String pattern, Object arg0, Object arg1, Object arg2) {
+        if (INFO) append(LEVEL_INFO, pattern, arg0, arg1, arg2, null, null);
+    }
+
+    public static void info(String pattern, Object... args) {
+        if (INFO) append(LEVEL_INFO, pattern, null, null, null, args, null);
+    }
+
+    // ========== WARN ==========
+
+    public static void warn(String message) {
+        if (WARN) append(LEVEL_WARN, message, null, null, null, null, null);
+    }
+
+    public static void warn(String pattern, Object arg0) {
+        if (WARN) append(LEVEL_WARN, pattern, arg0, null, null, null, null);
+    }
+
+    public static void warn(String pattern, Object arg0, Object arg1) {
+        if (WARN) append(LEVEL_WARN, pattern, arg0, arg1, null, null, null);
+    }
+
+    public static void warn(String pattern, Object... args) {
+        if (WARN) append(LEVEL_WARN, pattern, null, null, null, args, null);
+    }
+
+    // ========== ERROR ==========
+
+    public static void error(String message) {
+        if (ERROR) append(LEVEL_ERROR, message, null, null, null, null, null);
+    }
+
+    public static void error(String message, Throwable error) {
+        if (ERROR) append(LEVEL_ERROR, message, null, null, null, null, error);
+    }
+
+    public static void error(String pattern, Object arg0, Throwable error) {
+        if (ERROR) append(LEVEL_ERROR, pattern, arg0, null, null, null, error);
+    }
+
+    public static void error(String pattern, Object arg0) {
+        if (ERROR) append(LEVEL_ERROR, pattern, arg0, null, null, null, null);
+    }
+
+    public static void error(String pattern, Object arg0, Object arg1) {
+        if (ERROR) append(LEVEL_ERROR, pattern, arg0, arg1, null, null, null);
+    }
+
+    /**
+     * Copie un message dans le buffer circulaire (aucun formatage ici).
+     * Si le buffer est plein, le message est compté comme perdu.
+     */
+    private static void append(int level, String pattern, Object arg0, Object arg1, Object arg2,
+                               Object[] args, Throwable error) {
+        synchronized (ring) {
+            if (head - tail >= CAPACITY) {
+                dropped++;
+                return;
+            }
+
+            Entry entry = ring[(int) (head & MASK)];
+            entry.level = level;
+            entry.time = System.currentTimeMillis();
+            entry.pattern = pattern;
+            entry.arg0 = arg0;
+            entry.arg1 = arg1;
+            entry.arg2 = arg2;
+            entry.args = args;
+            entry.error = error;
+            head++;
+        }
+    }
+
+    /**
+     * Boucle du thread d'écriture : vide le buffer vers la console et le fichier.
+     */
+    private static void writerLoop() {
+        BufferedWriter file = openLogFile();
+        StringBuilder line = new StringBuilder(256);
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+
+        while (running || hasPending()) {
+            if (!hasPending()) {
+                LockSupport.parkNanos(5_000_000L);
+                continue;
+            }
+
+            long available;
+            long lost;
+            synchronized (ring) {
+                available = head;
+                lost = dropped;
+                dropped = 0;
+            }
+
+            for (long i = tail; i < available; i++) {
+                Entry entry = ring[(int) (i & MASK)];
+
+                line.setLength(0);
+                line.append(timeFormat.format(new Date(entry.time))).append(' ');
+                line.append(LEVEL_NAMES[entry.level]);
+                if (entry.level == LEVEL_INFO || entry.level == LEVEL_WARN) line.append(' ');
+                line.append(' ');
+                format(line, entry);
+
+                PrintStream console = entry.level >= LEVEL_WARN ? System.err : System.out;
+                write(file, console, line.toString());
+                if (entry.error != null) {
+                    write(file, console, stackTrace(entry.error));
+                }
+
+                // Liberer les references pour le GC
+                entry.pattern = null;
+                entry.arg0 = entry.arg1 = entry.arg2 = null;
+                entry.args = null;
+                entry.error = null;
+            }
+            tail = available;
+
+            if (lost > 0) {
+                write(file, System.err, "WARN  [log] " + lost + " messages perdus (buffer plein)");
+            }
+
+            if (file != null) {
+                try {
+                    file.flush();
+                } catch (IOException ignored) {
+                    // Le fichier reste optionnel
+                }
+            }
+        }
+
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException ignored) {
+                // Fermeture en fin de programme
+            }
+        }
+    }
+
+    private static boolean hasPending() {
+        return tail != head;
+    }
+
+    /**
+     * Remplace chaque {} du message par l'argument suivant.
+     */
+    private static void format(StringBuilder out, Entry entry) {
+        String pattern = entry.pattern;
+        if (pattern == null) {
+            out.append("null");
+            return;
+        }
+
+        int argIndex = 0;
+        int start = 0;
+        int marker;
+        while ((marker = pattern.indexOf("{}", start)) >= 0) {
+            out.append(pattern, start, marker);
+            out.append(argument(entry, argIndex++));
+            start = marker + 2;
+        }
+        out.append(pattern, start, pattern.length());
+    }
+
+    private static Object argument(Entry entry, int index) {
+        if (entry.args != null) {
+            return index < entry.args.length ? entry.args[index] : "{}";
+        }
+        switch (index) {
+            case 0: return entry.arg0;
+            case 1: return entry.arg1;
+            case 2: return entry.arg2;
+            default: return "{}";
+        }
+    }
+
+    private static void write(BufferedWriter file, PrintStream console, String text) {
+        console.println(text);
+        if (file != null) {
+            try {
+                file.write(text);
+                file.newLine();
+            } catch (IOException ignored) {
+                // On continue au moins sur la console
+            }
+        }
+    }
+
+    private static String stackTrace(Throwable error) {
+        StringWriter out = new StringWriter();
+        error.printStackTrace(new PrintWriter(out));
+        return out.toString().trim();
+    }
+
+    private static BufferedWriter openLogFile() {
+        if (LOG_FILE.isEmpty()) {
+            return null;
+        }
+        try {
+            File file = new File(LOG_FILE);
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            return new BufferedWriter(new FileWriter(file, false));
+        } catch (IOException e) {
+            System.err.println("[log] Impossible d'ouvrir " + LOG_FILE + " : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static int parseLevel(String name) {
+        switch (name.trim().toUpperCase()) {
+            case "DEBUG": return LEVEL_DEBUG;
+            case "WARN": return LEVEL_WARN;
+            case "ERROR": return LEVEL_ERROR;
+            case "OFF": return LEVEL_OFF;
+            default: return LEVEL_INFO;
+        }
+    }
+
+    /**
+     * Attend que tous les messages en attente soient écrits.
+     */
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (writerThread.isAlive() && hasPending() && System.currentTimeMillis() < deadline) {
+            LockSupport.parkNanos(1_000_000L);
+        }
+    }
+
+    private static void shutdown() {
+        running = false;
+        try {
+            writerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
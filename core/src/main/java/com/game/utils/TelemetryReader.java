@@ -0,0 +1,100 @@
+package com.game.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Outil hors ligne : convertit un journal de télémétrie en CSV.
+ *
+ * Usage :
+ * <pre>
+ * java -cp core.jar com.game.utils.TelemetryReader logs/telemetry.bin [sortie.csv]
+ * </pre>
+ * Sans fichier de sortie, le CSV est écrit à côté du journal.
+ */
+public final class TelemetryReader {
+
+    private static final String CSV_HEADER =
+        "tick,time_ms,frame_ms,update_us,enemies,projectiles,collectibles,pairs_tested,heap_mb";
+
+    private TelemetryReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage : TelemetryReader <telemetry.bin> [sortie.csv]");
+            System.exit(1);
+        }
+
+        Path input = Paths.get(args[0]);
+        Path output = args.length > 1 ? Paths.get(args[1])
+            : input.resolveSibling(input.getFileName().toString().replaceFirst("\\.bin$", "") + ".csv");
+
+        long records = convert(input, output);
+        System.out.println(records + " ticks -> " + output);
+    }
+
+    /**
+     * Convertit le journal en CSV.
+     *
+     * @return le nombre d'enregistrements convertis
+     */
+    public static long convert(Path input, Path output) throws IOException {
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+
+            long size = channel.size();
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, TelemetryWriter.HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != TelemetryWriter.MAGIC) {
+                throw new IOException("Pas un journal de télémétrie : " + input);
+            }
+            int version = header.getInt();
+            if (version != TelemetryWriter.VERSION) {
+                throw new IOException("Version de télémétrie non supportée : " + version);
+            }
+            int recordSize = header.getInt();
+            long count = header.getLong(TelemetryWriter.COUNT_OFFSET);
+
+            // Nombre d'enregistrements borne par la taille reelle du fichier
+            count = Math.min(count, (size - TelemetryWriter.HEADER_SIZE) / recordSize);
+
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+
+            // Lecture par blocs (un mapping est limite a 2 Go)
+            long perChunk = Integer.MAX_VALUE / recordSize;
+            StringBuilder line = new StringBuilder(128);
+            for (long first = 0; first < count; first += perChunk) {
+                long n = Math.min(perChunk, count - first);
+                MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY,
+                    TelemetryWriter.HEADER_SIZE + first * recordSize, n * recordSize);
+                data.order(ByteOrder.LITTLE_ENDIAN);
+
+                for (long i = 0; i < n; i++) {
+                    int base = (int) (i * recordSize);
+                    line.setLength(0);
+                    line.append(data.getLong(base)).append(',')
+                        .append(data.getLong(base + 8) / 1_000_000.0).append(',')
+                        .append(data.getFloat(base + 16) * 1000f).append(',')
+                        .append(data.getInt(base + 20)).append(',')
+                        .append(data.getInt(base + 24)).append(',')
+                        .append(data.getInt(base + 28)).append(',')
+                        .append(data.getInt(base + 32)).append(',')
+                        .append(data.getInt(base + 36)).append(',')
+                        .append(data.getLong(base + 40) / (1024.0 * 1024.0)).append('\n');
+                    writer.append(line);
+                }
+            }
+            return count;
+        }
+    }
+}
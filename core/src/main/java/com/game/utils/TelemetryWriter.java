@@ -0,0 +1,173 @@
+package com.game.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Journal binaire des métriques du jeu, une entrée par tick.
+ *
+ * - Activé au démarrage : -Dgame.telemetry=true
+ *   (fichier : -Dgame.telemetry.file, logs/telemetry.bin par défaut)
+ * - Enregistrements de taille fixe écrits dans un fichier mappé en mémoire :
+ *   un tick coûte quelques écritures mémoire, sans allocation ni appel système
+ * - Le fichier est mappé par segments ; le nombre d'enregistrements est tenu
+ *   à jour dans l'en-tête, le journal reste lisible même après un crash
+ *
+ * Conversion en CSV : {@link TelemetryReader}.
+ *
+ * Format (little-endian) :
+ * <pre>
+ * en-tête (32 octets) : magic "GTEL", version, taille d'enregistrement,
+ *                       réservé, date de début (ms), nombre d'enregistrements
+ * enregistrement (48 octets) : tick, temps depuis le début (ns), delta (s),
+ *                       durée de l'update (µs), ennemis, projectiles,
+ *                       collectibles, paires testées, mémoire utilisée (octets)
+ * </pre>
+ */
+public final class TelemetryWriter {
+
+    /** Journal actif pour cette exécution */
+    public static final boolean ENABLED = Boolean.getBoolean("game.telemetry");
+
+    public static final int MAGIC = 0x4C455447; // "GTEL"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 48;
+
+    /** Position du nombre d'enregistrements dans l'en-tête */
+    static final int COUNT_OFFSET = 24;
+
+    /** Enregistrements par segment mappé (4,5 Mo environ) */
+    private static final int RECORDS_PER_SEGMENT = 100_000;
+
+    private static final String DEFAULT_FILE = "logs/telemetry.bin";
+
+    private final File file;
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final long startNanos;
+    private final Runtime runtime;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private long count;
+
+    private TelemetryWriter(File file) throws IOException {
+        this.file = file;
+        this.raf = new RandomAccessFile(file, "rw");
+        this.raf.setLength(0);
+        this.channel = raf.getChannel();
+        this.runtime = Runtime.getRuntime();
+        this.startNanos = System.nanoTime();
+
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(RECORD_SIZE);
+        header.putInt(0);
+        header.putLong(System.currentTimeMillis());
+        header.putLong(0);
+
+        segmentIndex = -1;
+        mapNextSegment();
+    }
+
+    /**
+     * Ouvre le journal si la télémétrie est activée.
+     *
+     * @return le journal, ou null si désactivé ou en cas d'erreur
+     */
+    public static TelemetryWriter open() {
+        if (!ENABLED) {
+            return null;
+        }
+
+        File file = new File(System.getProperty("game.telemetry.file", DEFAULT_FILE));
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                parent.mkdirs();
+            }
+            TelemetryWriter writer = new TelemetryWriter(file);
+            Log.info("Télémétrie : {}", file.getPath());
+            return writer;
+        } catch (IOException e) {
+            Log.error("Télémétrie désactivée ({})", file.getPath(), e);
+            return null;
+        }
+    }
+
+    private void mapNextSegment() throws IOException {
+        segmentIndex++;
+        long offset = HEADER_SIZE + (long) segmentIndex * RECORDS_PER_SEGMENT * RECORD_SIZE;
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, offset, (long) RECORDS_PER_SEGMENT * RECORD_SIZE);
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Ajoute l'enregistrement d'un tick.
+     *
+     * @param delta Temps de la frame (secondes)
+     * @param updateNanos Durée de l'update du jeu
+     * @param enemies Ennemis en jeu
+     * @param projectiles Projectiles en jeu
+     * @param collectibles Objets à ramasser en jeu
+     * @param pairsTested Paires d'entités testées par les collisions
+     */
+    public void record(float delta, long updateNanos, int enemies, int projectiles,
+                       int collectibles, int pairsTested) {
+        if (!segment.hasRemaining()) {
+            try {
+                mapNextSegment();
+            } catch (IOException e) {
+                Log.error("Télémétrie : segment impossible à mapper", e);
+                return;
+            }
+        }
+
+        segment.putLong(count);
+        segment.putLong(System.nanoTime() - startNanos);
+        segment.putFloat(delta);
+        segment.putInt((int) (updateNanos / 1000));
+        segment.putInt(enemies);
+        segment.putInt(projectiles);
+        segment.putInt(collectibles);
+        segment.putInt(pairsTested);
+        segment.putLong(runtime.totalMemory() - runtime.freeMemory());
+
+        // Publie l'enregistrement (lisible meme si le jeu s'arrete brutalement)
+        count++;
+        header.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Ferme le journal et retire l'espace mappé non utilisé.
+     */
+    public void close() {
+        try {
+            header.force();
+            segment.force();
+            channel.truncate(HEADER_SIZE + count * RECORD_SIZE);
+        } catch (IOException e) {
+            // Certains systemes refusent de tronquer un fichier encore mappe
+            Log.debug("Télémétrie : fichier non tronqué ({})", e.getMessage());
+        }
+
+        try {
+            raf.close();
+        } catch (IOException e) {
+            Log.error("Erreur fermeture télémétrie {}", file.getPath(), e);
+        }
+        Log.info("Télémétrie : {} ticks enregistrés", count);
+    }
+
+    public long getRecordCount() {
+        return count;
+    }
+}
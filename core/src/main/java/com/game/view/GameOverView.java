@@ -11,6 +11,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.game.Main;
 import com.game.model.managers.GameState;
+import com.game.utils.Log;
 
 /**
  * Vue de l'écran Game Over 
@@ -109,16 +110,8 @@ public class GameOverView implements Screen {
 
         // ===== LOG CONSOLE =====
 
-        // Relance une partie sans repasser par le menu
-        System.out.println("========================================");
-        System.out.println(" GAME OVER");
-        // Retour a l'ecran de menu
-        System.out.println("========================================");
-        System.out.println(" STATISTIQUES FINALES :");
-        System.out.println("   • Niveau atteint   : " + finalLevel);
-        System.out.println("   • Coins collectés  : " + finalCoins);
-        System.out.println("   • XP totale        : " + finalExp);
-        System.out.println("========================================");
+        Log.info("GAME OVER - Niveau atteint : {} | Coins collectés : {} | XP totale : {}",
+            finalLevel, finalCoins, finalExp);
     }
 
     @Override
@@ -299,9 +292,7 @@ public class GameOverView implements Screen {
      * Relance une nouvelle partie
      */
     private void retry() {
-        System.out.println("========================================");
-        System.out.println("NOUVELLE PARTIE");
-        System.out.println("========================================");
+        Log.info("NOUVELLE PARTIE");
         game.setScreen(new GameView(game));
         dispose();
     }
@@ -310,9 +301,7 @@ public class GameOverView implements Screen {
      * Retourne au menu principal
      */
     private void goToMenu() {
-        System.out.println("========================================");
-        System.out.println(" RETOUR AU MENU");
-        System.out.println("========================================");
+        Log.info("RETOUR AU MENU");
         game.setScreen(new MenuView(game));
         dispose();
     }
@@ -325,7 +314,7 @@ public class GameOverView implements Screen {
         statsFont.dispose();
         buttonFont.dispose();
         hintFont.dispose();
-        System.out.println("GameOverView disposed");
+        Log.debug("GameOverView disposed");
     }
 
     // Méthodes Screen non utilisées
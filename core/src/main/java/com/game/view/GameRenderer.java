@@ -1,93 +1,217 @@
 package com.game.view;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.game.model.entities.Collectible;
 import com.game.model.entities.Enemy;
-import com.game.model.entities.Projectile;
+import com.game.model.entities.Player;
+import com.game.model.managers.ChunkedMapLoader;
+import com.game.model.factories.ProjectileFactory;
+import com.game.model.factories.ProjectileType;
 import com.game.model.managers.GameState;
+import com.game.model.managers.ProjectileSystem;
 import com.game.model.managers.TiledMapLoader;
+import com.game.utils.Log;
+
+import java.util.List;
 
 /**
  * Gestionnaire de rendu graphique (VIEW)
+ *
+ * Utilise la carte par chunks si le dossier de la carte contient un
+ * world.json, sinon la carte Tiled (.tmx) classique.
  */
 public class GameRenderer {
-    
+
     private OrthographicCamera camera;
     private SpriteBatch batch;
     private TiledMapLoader mapLoader;
+    private ChunkedMapLoader chunkedMap;
     private HUD hud;
-    
-    private static final float MAP_WIDTH = 720f;
-    private static final float MAP_HEIGHT = 720f;
-    
+
+    // Taille de la zone visible (la carte peut etre plus grande)
+    private static final float VIEW_WIDTH = 720f;
+    private static final float VIEW_HEIGHT = 720f;
+
+    private static final String MAP_DIR = "maps/map1";
+
+    // Sprites par lot avant envoi a la carte graphique (maximum de SpriteBatch)
+    private static final int BATCH_SIZE = 8191;
+
+    // Dimensions de la carte chargee en pixels
+    private float mapWidth;
+    private float mapHeight;
+
     public GameRenderer() {
         camera = new OrthographicCamera();
-        camera.setToOrtho(false, MAP_WIDTH, MAP_HEIGHT);
-        camera.position.set(MAP_WIDTH / 2f, MAP_HEIGHT / 2f, 0);
+        camera.setToOrtho(false, VIEW_WIDTH, VIEW_HEIGHT);
+        camera.position.set(VIEW_WIDTH / 2f, VIEW_HEIGHT / 2f, 0);
         camera.update();
-        
-        batch = new SpriteBatch();
+
+        batch = new SpriteBatch(BATCH_SIZE);
         mapLoader = new TiledMapLoader();
-        mapLoader.loadMap("maps/map1/map.tmx");
+        loadMap();
         hud = new HUD();
-        
-        System.out.println(" GameRenderer initialisé");
+
+        Log.debug("GameRenderer initialisé");
     }
-    
+
+    private void loadMap() {
+        // Carte par chunks si disponible
+        String worldPath = MAP_DIR + "/" + ChunkedMapLoader.WORLD_FILE;
+        if (Gdx.files.internal(worldPath).exists()) {
+            chunkedMap = new ChunkedMapLoader();
+            if (chunkedMap.loadMap(worldPath)) {
+                mapWidth = chunkedMap.getWidthInPixels();
+                mapHeight = chunkedMap.getHeightInPixels();
+                return;
+            }
+            chunkedMap.dispose();
+            chunkedMap = null;
+        }
+
+        // Sinon carte Tiled complete
+        mapLoader.loadMap(MAP_DIR + "/map.tmx");
+        mapWidth = mapLoader.getWidthInPixels(VIEW_WIDTH);
+        mapHeight = mapLoader.getHeightInPixels(VIEW_HEIGHT);
+    }
+
+    /**
+     * Met à jour le streaming de la carte autour d'un point (joueur).
+     */
+    public void updateStreaming(float focusX, float focusY) {
+        if (chunkedMap != null) {
+            chunkedMap.update(focusX, focusY);
+        }
+    }
+
     public void render(GameState state) {
+        // 0. Camera sur le joueur (bloquee aux bords de la carte)
+        followPlayer(state.getPlayer());
+
         // 1. Map
-        mapLoader.setView(camera);
-        mapLoader.render();
-        
+        if (chunkedMap != null) {
+            chunkedMap.setView(camera);
+            chunkedMap.render();
+        } else {
+            mapLoader.setView(camera);
+            mapLoader.render();
+        }
+
         // 2. Entités
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        
+
         // Objets ramassables
         for (Collectible collectible : state.getCollectibles()) {
             if (collectible.isActive()) collectible.render(batch);
         }
-        
+
         // Ennemis
         for (Enemy enemy : state.getEnemies()) {
             if (enemy.isActive()) enemy.render(batch);
         }
-        
+
         // Projectiles
-        for (Projectile projectile : state.getProjectiles()) {
-            if (projectile.isActive()) projectile.render(batch);
-        }
-        
+        renderProjectiles(state.getProjectiles());
+
         // Joueur
         if (state.getPlayer() != null && state.getPlayer().isActive()) {
             state.getPlayer().render(batch);
         }
-        
+
         batch.end();
-        
+
         // 3. HUD
         hud.render(state);
     }
-    
+
+    /**
+     * Dessine les projectiles visibles, un type après l'autre : une seule
+     * texture par passe, donc un lot de sprites plein avant chaque envoi
+     * au lieu d'un envoi à chaque changement de texture.
+     */
+    private void renderProjectiles(ProjectileSystem projectiles) {
+        if (projectiles.getActiveCount() == 0) return;
+
+        float left = camera.position.x - camera.viewportWidth / 2f;
+        float right = camera.position.x + camera.viewportWidth / 2f;
+        float bottom = camera.position.y - camera.viewportHeight / 2f;
+        float top = camera.position.y + camera.viewportHeight / 2f;
+
+        List<ProjectileType> types = ProjectileFactory.getTypes();
+        for (int t = 0; t < types.size(); t++) {
+            ProjectileType type = types.get(t);
+            Texture texture = type.getTexture();
+            if (texture == null) continue;
+
+            float width = type.getWidth();
+            float height = type.getHeight();
+            for (int i = 0; i < projectiles.count(); i++) {
+                if (projectiles.getTypeIndex(i) != t || !projectiles.isAlive(i)) continue;
+
+                // Hors de l'ecran : rien a dessiner
+                float x = projectiles.getX(i);
+                float y = projectiles.getY(i);
+                if (x > right || x + width < left || y > top || y + height < bottom) continue;
+
+                batch.draw(texture, x, y, width, height);
+            }
+        }
+    }
+
+    private void followPlayer(Player player) {
+        if (player == null) return;
+
+        // Centre de la camera borne pour ne pas sortir de la carte
+        float halfW = camera.viewportWidth / 2f;
+        float halfH = camera.viewportHeight / 2f;
+        float x = clamp(player.getPosition().x, halfW, Math.max(halfW, mapWidth - halfW));
+        float y = clamp(player.getPosition().y, halfH, Math.max(halfH, mapHeight - halfH));
+
+        camera.position.set(x, y, 0);
+        camera.update();
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return Math.max(min, Math.min(value, max));
+    }
+
     public void resize(int width, int height) {
-        camera.setToOrtho(false, MAP_WIDTH, MAP_HEIGHT);
-        camera.position.set(MAP_WIDTH / 2f, MAP_HEIGHT / 2f, 0);
+        camera.setToOrtho(false, VIEW_WIDTH, VIEW_HEIGHT);
+        camera.position.set(VIEW_WIDTH / 2f, VIEW_HEIGHT / 2f, 0);
         camera.update();
     }
-    
+
     public void dispose() {
         batch.dispose();
         mapLoader.dispose();
+        if (chunkedMap != null) chunkedMap.dispose();
         hud.dispose();
     }
-    
+
     public TiledMapLoader getMapLoader() {
         return mapLoader;
     }
-    
+
+    /**
+     * Retourne la carte par chunks, ou null si la carte est un .tmx classique.
+     */
+    public ChunkedMapLoader getChunkedMap() {
+        return chunkedMap;
+    }
+
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    public float getMapHeight() {
+        return mapHeight;
+    }
+
     public OrthographicCamera getCamera() {
         return camera;
     }
 }
-
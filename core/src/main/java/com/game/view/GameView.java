@@ -6,6 +6,7 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.game.Main;
 import com.game.controller.GameController;
+import com.game.utils.Log;
 
 /**
  * Vue de l'écran de jeu principal.
@@ -20,14 +21,19 @@ public class GameView implements Screen {
     private boolean isPaused;
 
     public GameView(Main game) {
+        this(game, false);
+    }
+
+    /**
+     * @param resume Reprendre la partie sauvegardée
+     */
+    public GameView(Main game, boolean resume) {
         this.game = game;
         // Controleur du jeu (logique et rendu)
-        this.gameController = new GameController();
+        this.gameController = new GameController(resume);
         this.isPaused = false;
 
-        System.out.println("========================================");
-        System.out.println(" DÉBUT DE LA PARTIE");
-        System.out.println("========================================");
+        Log.info(resume ? "REPRISE DE LA PARTIE" : "DÉBUT DE LA PARTIE");
     }
 
     @Override
@@ -62,17 +68,18 @@ public class GameView implements Screen {
             // Inverse l'etat de pause
             isPaused = !isPaused;
             if (isPaused) {
-                System.out.println("JEU EN PAUSE");
+                Log.info("JEU EN PAUSE");
             } else {
-                System.out.println(" JEU REPRIS");
+                Log.info("JEU REPRIS");
             }
         }
 
         // Retour au menu
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
-            System.out.println("========================================");
-            System.out.println("RETOUR AU MENU");
-            System.out.println("========================================");
+            Log.info("RETOUR AU MENU");
+
+            // Sauvegarde pour reprendre depuis le menu
+            gameController.save();
 
             // Retourner au menu principal
             game.setScreen(new MenuView(game));
@@ -87,9 +94,10 @@ public class GameView implements Screen {
             gameController.getGameState().getPlayer() != null) {
 
             if (!gameController.getGameState().getPlayer().isActive()) {
-                System.out.println("========================================");
-                System.out.println("💀 GAME OVER");
-                System.out.println("========================================");
+                Log.info("GAME OVER");
+
+                // Partie terminee : plus rien a reprendre
+                gameController.deleteSave();
 
                 // Passer à la vue Game Over
                 game.setScreen(new GameOverView(game, gameController.getGameState()));
@@ -110,7 +118,7 @@ public class GameView implements Screen {
         if (gameController != null) {
             gameController.dispose();
         }
-        System.out.println("✓ GameView disposed");
+        Log.debug("GameView disposed");
     }
 
     // Méthodes Screen non utilisées
@@ -120,6 +128,8 @@ public class GameView implements Screen {
     @Override
     public void pause() {
         isPaused = true;
+        // Fenetre reduite ou fermee : sauvegarde immediate
+        gameController.save();
     }
 
     @Override
@@ -10,6 +10,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.game.Main;
+import com.game.model.managers.SaveManager;
+import com.game.utils.Log;
 
 /**
  * Vue de l'écran de menu principal.
@@ -26,6 +28,9 @@ public class MenuView implements Screen {
     
     private Rectangle playButton;
     private boolean isPlayHovered;
+
+    // Une partie sauvegardee peut etre reprise
+    private boolean canContinue;
     
     public MenuView(Main game) {
         this.game = game;
@@ -53,8 +58,9 @@ public class MenuView implements Screen {
         );
         
         isPlayHovered = false;
+        canContinue = SaveManager.saveExists();
         
-        System.out.println("Vue de menu initialisée");
+        Log.debug("Vue de menu initialisée");
     }
     
     @Override
@@ -101,6 +107,15 @@ public class MenuView implements Screen {
                 playButton.y + 55);
         }
         
+        // Reprise de la partie sauvegardee
+        if (canContinue) {
+            infoFont.setColor(Color.GREEN);
+            infoFont.getData().setScale(1.2f);
+            infoFont.draw(batch, "[C] Continuer la partie",
+                Gdx.graphics.getWidth() / 2 - 110,
+                playButton.y - 20);
+        }
+        
         // Instructions
         infoFont.setColor(Color.LIGHT_GRAY);
         infoFont.getData().setScale(1f);
@@ -156,6 +171,12 @@ public class MenuView implements Screen {
             startGame();
         }
         
+        // Touche C pour reprendre la sauvegarde
+        if (canContinue && Gdx.input.isKeyJustPressed(Input.Keys.C)) {
+            continueGame();
+            return;
+        }
+        
         // ESC pour quitter
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             Gdx.app.exit();
@@ -164,18 +185,25 @@ public class MenuView implements Screen {
     
     private void startGame() {
         // Basculer vers l'ecran de jeu
-        System.out.println("🎮 Lancement du jeu...");
+        Log.info("Lancement du jeu...");
         game.setScreen(new GameView(game));
         dispose();
     }
     
+    private void continueGame() {
+        // Reprendre la partie sauvegardee
+        Log.info("Reprise de la partie...");
+        game.setScreen(new GameView(game, true));
+        dispose();
+    }
+    
     @Override
     public void dispose() {
         batch.dispose();
         titleFont.dispose();
         buttonFont.dispose();
         infoFont.dispose();
-        System.out.println("✓ MenuView disposed");
+        Log.debug("MenuView disposed");
     }
     
     // Méthodes Screen non utilisées